@@ -0,0 +1,60 @@
+package kr.go.hai.s3storage.service.impl;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/**
+ * 본문을 버리는 응답 (전송 크기만 집계)
+ * 측정 대상 외의 메모리 할당(본문 버퍼링)을 제외하기 위해 사용한다.
+ *
+ * @author AX사업팀
+ * @version 1.0
+ * @since 2026.10.17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *   수정일        수정자            수정내용
+ * ----------    --------    ---------------------------
+ * 2026.10.17    양정숙        최초 생성
+ * </pre>
+ */
+class DiscardingHttpServletResponse extends MockHttpServletResponse {
+
+    private long written;
+
+    private final ServletOutputStream outputStream = new ServletOutputStream() {
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void write(int b) {
+            written++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            written += len;
+        }
+    };
+
+    @Override
+    public ServletOutputStream getOutputStream() {
+        return outputStream;
+    }
+
+    /**
+     * @return 전송한 본문 크기
+     */
+    long getWritten() {
+        return written;
+    }
+}
@@ -0,0 +1,104 @@
+package kr.go.hai.s3storage.service.impl;
+
+import kr.go.hai.s3storage.service.impl.vo.S3VO;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockHttpServletResponse;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 파일 키/prefix 생성, 응답 헤더 세팅, 목록 변환 성능 측정
+ *
+ * @author AX사업팀
+ * @version 1.0
+ * @since 2026.10.17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *   수정일        수정자            수정내용
+ * ----------    --------    ---------------------------
+ * 2026.10.17    양정숙        최초 생성
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class S3ServiceBenchmark {
+
+    private static final String INST_CD = "1234567";
+
+    private S3ServiceImpl s3Service;
+    private MockHttpServletResponse response;
+    private S3Object s3Object;
+
+    @Setup
+    public void setup() {
+        s3Service = S3ServiceFixture.create(S3ServiceFixture.s3Info(), new InMemoryS3Client());
+        response = new MockHttpServletResponse();
+        s3Object = S3Object.builder()
+                .key(INST_CD + "/2026/10/17/0f8fad5b-d9cb-469f-a165-70867728950e/보고서 2026.pdf")
+                .size(1024L)
+                .eTag("\"9b2cf535f27731c974343645a3985328\"")
+                .lastModified(Instant.now())
+                .build();
+    }
+
+    @Benchmark
+    public String getUploadFileKey() {
+        return s3Service.getUploadFileKey(INST_CD, "보고서 2026.pdf");
+    }
+
+    @Benchmark
+    public void buildPrefix(Blackhole blackhole) {
+        blackhole.consume(s3Service.buildPrefix(INST_CD, "2026"));
+        blackhole.consume(s3Service.buildPrefix(INST_CD, "202610"));
+        blackhole.consume(s3Service.buildPrefix(INST_CD, "20261017"));
+    }
+
+    @Benchmark
+    public MockHttpServletResponse setResponse() {
+        response.reset();
+        s3Service.setResponse(response, "보고서 (최종) 2026.pdf", "application/pdf", 1024L);
+        return response;
+    }
+
+    @Benchmark
+    public S3VO toS3VO() {
+        return s3Service.toS3VO(s3Object);
+    }
+
+    /**
+     * 목록 조회 (S3 페이지 순회 + S3VO 변환)
+     */
+    @State(Scope.Thread)
+    public static class ListState {
+        @Param({"100", "1000", "10000"})
+        public int objectCount;
+
+        S3ServiceImpl s3Service;
+
+        @Setup
+        public void setup() {
+            InMemoryS3Client s3Client = new InMemoryS3Client();
+            byte[] data = new byte[0];
+            for (int i = 0; i < objectCount; i++) {
+                s3Client.put(String.format("%s/2026/10/17/%08d/file.txt", INST_CD, i), "text/plain", data);
+            }
+            s3Service = S3ServiceFixture.create(S3ServiceFixture.s3Info(), s3Client);
+        }
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public List<S3VO> listObject(ListState state) {
+        return state.s3Service.listObject(INST_CD, "20261017");
+    }
+}
@@ -0,0 +1,77 @@
+package kr.go.hai.s3storage.service.impl;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ZIP 다운로드 성능 측정 (파일 수, 파일 크기, 압축 여부별)
+ * 처리량은 초당 ZIP 요청 수이며, -prof gc 로 요청당 메모리 할당량을 함께 확인한다.
+ *
+ * @author AX사업팀
+ * @version 1.0
+ * @since 2026.10.17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *   수정일        수정자            수정내용
+ * ----------    --------    ---------------------------
+ * 2026.10.17    양정숙        최초 생성
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class S3ZipBenchmark {
+
+    private static final String INST_CD = "1234567";
+
+    @Param({"10", "100"})
+    public int entryCount;
+
+    @Param({"4096", "1048576"})
+    public int entrySize;
+
+    /** txt : DEFLATED, jpg : STORED */
+    @Param({"txt", "jpg"})
+    public String extension;
+
+    private S3ServiceImpl s3Service;
+    private String[] fileKeyList;
+
+    @Setup
+    public void setup() {
+        InMemoryS3Client s3Client = new InMemoryS3Client();
+        Random random = new Random(0);
+
+        fileKeyList = new String[entryCount];
+        for (int i = 0; i < entryCount; i++) {
+            byte[] data = new byte[entrySize];
+            if ("txt".equals(extension)) {
+                // 압축되는 데이터 (반복되는 문자열)
+                for (int j = 0; j < data.length; j++) {
+                    data[j] = (byte) ('a' + (j % 26));
+                }
+            } else {
+                random.nextBytes(data);
+            }
+
+            fileKeyList[i] = String.format("%s/2026/10/17/%08d/file-%d.%s", INST_CD, i, i, extension);
+            s3Client.put(fileKeyList[i], "txt".equals(extension) ? "text/plain" : "image/jpeg", data);
+        }
+
+        s3Service = S3ServiceFixture.create(S3ServiceFixture.s3Info(), s3Client);
+    }
+
+    @Benchmark
+    public long downloadZip() {
+        DiscardingHttpServletResponse response = new DiscardingHttpServletResponse();
+        s3Service.downloadZip(response, fileKeyList);
+        return response.getWritten();
+    }
+}
@@ -0,0 +1,86 @@
+package kr.go.hai.s3storage.loadtest;
+
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 옵션 (--이름=값)
+ * <pre>
+ * --concurrency=32                      동시 요청 수
+ * --duration=30s                        측정 시간
+ * --warmup=5s                           예열 시간 (집계 제외)
+ * --mix=upload:20,download:60,zip:20    요청 비율
+ * --sizes=4KB:70,1MB:25,32MB:5          파일 크기 비율
+ * --preload=200                         사전 업로드 파일 수 (다운로드/ZIP 대상)
+ * --zip-entries=10                      ZIP 요청 1건당 파일 수
+ * --label=baseline                      결과 구분 (results.csv)
+ * --out=build/loadtest/results.csv      결과 누적 파일
+ * </pre>
+ *
+ * @author AX사업팀
+ * @version 1.0
+ * @since 2026.10.17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *   수정일        수정자            수정내용
+ * ----------    --------    ---------------------------
+ * 2026.10.17    양정숙        최초 생성
+ * </pre>
+ */
+record LoadTestOptions(int concurrency, Duration duration, Duration warmup,
+                       Map<Operation, Integer> mix, Map<Long, Integer> sizes,
+                       int preload, int zipEntries, String label, String out) {
+
+    /**
+     * 요청 종류
+     */
+    enum Operation {
+        UPLOAD, DOWNLOAD, ZIP
+    }
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new LinkedHashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                values.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            }
+        }
+
+        Map<Operation, Integer> mix = new LinkedHashMap<>();
+        weights(values.getOrDefault("mix", "upload:20,download:60,zip:20"))
+                .forEach((name, weight) -> mix.put(Operation.valueOf(name.toUpperCase()), weight));
+
+        Map<Long, Integer> sizes = new LinkedHashMap<>();
+        weights(values.getOrDefault("sizes", "4KB:70,1MB:25,32MB:5"))
+                .forEach((size, weight) -> sizes.put(DataSize.parse(size).toBytes(), weight));
+
+        return new LoadTestOptions(
+                Integer.parseInt(values.getOrDefault("concurrency", "32")),
+                duration(values.getOrDefault("duration", "30s")),
+                duration(values.getOrDefault("warmup", "5s")),
+                mix,
+                sizes,
+                Integer.parseInt(values.getOrDefault("preload", "200")),
+                Integer.parseInt(values.getOrDefault("zip-entries", "10")),
+                values.getOrDefault("label", "run"),
+                values.getOrDefault("out", "build/loadtest/results.csv"));
+    }
+
+    private static Map<String, Integer> weights(String value) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (String item : value.split(",")) {
+            String[] pair = item.trim().split(":", 2);
+            weights.put(pair[0], pair.length > 1 ? Integer.parseInt(pair[1]) : 1);
+        }
+        return weights;
+    }
+
+    private static Duration duration(String value) {
+        return Duration.parse("PT" + value.toUpperCase());
+    }
+}
@@ -0,0 +1,53 @@
+package kr.go.hai.s3storage.loadtest;
+
+import kr.go.hai.s3storage.service.impl.InMemoryS3Client;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.net.URI;
+
+/**
+ * 부하 테스트용 S3 클라이언트 (메모리 저장소)
+ * Component Scan 대상이 되지 않도록 @Configuration 없이 실행 시 직접 등록한다.
+ * 운영 스토리지를 호출하지 않도록 S3Client는 메모리 저장소로, S3Presigner는 로컬 주소와 테스트 인증정보로 대체하며,
+ * S3AsyncClient는 s3.async.enabled=false로 등록하지 않는다. (S3LoadTestServer 참고)
+ *
+ * @author AX사업팀
+ * @version 1.0
+ * @since 2026.10.17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *   수정일        수정자            수정내용
+ * ----------    --------    ---------------------------
+ * 2026.10.17    양정숙        최초 생성
+ * </pre>
+ */
+public class LoadTestS3Config {
+
+    @Bean(destroyMethod = "close")
+    @Primary
+    public S3Client loadTestS3Client() {
+        return new InMemoryS3Client();
+    }
+
+    @Bean(destroyMethod = "close")
+    @Primary
+    public S3Presigner loadTestS3Presigner() {
+        return S3Presigner.builder()
+                .region(Region.AP_NORTHEAST_2)
+                .endpointOverride(URI.create("http://localhost"))
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("loadtest", "loadtest")))
+                .serviceConfiguration(S3Configuration.builder()
+                        .pathStyleAccessEnabled(true)
+                        .build())
+                .build();
+    }
+}
@@ -0,0 +1,371 @@
+package kr.go.hai.s3storage.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.go.hai.s3storage.loadtest.LoadTestOptions.Operation;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 업로드/다운로드/ZIP API 처리량 부하 테스트
+ * 메모리 S3Client로 애플리케이션(S3LoadTestServer)을 별도 프로세스로 실행한 뒤 /v1/s3storage/* 를 설정한 동시성과 파일 크기 비율로 호출하고,
+ * 요청 종류별 처리량(req/s, MB/s), 지연 시간(p50, p99), 애플리케이션의 Heap/GC 사용량을 출력한다.
+ * 애플리케이션 Heap은 -PloadTestHeap (기본 2g), 부하 생성기 Heap은 -PloadTestDriverHeap (기본 2g)으로 지정한다.
+ * <pre>
+ * gradle loadTest -PloadTestArgs="--concurrency=64 --duration=60s --sizes=64KB:80,8MB:20 --label=after"
+ * </pre>
+ *
+ * @author AX사업팀
+ * @version 1.0
+ * @since 2026.10.17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *   수정일        수정자            수정내용
+ * ----------    --------    ---------------------------
+ * 2026.10.17    양정숙        최초 생성
+ * </pre>
+ */
+public class S3LoadTest {
+
+    private static final String INST_CD = "LOADTST";
+
+    private final LoadTestOptions options;
+    private final URI baseUri;
+    private final ExecutorService httpExecutor;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    /** 크기별 업로드 데이터 (요청마다 재사용) */
+    private final Map<Long, byte[]> payloads = new HashMap<>();
+    /** 다운로드/ZIP 대상 파일 키 */
+    private final List<String> fileKeys = new CopyOnWriteArrayList<>();
+    private final AtomicInteger fileSeq = new AtomicInteger();
+
+    private final Map<Operation, Stats> stats = new EnumMap<>(Operation.class);
+
+    S3LoadTest(LoadTestOptions options, int port) {
+        this.options = options;
+        this.baseUri = URI.create("http://localhost:" + port);
+        this.httpExecutor = Executors.newFixedThreadPool(Math.max(4, options.concurrency()));
+        this.httpClient = HttpClient.newBuilder().executor(httpExecutor).build();
+
+        Random random = new Random(0);
+        for (long size : options.sizes().keySet()) {
+            byte[] data = new byte[Math.toIntExact(size)];
+            random.nextBytes(data);
+            payloads.put(size, data);
+        }
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new Stats());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+
+        try (Server server = Server.start(System.getProperty("loadTest.serverHeap", "2g"))) {
+            new S3LoadTest(options, server.port).run(System.out, server);
+        }
+    }
+
+    void run(PrintStream out, Server server) throws Exception {
+        out.printf("사전 업로드 %d건%n", options.preload());
+        for (int i = 0; i < options.preload(); i++) {
+            fileKeys.add(upload(pick(options.sizes())));
+        }
+
+        out.printf("예열 %s%n", options.warmup());
+        drive(options.warmup());
+        stats.values().forEach(Stats::reset);
+
+        GcSnapshot before = server.gcSnapshot();
+        out.printf("측정 %s (동시 요청 %d)%n", options.duration(), options.concurrency());
+        long startNanos = System.nanoTime();
+        drive(options.duration());
+        double seconds = (System.nanoTime() - startNanos) / 1e9;
+        GcSnapshot after = server.gcSnapshot();
+
+        report(out, seconds, before, after);
+        httpExecutor.shutdownNow();
+    }
+
+    /**
+     * 설정한 시간 동안 동시 요청 수만큼 작업자를 실행
+     * @param duration 실행 시간
+     */
+    private void drive(Duration duration) throws InterruptedException {
+        long deadline = System.nanoTime() + duration.toNanos();
+        ExecutorService workers = Executors.newFixedThreadPool(options.concurrency());
+
+        for (int i = 0; i < options.concurrency(); i++) {
+            workers.execute(() -> {
+                while (System.nanoTime() < deadline) {
+                    execute(pick(options.mix()));
+                }
+            });
+        }
+
+        workers.shutdown();
+        if (!workers.awaitTermination(duration.toSeconds() + 300, TimeUnit.SECONDS)) {
+            workers.shutdownNow();
+        }
+    }
+
+    private void execute(Operation operation) {
+        Stats stat = stats.get(operation);
+        long start = System.nanoTime();
+        try {
+            long bytes = switch (operation) {
+                case UPLOAD -> {
+                    long size = pick(options.sizes());
+                    fileKeys.add(upload(size));
+                    yield size;
+                }
+                case DOWNLOAD -> download();
+                case ZIP -> downloadZip();
+            };
+            stat.record(System.nanoTime() - start, bytes);
+        } catch (IOException | RuntimeException e) {
+            stat.errors.increment();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private String upload(long size) throws IOException, InterruptedException {
+        String filename = "file-" + fileSeq.incrementAndGet() + ".bin";
+        HttpRequest request = HttpRequest.newBuilder(uri("/v1/s3storage/upload-stream?instCd=" + INST_CD + "&filename=" + filename))
+                .header("Content-Type", "application/octet-stream")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(payloads.get(size)))
+                .build();
+
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        check(response.statusCode());
+
+        JsonNode body = objectMapper.readTree(response.body());
+        return body.path("resultData").asText();
+    }
+
+    private long download() throws IOException, InterruptedException {
+        String fileKey = fileKeys.get(ThreadLocalRandom.current().nextInt(fileKeys.size()));
+        HttpRequest request = HttpRequest.newBuilder(uri("/v1/s3storage/download?fileKey=" + encode(fileKey))).GET().build();
+        return drain(httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream()));
+    }
+
+    private long downloadZip() throws IOException, InterruptedException {
+        StringBuilder query = new StringBuilder();
+        ThreadLocalRandom.current().ints(0, fileKeys.size())
+                .distinct()
+                .limit(Math.min(options.zipEntries(), fileKeys.size()))
+                .forEach(i -> query.append(query.isEmpty() ? "?" : "&").append("fileKeyList=").append(encode(fileKeys.get(i))));
+
+        HttpRequest request = HttpRequest.newBuilder(uri("/v1/s3storage/download-zip" + query)).GET().build();
+        return drain(httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream()));
+    }
+
+    private long drain(HttpResponse<InputStream> response) throws IOException {
+        try (InputStream in = response.body()) {
+            long bytes = in.transferTo(OutputStream.nullOutputStream());
+            check(response.statusCode());
+            return bytes;
+        }
+    }
+
+    private void check(int statusCode) throws IOException {
+        if (statusCode >= 400) {
+            throw new IOException("HTTP " + statusCode);
+        }
+    }
+
+    private void report(PrintStream out, double seconds, GcSnapshot before, GcSnapshot after) throws IOException {
+        out.println();
+        out.printf("%-10s %10s %8s %10s %10s %10s %10s %10s%n", "operation", "requests", "errors", "req/s", "MB/s", "p50(ms)", "p99(ms)", "max(ms)");
+
+        List<String> csv = new ArrayList<>();
+        for (Map.Entry<Operation, Stats> entry : stats.entrySet()) {
+            Stats stat = entry.getValue();
+            Histogram histogram = stat.latency;
+            long count = histogram.getTotalCount();
+            if (count == 0 && stat.errors.sum() == 0) {
+                continue;
+            }
+
+            double rps = count / seconds;
+            double mbps = stat.bytes.sum() / seconds / (1024 * 1024);
+            double p50 = histogram.getValueAtPercentile(50) / 1e6;
+            double p99 = histogram.getValueAtPercentile(99) / 1e6;
+            double max = histogram.getMaxValue() / 1e6;
+
+            out.printf("%-10s %10d %8d %10.1f %10.1f %10.2f %10.2f %10.2f%n",
+                    entry.getKey(), count, stat.errors.sum(), rps, mbps, p50, p99, max);
+            csv.add(String.format(Locale.ROOT, "%s,%s,%s,%d,%d,%d,%.1f,%.2f,%.3f,%.3f,%.3f,%d,%d,%d",
+                    LocalDateTime.now(), options.label(), entry.getKey(), options.concurrency(), count, stat.errors.sum(),
+                    rps, mbps, p50, p99, max, after.gcCount - before.gcCount, after.gcMillis - before.gcMillis, after.heapPeak / (1024 * 1024)));
+        }
+
+        out.println();
+        out.printf("GC %d회, %dms (%.1f%%), Heap 최대 사용 %dMB%n",
+                after.gcCount - before.gcCount,
+                after.gcMillis - before.gcMillis,
+                (after.gcMillis - before.gcMillis) / (seconds * 10),
+                after.heapPeak / (1024 * 1024));
+
+        Path path = Path.of(options.out());
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        if (!Files.exists(path)) {
+            Files.writeString(path, "time,label,operation,concurrency,requests,errors,rps,mbps,p50_ms,p99_ms,max_ms,gc_count,gc_ms,heap_peak_mb\n");
+        }
+        Files.write(path, csv, StandardOpenOption.APPEND);
+        out.printf("결과 저장 : %s%n", path.toAbsolutePath());
+    }
+
+    private <T> T pick(Map<T, Integer> weights) {
+        int total = weights.values().stream().mapToInt(Integer::intValue).sum();
+        int value = ThreadLocalRandom.current().nextInt(total);
+        for (Map.Entry<T, Integer> entry : weights.entrySet()) {
+            value -= entry.getValue();
+            if (value < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException();
+    }
+
+    private URI uri(String path) {
+        return baseUri.resolve(path);
+    }
+
+    private String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 요청 종류별 집계
+     */
+    private static final class Stats {
+        private final Histogram latency = new ConcurrentHistogram(TimeUnit.MINUTES.toNanos(10), 3);
+        private final LongAdder bytes = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+
+        void record(long nanos, long size) {
+            latency.recordValue(Math.min(nanos, latency.getHighestTrackableValue()));
+            bytes.add(size);
+        }
+
+        void reset() {
+            latency.reset();
+            bytes.reset();
+            errors.reset();
+        }
+    }
+
+    /**
+     * 애플리케이션 GC 횟수/시간, Heap 최대 사용량
+     */
+    private record GcSnapshot(long gcCount, long gcMillis, long heapPeak) {
+    }
+
+    /**
+     * 별도 프로세스로 실행한 애플리케이션 (S3LoadTestServer)
+     * 표준 출력 중 응답("PORT", "GC")만 큐로 전달하고 나머지 로그는 표준 에러로 넘긴다.
+     */
+    private static final class Server implements AutoCloseable {
+        private final Process process;
+        private final Writer commands;
+        private final BlockingQueue<String> replies = new LinkedBlockingQueue<>();
+        private final int port;
+
+        private Server(Process process) throws IOException, InterruptedException {
+            this.process = process;
+            this.commands = process.outputWriter(StandardCharsets.UTF_8);
+
+            Thread reader = new Thread(this::readOutput, "load-test-server-output");
+            reader.setDaemon(true);
+            reader.start();
+
+            this.port = Integer.parseInt(reply("PORT "));
+        }
+
+        static Server start(String heap) throws IOException, InterruptedException {
+            Path java = Path.of(System.getProperty("java.home"), "bin", "java");
+            Process process = new ProcessBuilder(java.toString(), "-Xmx" + heap, "-Dstdout.encoding=UTF-8",
+                    "-cp", System.getProperty("java.class.path"), S3LoadTestServer.class.getName())
+                    .redirectError(ProcessBuilder.Redirect.INHERIT)
+                    .start();
+            return new Server(process);
+        }
+
+        GcSnapshot gcSnapshot() throws IOException, InterruptedException {
+            commands.write("gc\n");
+            commands.flush();
+
+            String[] values = reply("GC ").split(" ");
+            return new GcSnapshot(Long.parseLong(values[0]), Long.parseLong(values[1]), Long.parseLong(values[2]));
+        }
+
+        private void readOutput() {
+            try (BufferedReader in = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = in.readLine()) != null) {
+                    if (line.startsWith("PORT ") || line.startsWith("GC ")) {
+                        replies.add(line);
+                    } else {
+                        System.err.println(line);
+                    }
+                }
+            } catch (IOException e) {
+                // 프로세스 종료
+            }
+        }
+
+        private String reply(String prefix) throws IOException, InterruptedException {
+            while (true) {
+                String line = replies.poll(1, TimeUnit.SECONDS);
+                if (line != null && line.startsWith(prefix)) {
+                    return line.substring(prefix.length());
+                }
+                if (line == null && !process.isAlive()) {
+                    throw new IOException("부하 테스트 대상 애플리케이션 종료 (exit " + process.exitValue() + ")");
+                }
+            }
+        }
+
+        @Override
+        public void close() throws InterruptedException {
+            try {
+                commands.write("stop\n");
+                commands.close();
+            } catch (IOException e) {
+                // 이미 종료된 경우
+            }
+            if (!process.waitFor(60, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package kr.go.hai.s3storage.loadtest;
+
+import kr.go.hai.StartApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 부하 테스트 대상 애플리케이션 (S3LoadTest가 별도 프로세스로 실행)
+ * 부하 생성기와 JVM을 분리하여 GC/Heap 수치가 애플리케이션만의 값이 되도록 한다.
+ * 기동 후 표준 출력으로 "PORT {포트}"를 알리고, 표준 입력 명령에 응답한다.
+ * <ul>
+ *     <li>gc : "GC {GC 횟수} {GC 시간(ms)} {Heap 최대 사용량}" 출력 후 Heap 최대 사용량 초기화</li>
+ *     <li>stop 또는 입력 종료 : 애플리케이션 종료</li>
+ * </ul>
+ *
+ * @author AX사업팀
+ * @version 1.0
+ * @since 2026.10.17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *   수정일        수정자            수정내용
+ * ----------    --------    ---------------------------
+ * 2026.10.17    양정숙        최초 생성
+ * </pre>
+ */
+public class S3LoadTestServer {
+
+    public static void main(String[] args) throws Exception {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(StartApplication.class, LoadTestS3Config.class)
+                .properties(
+                        "server.port=0",
+                        "spring.cloud.config.enabled=false",
+                        "s3.async.enabled=false",
+                        "s3.index.enabled=false",
+                        "s3.index.reconcile-cron=-",
+                        "s3.multipart.stale-cleanup-cron=-",
+                        "logging.level.root=WARN")
+                .run(args);
+
+        try (BufferedReader in = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8))) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            System.out.println("PORT " + port);
+            System.out.flush();
+
+            String command;
+            while ((command = in.readLine()) != null && !"stop".equals(command.trim())) {
+                if ("gc".equals(command.trim())) {
+                    System.out.println(gcSnapshot());
+                    System.out.flush();
+                }
+            }
+        } finally {
+            context.close();
+        }
+    }
+
+    /**
+     * GC 횟수/시간, Heap 최대 사용량 (측정 구간별 최대값을 위해 조회 후 초기화)
+     * @return "GC {횟수} {시간(ms)} {Heap 최대 사용량}"
+     */
+    private static String gcSnapshot() {
+        long count = 0;
+        long millis = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(0, gc.getCollectionCount());
+            millis += Math.max(0, gc.getCollectionTime());
+        }
+
+        long peak = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                peak += pool.getPeakUsage().getUsed();
+                pool.resetPeakUsage();
+            }
+        }
+        return "GC " + count + " " + millis + " " + peak;
+    }
+}
@@ -0,0 +1,56 @@
+package kr.go.hai.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.go.hai.s3storage.service.impl.S3Metrics;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+/**
+ * S3 오류 지표 (s3.errors)
+ * SDK 호출 실패를 S3 오류 코드(NoSuchKey, SlowDown 등), 기능, 기관코드별로 집계한다.
+ * S3 응답이 없는 오류(연결 실패, 제한 시간 초과 등)는 예외 클래스명으로 기록한다.
+ *
+ * @author AX사업팀
+ * @version 1.0
+ * @since 2026.10.17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *   수정일        수정자            수정내용
+ * ----------    --------    ---------------------------
+ * 2026.10.17    양정숙        최초 생성
+ * </pre>
+ */
+public class S3ErrorMetricInterceptor implements ExecutionInterceptor {
+
+    private final MeterRegistry meterRegistry;
+
+    public S3ErrorMetricInterceptor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void onExecutionFailure(Context.FailedExecution context, ExecutionAttributes executionAttributes) {
+        Throwable e = context.exception();
+        String code = e instanceof S3Exception s3Exception && s3Exception.awsErrorDetails() != null
+                && s3Exception.awsErrorDetails().errorCode() != null
+                ? s3Exception.awsErrorDetails().errorCode()
+                : e.getClass().getSimpleName();
+        String fileKey = context.request().getValueForField("Key", String.class)
+                .or(() -> context.request().getValueForField("Prefix", String.class))
+                .orElse(null);
+
+        Counter.builder("s3.errors")
+                .description("S3 호출 오류")
+                .tag("operation", String.valueOf(executionAttributes.getAttribute(SdkExecutionAttribute.OPERATION_NAME)))
+                .tag("code", code)
+                .tag("instCd", S3Metrics.instCdOf(fileKey))
+                .register(meterRegistry)
+                .increment();
+    }
+}
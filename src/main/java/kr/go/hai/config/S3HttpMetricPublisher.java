@@ -0,0 +1,100 @@
+package kr.go.hai.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricPublisher;
+import software.amazon.awssdk.metrics.SdkMetric;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * S3 HTTP 연결 풀 지표 수집
+ * SDK가 요청마다 보고하는 연결 풀 상태를 Micrometer 지표로 등록한다.
+ * - s3.http.pool.leased : 사용 중인 연결 수
+ * - s3.http.pool.pending : 연결을 기다리는 요청 수
+ * - s3.http.pool.available : 유휴 연결 수
+ * - s3.http.pool.max : 최대 연결 수
+ * - s3.http.pool.acquire : 연결 획득 대기 시간
+ * 게이지는 마지막 요청 시점의 값이다.
+ *
+ * @author AX사업팀
+ * @version 1.0
+ * @since 2026.10.17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *   수정일        수정자            수정내용
+ * ----------    --------    ---------------------------
+ * 2026.10.17    양정숙        최초 생성
+ * </pre>
+ */
+public class S3HttpMetricPublisher implements MetricPublisher {
+
+    private final AtomicInteger leased = new AtomicInteger();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicInteger available = new AtomicInteger();
+    private final AtomicInteger max = new AtomicInteger();
+    private final Timer acquire;
+
+    /**
+     * @param meterRegistry 지표 저장소
+     * @param client 구분 태그 (sync, async)
+     */
+    public S3HttpMetricPublisher(MeterRegistry meterRegistry, String client) {
+        gauge(meterRegistry, "s3.http.pool.leased", client, leased);
+        gauge(meterRegistry, "s3.http.pool.pending", client, pending);
+        gauge(meterRegistry, "s3.http.pool.available", client, available);
+        gauge(meterRegistry, "s3.http.pool.max", client, max);
+
+        this.acquire = Timer.builder("s3.http.pool.acquire")
+                .description("S3 HTTP 연결 획득 대기 시간")
+                .tag("client", client)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void publish(MetricCollection metricCollection) {
+        collect(metricCollection);
+    }
+
+    /**
+     * 요청 지표(ApiCall → ApiCallAttempt → HttpClient)에서 연결 풀 지표 추출
+     * @param metricCollection 지표 묶음
+     */
+    private void collect(MetricCollection metricCollection) {
+        update(metricCollection, HttpMetric.LEASED_CONCURRENCY, leased);
+        update(metricCollection, HttpMetric.PENDING_CONCURRENCY_ACQUIRES, pending);
+        update(metricCollection, HttpMetric.AVAILABLE_CONCURRENCY, available);
+        update(metricCollection, HttpMetric.MAX_CONCURRENCY, max);
+
+        for (Duration duration : metricCollection.metricValues(HttpMetric.CONCURRENCY_ACQUIRE_DURATION)) {
+            acquire.record(duration);
+        }
+
+        metricCollection.children().forEach(this::collect);
+    }
+
+    private void update(MetricCollection metricCollection, SdkMetric<Integer> metric, AtomicInteger target) {
+        List<Integer> values = metricCollection.metricValues(metric);
+        if (!values.isEmpty()) {
+            target.set(values.get(values.size() - 1));
+        }
+    }
+
+    private void gauge(MeterRegistry meterRegistry, String name, String client, AtomicInteger value) {
+        Gauge.builder(name, value, AtomicInteger::get)
+                .tag("client", client)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void close() {
+        // 등록된 지표는 MeterRegistry가 관리
+    }
+}
@@ -0,0 +1,55 @@
+package kr.go.hai.config;
+
+import kr.go.hai.s3storage.service.impl.S3ConcurrencyLimiter;
+import org.springframework.http.HttpStatus;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+
+/**
+ * S3 응답 시간 수집 (동시 처리 한도 조정)
+ * 재시도를 포함하지 않은 호출 1회의 요청 전송부터 응답 헤더 수신까지의 시간을 전달하여 파일 크기와 무관하게 비교한다.
+ * S3 처리량 제한(503) 응답은 응답 시간 대신 한도 감소로 반영한다.
+ *
+ * @author AX사업팀
+ * @version 1.0
+ * @since 2026.10.17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *   수정일        수정자            수정내용
+ * ----------    --------    ---------------------------
+ * 2026.10.17    양정숙        최초 생성
+ * </pre>
+ */
+public class S3LatencyInterceptor implements ExecutionInterceptor {
+
+    private static final ExecutionAttribute<Long> TRANSMISSION_START = new ExecutionAttribute<>("S3LatencyTransmissionStart");
+
+    private final S3ConcurrencyLimiter s3ConcurrencyLimiter;
+
+    public S3LatencyInterceptor(S3ConcurrencyLimiter s3ConcurrencyLimiter) {
+        this.s3ConcurrencyLimiter = s3ConcurrencyLimiter;
+    }
+
+    @Override
+    public void beforeTransmission(Context.BeforeTransmission context, ExecutionAttributes executionAttributes) {
+        executionAttributes.putAttribute(TRANSMISSION_START, System.nanoTime());
+    }
+
+    @Override
+    public void afterTransmission(Context.AfterTransmission context, ExecutionAttributes executionAttributes) {
+        Long start = executionAttributes.getAttribute(TRANSMISSION_START);
+        if (start == null) {
+            return;
+        }
+
+        if (context.httpResponse().statusCode() == HttpStatus.SERVICE_UNAVAILABLE.value()) {
+            s3ConcurrencyLimiter.onThrottled();
+        } else {
+            s3ConcurrencyLimiter.onSample(System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package kr.go.hai.config;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.go.hai.config.info.S3Info;
+import kr.go.hai.s3storage.service.impl.S3ConcurrencyLimiter;
+import kr.selim.msa.cmmn.exception.ApiBizException;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * S3Service 동시 처리 제한
+ * 기능(메소드)별 Bulkhead로 느린 기능(ZIP 다운로드 등)이 다른 기능의 처리 자원을 모두 사용하지 못하게 하고 (초과 시 429),
+ * S3 응답 시간 기반 전체 한도를 넘는 요청은 대기시키지 않고 바로 거절한다 (초과 시 503).
+ * 거절된 요청은 처리 시간 지표(s3.service)에 포함하지 않고 s3.limit.rejected로만 집계한다.
+ * 비동기 처리(CompletableFuture)는 전송이 끝난 시점에 처리 권한을 반환한다.
+ *
+ * @author AX사업팀
+ * @version 1.0
+ * @since 2026.10.17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *   수정일        수정자            수정내용
+ * ----------    --------    ---------------------------
+ * 2026.10.17    양정숙        최초 생성
+ * </pre>
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class S3ServiceLimitAspect {
+
+    private final S3Info s3Info;
+    private final S3ConcurrencyLimiter s3ConcurrencyLimiter;
+    private final BulkheadRegistry bulkheadRegistry;
+    private final MeterRegistry meterRegistry;
+
+    @Around("execution(* kr.go.hai.s3storage.service.S3Service.*(..))")
+    public Object limit(ProceedingJoinPoint joinPoint) throws Throwable {
+        String operation = joinPoint.getSignature().getName();
+
+        Bulkhead bulkhead = s3Info.getLimit().isBulkheadEnabled() ? bulkheadRegistry.bulkhead(operation) : null;
+        if (bulkhead != null && !bulkhead.tryAcquirePermission()) {
+            rejected(operation, "bulkhead");
+            throw new ApiBizException(HttpStatus.TOO_MANY_REQUESTS, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도하세요.");
+        }
+
+        if (!s3ConcurrencyLimiter.tryAcquire(s3Info.getLimit().getPriorityOperations().contains(operation))) {
+            if (bulkhead != null) {
+                bulkhead.onComplete();
+            }
+            rejected(operation, "limit");
+            throw new ApiBizException(HttpStatus.SERVICE_UNAVAILABLE, "스토리지 응답이 지연되어 요청을 처리할 수 없습니다. 잠시 후 다시 시도하세요.");
+        }
+
+        Object result;
+        try {
+            result = joinPoint.proceed();
+        } catch (Throwable e) {
+            release(bulkhead);
+            throw e;
+        }
+
+        if (result instanceof CompletableFuture<?> future) {
+            return future.whenComplete((value, e) -> release(bulkhead));
+        }
+
+        release(bulkhead);
+        return result;
+    }
+
+    private void release(Bulkhead bulkhead) {
+        s3ConcurrencyLimiter.release();
+        if (bulkhead != null) {
+            bulkhead.onComplete();
+        }
+    }
+
+    private void rejected(String operation, String reason) {
+        Counter.builder("s3.limit.rejected")
+                .description("동시 처리 제한으로 거절된 요청")
+                .tag("operation", operation)
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+    }
+}
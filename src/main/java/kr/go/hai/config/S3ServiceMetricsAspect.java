@@ -0,0 +1,103 @@
+package kr.go.hai.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import kr.go.hai.s3storage.service.impl.S3Metrics;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * S3Service 처리 시간 지표 (s3.service)
+ * 기능(operation), 기관코드(instCd), 결과(outcome)별 처리 시간을 Percentile Histogram으로 기록한다.
+ * 비동기 처리(CompletableFuture)는 전송이 끝난 시점까지 기록한다.
+ *
+ * @author AX사업팀
+ * @version 1.0
+ * @since 2026.10.17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *   수정일        수정자            수정내용
+ * ----------    --------    ---------------------------
+ * 2026.10.17    양정숙        최초 생성
+ * </pre>
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class S3ServiceMetricsAspect {
+
+    private final MeterRegistry meterRegistry;
+
+    @Around("execution(* kr.go.hai.s3storage.service.S3Service.*(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        String operation = joinPoint.getSignature().getName();
+        String instCd = instCdOf((MethodSignature) joinPoint.getSignature(), joinPoint.getArgs());
+        Timer.Sample sample = Timer.start(meterRegistry);
+
+        Object result;
+        try {
+            result = joinPoint.proceed();
+        } catch (Throwable e) {
+            stop(sample, operation, instCd, e);
+            throw e;
+        }
+
+        if (result instanceof CompletableFuture<?> future) {
+            return future.whenComplete((value, e) -> stop(sample, operation, instCd, e));
+        }
+
+        stop(sample, operation, instCd, null);
+        return result;
+    }
+
+    private void stop(Timer.Sample sample, String operation, String instCd, Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+
+        sample.stop(Timer.builder("s3.service")
+                .description("S3Service 처리 시간")
+                .tag("operation", operation)
+                .tag("instCd", instCd)
+                .tag("outcome", cause == null ? "success" : "error")
+                .tag("exception", cause == null ? "none" : cause.getClass().getSimpleName())
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+
+    /**
+     * 파라미터에서 기관코드 추출 (instCd, fileKey, fileKeyList 순)
+     * @param signature 메소드 정보
+     * @param args 파라미터 값
+     * @return 기관코드
+     */
+    private String instCdOf(MethodSignature signature, Object[] args) {
+        String[] names = signature.getParameterNames();
+        if (names == null) {
+            return S3Metrics.UNKNOWN_INST_CD;
+        }
+
+        String fileKey = null;
+        for (int i = 0; i < names.length; i++) {
+            if (args[i] == null) {
+                continue;
+            }
+            if ("instCd".equals(names[i]) && args[i] instanceof String instCd && !instCd.isBlank()) {
+                return instCd;
+            }
+            if ("fileKey".equals(names[i]) && args[i] instanceof String key) {
+                fileKey = key;
+            } else if ("fileKeyList".equals(names[i]) && args[i] instanceof String[] keys && keys.length > 0) {
+                fileKey = keys[0];
+            }
+        }
+        return S3Metrics.instCdOf(fileKey);
+    }
+}
@@ -1,13 +1,23 @@
 package kr.go.hai.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import kr.go.hai.config.info.S3Info;
+import kr.go.hai.s3storage.service.impl.S3ConcurrencyLimiter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.core.retry.RetryPolicy;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.http.urlconnection.UrlConnectionHttpClient;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.S3Configuration;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
@@ -34,6 +44,8 @@ import java.net.URI;
 @Slf4j
 public class S3StorageConfig {
     private final S3Info s3Info;
+    private final MeterRegistry meterRegistry;
+    private final S3ConcurrencyLimiter s3ConcurrencyLimiter;
 
     /**
      * S3 Storage를 이용하기 위한 Bean 등록
@@ -48,9 +60,85 @@ public class S3StorageConfig {
                 .credentialsProvider(StaticCredentialsProvider.create(
                         AwsBasicCredentials.create(s3Info.getAccessKey(), s3Info.getSecretKey())
                 ))
+                .httpClientBuilder(this.httpClientBuilder())
+                .overrideConfiguration(this.overrideConfiguration("sync"))
                 .build();
     }
 
+    /**
+     * 비동기 전송을 위한 S3AsyncClient Bean 등록 (s3.async.enabled=true 인 경우)
+     * 응답을 기다리는 동안 스레드를 점유하지 않는 Netty HTTP Client를 사용한다.
+     * @return S3AsyncClient
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "s3.async", name = "enabled", havingValue = "true")
+    public S3AsyncClient s3AsyncClient() {
+        return S3AsyncClient.builder()
+                .region(Region.of(s3Info.getRegion()))
+                .endpointOverride(URI.create(s3Info.getEndpoint()))
+                .forcePathStyle(true)
+                .credentialsProvider(StaticCredentialsProvider.create(
+                        AwsBasicCredentials.create(s3Info.getAccessKey(), s3Info.getSecretKey())
+                ))
+                .httpClientBuilder(NettyNioAsyncHttpClient.builder()
+                        .maxConcurrency(s3Info.getAsync().getMaxConcurrency())
+                        .connectionAcquisitionTimeout(s3Info.getHttp().getConnectionAcquisitionTimeout())
+                        .connectionTimeout(s3Info.getHttp().getConnectionTimeout())
+                        .readTimeout(s3Info.getHttp().getSocketTimeout())
+                        .writeTimeout(s3Info.getHttp().getSocketTimeout())
+                        .tcpKeepAlive(s3Info.getHttp().isTcpKeepAlive())
+                        .connectionMaxIdleTime(s3Info.getHttp().getConnectionMaxIdleTime())
+                        .connectionTimeToLive(s3Info.getHttp().getConnectionTimeToLive())
+                        .useIdleConnectionReaper(s3Info.getHttp().isUseIdleConnectionReaper()))
+                .overrideConfiguration(this.overrideConfiguration("async"))
+                .build();
+    }
+
+    /**
+     * S3Client HTTP Client 설정 (s3.http)
+     * @return HTTP Client Builder
+     */
+    private SdkHttpClient.Builder<?> httpClientBuilder() {
+        S3Info.Http http = s3Info.getHttp();
+        if (http.getClient() == S3Info.ClientType.URL_CONNECTION) {
+            return UrlConnectionHttpClient.builder()
+                    .connectionTimeout(http.getConnectionTimeout())
+                    .socketTimeout(http.getSocketTimeout());
+        }
+
+        return ApacheHttpClient.builder()
+                .maxConnections(http.getMaxConnections())
+                .connectionAcquisitionTimeout(http.getConnectionAcquisitionTimeout())
+                .connectionTimeout(http.getConnectionTimeout())
+                .socketTimeout(http.getSocketTimeout())
+                .tcpKeepAlive(http.isTcpKeepAlive())
+                .connectionMaxIdleTime(http.getConnectionMaxIdleTime())
+                .connectionTimeToLive(http.getConnectionTimeToLive())
+                .useIdleConnectionReaper(http.isUseIdleConnectionReaper());
+    }
+
+    /**
+     * 재시도, 제한 시간, 오류/연결 풀 지표, 응답 시간 수집 설정 (s3.http)
+     * @param client 지표 구분 태그 (sync, async)
+     * @return Client 공통 설정
+     */
+    private ClientOverrideConfiguration overrideConfiguration(String client) {
+        S3Info.Http http = s3Info.getHttp();
+        ClientOverrideConfiguration.Builder builder = ClientOverrideConfiguration.builder()
+                .retryPolicy(RetryPolicy.builder(http.getRetryMode())
+                        .numRetries(http.getMaxRetries())
+                        .build())
+                .apiCallTimeout(http.getApiCallTimeout())
+                .apiCallAttemptTimeout(http.getApiCallAttemptTimeout())
+                .addExecutionInterceptor(new S3ErrorMetricInterceptor(meterRegistry))
+                .addExecutionInterceptor(new S3LatencyInterceptor(s3ConcurrencyLimiter));
+
+        if (http.isMetricsEnabled()) {
+            builder.addMetricPublisher(new S3HttpMetricPublisher(meterRegistry, client));
+        }
+        return builder.build();
+    }
+
     /**
      * 다른 경로에서 S3 파일 업로드/다운로드를 위한 서명된 URL 생성 Bean 등록
      * @return S3Presigner
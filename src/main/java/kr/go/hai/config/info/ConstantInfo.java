@@ -23,6 +23,8 @@ public final class ConstantInfo extends CmmnConstantInfo {
 	public static final int S3_FILE_MAX_LENGTH = 900;
 	public static final String S3_DATE_PREFIX_FORMAT = "yyyy/MM/dd";
 	public static final String S3_PREFIX_DELIMITER = "/";
+	public static final int S3_LIST_MAX_KEYS = 1000;
+	public static final int S3_DATE_PREFIX_DEPTH = 4; // 기관코드/연/월/일/
 
 	private ConstantInfo() {
 		throw new IllegalStateException("Utility class");
@@ -5,6 +5,13 @@ import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import software.amazon.awssdk.core.retry.RetryMode;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.Deflater;
 
 /**
  * S3 Information
@@ -46,4 +53,523 @@ public class S3Info {
 
     @Schema(description = "S3 Object List Page Size")
     private int pageSize;
+
+    @Schema(description = "스트리밍 업로드 최대 크기")
+    private DataSize streamMaxSize = DataSize.ofMegabytes(100);
+
+    @Schema(description = "Multipart Upload 설정")
+    private Multipart multipart = new Multipart();
+
+    /**
+     * Multipart Upload 설정
+     */
+    @Getter
+    @Setter
+    public static class Multipart {
+        /** Part 최소 크기 (S3 제한, 마지막 Part 제외) */
+        public static final DataSize MIN_PART_SIZE = DataSize.ofMegabytes(5);
+
+        /** Part 최대 크기 (Part는 메모리 배열에 담아 전송) */
+        public static final DataSize MAX_PART_SIZE = DataSize.ofGigabytes(1);
+
+        /** 최대 Part 수 (S3 제한) */
+        public static final int MAX_PARTS = 10_000;
+
+        @Schema(description = "Multipart Upload 사용 여부")
+        private boolean enabled = true;
+
+        @Schema(description = "Multipart Upload로 전환하는 파일 크기 기준")
+        private DataSize threshold = DataSize.ofMegabytes(16);
+
+        @Schema(description = "Part 크기 (5MB ~ 1GB, 업로드 가능한 최대 크기는 Part 크기 x 10,000)")
+        private DataSize partSize = DataSize.ofMegabytes(8);
+
+        @Schema(description = "업로드 1건당 동시 전송 Part 수")
+        private int concurrency = 4;
+
+        @Schema(description = "Part 업로드 전용 Thread Pool 크기")
+        private int poolSize = 16;
+
+        @Schema(description = "Part 단위 재시도 횟수")
+        private int maxRetries = 3;
+
+        @Schema(description = "완료되지 않은 Multipart Upload 정리 주기 (cron, '-'이면 미사용)")
+        private String staleCleanupCron = "-";
+
+        @Schema(description = "정리 대상 prefix (이 서비스가 업로드하는 기관코드 경로, 없으면 정리하지 않음)")
+        private List<String> staleCleanupPrefixes = new ArrayList<>();
+
+        @Schema(description = "정리 대상 Multipart Upload 경과 시간")
+        private Duration staleAfter = Duration.ofDays(1);
+
+        /**
+         * Part 크기 설정 (S3 최소 크기와 메모리 배열 한도를 벗어나면 기동 시 오류)
+         * @param partSize Part 크기
+         */
+        public void setPartSize(DataSize partSize) {
+            if (partSize.compareTo(MIN_PART_SIZE) < 0 || partSize.compareTo(MAX_PART_SIZE) > 0) {
+                throw new IllegalArgumentException("s3.multipart.part-size는 5MB ~ 1GB 범위여야 합니다 : " + partSize);
+            }
+            this.partSize = partSize;
+        }
+    }
+
+    @Schema(description = "S3 작업 스레드 설정")
+    private Executor executor = new Executor();
+
+    /**
+     * S3 작업 스레드 설정
+     */
+    @Getter
+    @Setter
+    public static class Executor {
+        @Schema(description = "가상 스레드 사용 여부 (Java 21 이상 런타임에서만 적용, spring.threads.virtual.enabled=true 이면 함께 적용)")
+        private boolean virtual = false;
+    }
+
+    @Schema(description = "ZIP 다운로드 설정")
+    private Zip zip = new Zip();
+
+    /**
+     * ZIP 다운로드 설정
+     */
+    @Getter
+    @Setter
+    public static class Zip {
+        @Schema(description = "미리 가져올 파일 수")
+        private int prefetchDepth = 4;
+
+        @Schema(description = "요청 1건당 미리 가져온 파일을 보관할 메모리 한도")
+        private DataSize prefetchBudget = DataSize.ofMegabytes(32);
+
+        @Schema(description = "요청 1건당 최대 파일 수")
+        private int maxKeys = 500;
+
+        @Schema(description = "파일 조회 전용 Thread Pool 크기")
+        private int poolSize = 32;
+
+        @Schema(description = "압축 레벨 (0~9, -1이면 기본값)")
+        private int compressionLevel = Deflater.DEFAULT_COMPRESSION;
+
+        @Schema(description = "압축하지 않고 저장(STORED)할 content type (접두어 일치)")
+        private List<String> storedContentTypes = new ArrayList<>(List.of(
+                "image/", "video/", "audio/",
+                "application/pdf", "application/zip", "application/gzip", "application/x-gzip",
+                "application/x-7z-compressed", "application/x-rar-compressed", "application/vnd.rar",
+                "application/vnd.openxmlformats-officedocument."
+        ));
+
+        @Schema(description = "압축하지 않고 저장(STORED)할 확장자")
+        private List<String> storedExtensions = new ArrayList<>(List.of(
+                "jpg", "jpeg", "png", "gif", "webp", "heic",
+                "mp4", "mov", "avi", "mkv", "wmv", "mp3", "aac", "m4a",
+                "pdf", "zip", "gz", "tgz", "7z", "rar", "jar",
+                "docx", "xlsx", "pptx", "hwpx"
+        ));
+    }
+
+    @Schema(description = "파일 정보 캐시 설정")
+    private MetadataCache metadataCache = new MetadataCache();
+
+    /**
+     * 파일 정보 캐시 설정
+     */
+    @Getter
+    @Setter
+    public static class MetadataCache {
+        @Schema(description = "캐시 사용 여부")
+        private boolean enabled = true;
+
+        @Schema(description = "최대 보관 건수")
+        private long maximumSize = 10_000;
+
+        @Schema(description = "보관 시간")
+        private Duration ttl = Duration.ofMinutes(30);
+
+        @Schema(description = "존재하지 않는 파일 보관 시간")
+        private Duration negativeTtl = Duration.ofSeconds(30);
+    }
+
+    @Schema(description = "서명된 URL 설정")
+    private Presigned presigned = new Presigned();
+
+    /**
+     * 서명된 URL 설정
+     */
+    @Getter
+    @Setter
+    public static class Presigned {
+        @Schema(description = "서명된 URL 재사용 여부")
+        private boolean cacheEnabled = true;
+
+        @Schema(description = "최대 보관 건수")
+        private long cacheMaximumSize = 10_000;
+
+        @Schema(description = "재사용할 URL의 최소 잔여 유효시간 비율 (0~1)")
+        private double minRemainingRatio = 0.5;
+
+        @Schema(description = "일괄 발급 요청 1건당 최대 파일 수")
+        private int batchMaxKeys = 1000;
+    }
+
+    @Schema(description = "파일 목록 색인(DB) 설정")
+    private Index index = new Index();
+
+    /**
+     * 파일 목록 색인(DB) 설정
+     */
+    @Getter
+    @Setter
+    public static class Index {
+        @Schema(description = "파일 목록 조회 시 색인 사용 여부")
+        private boolean enabled = false;
+
+        @Schema(description = "스토리지와 색인 보정 주기 (cron, '-'이면 미사용)")
+        private String reconcileCron = "-";
+
+        @Schema(description = "기동 시 스토리지와 색인 보정 여부 (기존 파일이 있는 버킷에서 색인 사용을 시작할 때)")
+        private boolean reconcileOnStartup = false;
+    }
+
+    @Schema(description = "목록 조회 설정")
+    private ListConfig list = new ListConfig();
+
+    /**
+     * 목록 조회 설정
+     */
+    @Getter
+    @Setter
+    public static class ListConfig {
+        @Schema(description = "날짜 하위 prefix 병렬 조회 사용 여부")
+        private boolean fanOutEnabled = true;
+
+        @Schema(description = "목록 조회 전용 Thread Pool 크기")
+        private int poolSize = 16;
+    }
+
+    @Schema(description = "일괄 삭제 설정")
+    private Delete delete = new Delete();
+
+    /**
+     * 일괄 삭제 설정
+     */
+    @Getter
+    @Setter
+    public static class Delete {
+        @Schema(description = "요청 1건당 동시 처리 묶음(1000건) 수")
+        private int concurrency = 4;
+
+        @Schema(description = "일괄 삭제 전용 Thread Pool 크기")
+        private int poolSize = 8;
+
+        @Schema(description = "목록 삭제 요청 1건당 최대 파일 수")
+        private int maxKeys = 10_000;
+    }
+
+    @Schema(description = "비동기 전송(S3AsyncClient) 설정")
+    private Async async = new Async();
+
+    /**
+     * 비동기 전송(S3AsyncClient) 설정
+     */
+    @Getter
+    @Setter
+    public static class Async {
+        @Schema(description = "S3AsyncClient(Netty) 사용 여부")
+        private boolean enabled = false;
+
+        @Schema(description = "최대 동시 연결 수")
+        private int maxConcurrency = 500;
+
+        @Schema(description = "비동기 응답 제한 시간")
+        private Duration timeout = Duration.ofMinutes(30);
+    }
+
+    @Schema(description = "HTTP 전송 설정")
+    private Http http = new Http();
+
+    /**
+     * HTTP 전송 설정 (S3Client, S3AsyncClient 공통)
+     */
+    @Getter
+    @Setter
+    public static class Http {
+        @Schema(description = "HTTP Client 구현 (S3Client)")
+        private ClientType client = ClientType.APACHE;
+
+        @Schema(description = "최대 연결 수 (S3Client)")
+        private int maxConnections = 50;
+
+        @Schema(description = "연결 획득 대기 제한 시간")
+        private Duration connectionAcquisitionTimeout = Duration.ofSeconds(10);
+
+        @Schema(description = "연결 제한 시간")
+        private Duration connectionTimeout = Duration.ofSeconds(2);
+
+        @Schema(description = "응답 수신 제한 시간")
+        private Duration socketTimeout = Duration.ofSeconds(30);
+
+        @Schema(description = "TCP Keep-Alive 사용 여부")
+        private boolean tcpKeepAlive = false;
+
+        @Schema(description = "유휴 연결 유지 시간")
+        private Duration connectionMaxIdleTime = Duration.ofSeconds(60);
+
+        @Schema(description = "연결 최대 사용 시간 (0이면 제한 없음)")
+        private Duration connectionTimeToLive = Duration.ZERO;
+
+        @Schema(description = "유휴 연결 정리 사용 여부")
+        private boolean useIdleConnectionReaper = true;
+
+        @Schema(description = "재시도 방식 (STANDARD, ADAPTIVE, LEGACY)")
+        private RetryMode retryMode = RetryMode.STANDARD;
+
+        @Schema(description = "최대 재시도 횟수")
+        private int maxRetries = 3;
+
+        @Schema(description = "API 호출 1건 제한 시간 (재시도 포함, 미설정 시 제한 없음)")
+        private Duration apiCallTimeout;
+
+        @Schema(description = "HTTP 요청 1회 제한 시간 (미설정 시 제한 없음)")
+        private Duration apiCallAttemptTimeout;
+
+        @Schema(description = "연결 풀 지표(s3.http.pool.*) 수집 여부")
+        private boolean metricsEnabled = true;
+    }
+
+    @Schema(description = "다운로드 디스크 캐시 설정")
+    private DiskCache diskCache = new DiskCache();
+
+    /**
+     * 다운로드 디스크 캐시 설정 (자주 받는 파일을 로컬 디스크에서 바로 전송)
+     */
+    @Getter
+    @Setter
+    public static class DiskCache {
+        @Schema(description = "디스크 캐시 사용 여부")
+        private boolean enabled = false;
+
+        @Schema(description = "캐시 파일 저장 경로 (시작 시 이전 캐시 파일 삭제)")
+        private String directory = System.getProperty("java.io.tmpdir") + "/s3-disk-cache";
+
+        @Schema(description = "캐시 전체 크기 (초과 시 사용 빈도가 낮은 파일부터 삭제)")
+        private DataSize maxSize = DataSize.ofGigabytes(10);
+
+        @Schema(description = "캐시 대상 최대 파일 크기")
+        private DataSize maxObjectSize = DataSize.ofMegabytes(256);
+
+        @Schema(description = "캐시 파일 최대 보관 시간 (전송 전 파일 정보 캐시의 ETag로 재검증)")
+        private Duration maxAge = Duration.ofHours(1);
+
+        @Schema(description = "제거된 캐시 파일 삭제 대기 시간 (전송 중인 응답 보호)")
+        private Duration deleteDelay = Duration.ofSeconds(30);
+    }
+
+    @Schema(description = "동일 파일 동시 조회 병합 설정")
+    private SingleFlight singleFlight = new SingleFlight();
+
+    /**
+     * 동일 파일 동시 조회 병합 설정 (동시에 들어온 같은 파일 조회/다운로드는 S3 요청 1건을 공유)
+     */
+    @Getter
+    @Setter
+    public static class SingleFlight {
+        @Schema(description = "조회 병합 사용 여부")
+        private boolean enabled = false;
+
+        @Schema(description = "다운로드 공유 버퍼 크기 (뒤처진 요청은 남은 구간을 직접 다운로드)")
+        private DataSize bufferSize = DataSize.ofMegabytes(8);
+
+        @Schema(description = "공유 다운로드 데이터 대기 제한 시간 (초과 시 남은 구간을 직접 다운로드)")
+        private Duration waitTimeout = Duration.ofSeconds(5);
+    }
+
+    @Schema(description = "업로드 중복 제거 설정")
+    private Dedup dedup = new Dedup();
+
+    /**
+     * 업로드 중복 제거 설정 (같은 내용의 파일은 원본 1건만 저장하고 나머지는 원본을 참조)
+     */
+    @Getter
+    @Setter
+    public static class Dedup {
+        @Schema(description = "중복 제거 사용 여부")
+        private boolean enabled = false;
+
+        @Schema(description = "참조가 아닌 파일 키 캐시 최대 건수 (원본 키 DB 조회 생략)")
+        private long cacheMaximumSize = 100_000;
+
+        @Schema(description = "참조가 아닌 파일 키 캐시 유지 시간")
+        private Duration cacheTtl = Duration.ofMinutes(1);
+    }
+
+    @Schema(description = "저장 압축 설정")
+    private Compression compression = new Compression();
+
+    /**
+     * 저장 압축 설정 (압축 효과가 있는 파일은 gzip으로 압축하여 저장)
+     */
+    @Getter
+    @Setter
+    public static class Compression {
+        @Schema(description = "저장 압축 사용 여부")
+        private boolean enabled = false;
+
+        @Schema(description = "압축 레벨 (1~9, -1이면 기본값)")
+        private int level = Deflater.DEFAULT_COMPRESSION;
+
+        @Schema(description = "압축 최소 크기 (크기를 모르는 업로드는 항상 압축)")
+        private DataSize minSize = DataSize.ofKilobytes(1);
+
+        @Schema(description = "압축할 content type (접두어 일치)")
+        private List<String> contentTypes = new ArrayList<>(List.of(
+                "text/", "application/json", "application/x-ndjson", "application/xml", "application/csv",
+                "application/javascript", "application/sql", "application/x-yaml", "image/svg+xml"
+        ));
+
+        @Schema(description = "압축할 확장자")
+        private List<String> extensions = new ArrayList<>(List.of(
+                "txt", "csv", "tsv", "json", "ndjson", "xml", "log", "html", "htm", "md", "sql", "yml", "yaml", "svg"
+        ));
+    }
+
+    @Schema(description = "일괄 업로드 설정")
+    private Upload upload = new Upload();
+
+    /**
+     * 일괄 업로드 설정
+     */
+    @Getter
+    @Setter
+    public static class Upload {
+        @Schema(description = "요청 1건당 동시 업로드 파일 수")
+        private int concurrency = 4;
+
+        @Schema(description = "일괄 업로드 전용 Thread Pool 크기")
+        private int poolSize = 16;
+
+        @Schema(description = "요청 1건당 최대 파일 수")
+        private int maxFiles = 50;
+    }
+
+    @Schema(description = "복사/이동 설정")
+    private Copy copy = new Copy();
+
+    /**
+     * 복사/이동 설정 (스토리지 내부 복사)
+     */
+    @Getter
+    @Setter
+    public static class Copy {
+        @Schema(description = "일괄 복사 요청 1건당 동시 복사 파일 수")
+        private int concurrency = 8;
+
+        @Schema(description = "일괄 복사 전용 Thread Pool 크기")
+        private int poolSize = 16;
+
+        @Schema(description = "Part 단위 복사(UploadPartCopy)로 전환하는 파일 크기 기준 (최대 5GB)")
+        private DataSize multipartThreshold = DataSize.ofGigabytes(5);
+
+        @Schema(description = "복사 Part 크기")
+        private DataSize partSize = DataSize.ofMegabytes(512);
+
+        @Schema(description = "파일 1건당 동시 복사 Part 수")
+        private int partConcurrency = 8;
+
+        @Schema(description = "Part 복사 전용 Thread Pool 크기")
+        private int partPoolSize = 16;
+    }
+
+    @Schema(description = "동시 처리 제한 설정")
+    private Limit limit = new Limit();
+
+    /**
+     * 동시 처리 제한 설정
+     * 기능별 Bulkhead(resilience4j.bulkhead.instances.기능명)와 S3 응답 시간에 따라 조정되는 전체 동시 처리 한도
+     */
+    @Getter
+    @Setter
+    public static class Limit {
+        @Schema(description = "기능별 Bulkhead 사용 여부 (초과 시 429)")
+        private boolean bulkheadEnabled = false;
+
+        @Schema(description = "응답 시간 기반 동시 처리 한도 사용 여부 (초과 시 503)")
+        private boolean enabled = false;
+
+        @Schema(description = "시작 한도")
+        private int initialLimit = 100;
+
+        @Schema(description = "최소 한도")
+        private int minLimit = 20;
+
+        @Schema(description = "최대 한도")
+        private int maxLimit = 500;
+
+        @Schema(description = "허용 지연 배수 (최근 응답 시간이 기준 응답 시간의 이 배수를 넘으면 한도 감소)")
+        private double tolerance = 2.0;
+
+        @Schema(description = "S3 처리량 제한(503 SlowDown) 응답 시 한도 감소 비율")
+        private double backoffRatio = 0.9;
+
+        @Schema(description = "한도 변경 반영 비율 (0~1)")
+        private double smoothing = 0.2;
+
+        @Schema(description = "최근 응답 시간 이동 평균 표본 수")
+        private int shortWindow = 10;
+
+        @Schema(description = "기준 응답 시간 이동 평균 표본 수")
+        private int longWindow = 600;
+
+        @Schema(description = "우선 기능 전용 한도 비율 (다른 기능은 한도의 나머지만 사용)")
+        private double reservedRatio = 0.2;
+
+        @Schema(description = "우선 기능 (가벼운 조회)")
+        private List<String> priorityOperations = new ArrayList<>(List.of(
+                "viewObject", "getPresignedUrl", "getPresignedUrlList"
+        ));
+    }
+
+    @Schema(description = "조회 요청 Hedging 설정")
+    private Hedge hedge = new Hedge();
+
+    /**
+     * 조회 요청 Hedging 설정 (GetObject, HeadObject 응답이 늦으면 같은 요청을 한 번 더 보내고 먼저 온 응답 사용)
+     */
+    @Getter
+    @Setter
+    public static class Hedge {
+        @Schema(description = "Hedging 사용 여부")
+        private boolean enabled = false;
+
+        @Schema(description = "추가 요청 지연 기준 분위수 (최근 응답 시간)")
+        private double quantile = 0.95;
+
+        @Schema(description = "최소 지연")
+        private Duration minDelay = Duration.ofMillis(10);
+
+        @Schema(description = "최대 지연 (응답 시간 표본이 부족할 때 사용)")
+        private Duration maxDelay = Duration.ofMillis(500);
+
+        @Schema(description = "분위수를 사용하기 위한 최소 표본 수")
+        private long minSamples = 100;
+
+        @Schema(description = "추가 요청 예산 (원 요청 대비 %)")
+        private double budgetPercent = 5;
+
+        @Schema(description = "예산 최대 누적 건수 (순간적으로 보낼 수 있는 추가 요청 수)")
+        private int maxBurst = 10;
+
+        @Schema(description = "Hedging 전용 Thread Pool 크기 (원 요청과 추가 요청 모두 실행)")
+        private int poolSize = 64;
+    }
+
+    /**
+     * S3Client HTTP Client 구현
+     */
+    public enum ClientType {
+        /** Apache HttpClient (연결 풀, 유휴 연결 정리 지원) */
+        APACHE,
+        /** JDK HttpURLConnection (연결 풀 설정 미지원) */
+        URL_CONNECTION
+    }
 }
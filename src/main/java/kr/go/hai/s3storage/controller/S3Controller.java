@@ -2,6 +2,7 @@ package kr.go.hai.s3storage.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import kr.go.hai.s3storage.service.S3Service;
 import kr.go.hai.s3storage.service.impl.vo.S3VO;
@@ -14,6 +15,8 @@ import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * S3 Storage controller
  *
@@ -52,15 +55,68 @@ public class S3Controller {
 	}
 
 	/**
-	 * 스토리지에서 파일 다운로드
+	 * 스토리지에 여러 파일 일괄 업로드
+	 * @param fileList 업로드 대상 목록
+	 * @param instCd 기관코드
+	 * @return 업로드 결과 (파일별 파일 키 또는 오류)
+	 * @throws ApiBizException API 예외 처리
+	 */
+	@PostMapping(value = "/v1/s3storage/upload-list", produces = MediaType.APPLICATION_JSON_VALUE, consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+	@Operation(summary = "파일 일괄 업로드", description = "스토리지에 여러 파일을 병렬로 업로드하고 파일별 결과를 한번에 반환")
+	public ApiResponseVO uploadObjectList(@RequestPart("fileList") MultipartFile[] fileList,
+										  @RequestParam String instCd) throws ApiBizException {
+		log.debug("uploadObjectList");
+		return ResponseUtils.build(s3Service.uploadObjectList(fileList, instCd));
+	}
+
+	/**
+	 * 요청 본문을 디스크에 저장하지 않고 스토리지로 바로 업로드
+	 * @param request 업로드 대상 (application/octet-stream 본문)
+	 * @param instCd 기관코드
+	 * @param filename 원본파일명
+	 * @param contentType 파일 유형
+	 * @return 파일 키
+	 * @throws ApiBizException API 예외 처리
+	 */
+	@PostMapping(value = "/v1/s3storage/upload-stream", produces = MediaType.APPLICATION_JSON_VALUE, consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+	@Operation(summary = "파일 스트리밍 업로드", description = "임시파일 저장 없이 요청 본문을 스토리지로 바로 업로드")
+	public ApiResponseVO uploadObjectStream(HttpServletRequest request,
+											@RequestParam String instCd,
+											@RequestParam String filename,
+											@RequestParam(required = false) String contentType) throws ApiBizException {
+		log.debug("uploadObjectStream");
+		return ResponseUtils.build(s3Service.uploadObjectStream(request, instCd, filename, contentType));
+	}
+
+	/**
+	 * 스토리지에서 파일 다운로드 (Range, 조건부 요청 지원)
+	 * @param request http 요청 객체
+	 * @param response http 응답 객체
 	 * @param fileKey 파일 식별자 (업로드경로 + 파일명)
 	 * @throws ApiBizException 예외처리
 	 */
 	@GetMapping("/v1/s3storage/download")
-	@Operation(summary = "파일 다운로드", description = "스토리지에서 파일 다운로드")
-	public void downloadObject(HttpServletResponse response, @RequestParam String fileKey) throws ApiBizException {
+	@Operation(summary = "파일 다운로드", description = "스토리지에서 파일 다운로드 (Range, If-None-Match, If-Modified-Since 지원)")
+	public void downloadObject(HttpServletRequest request, HttpServletResponse response, @RequestParam String fileKey) throws ApiBizException {
 		log.debug("downloadObject");
-		s3Service.downloadObject(response, fileKey);
+		s3Service.downloadObject(request, response, fileKey);
+	}
+
+	/**
+	 * 스토리지에서 파일 다운로드 (비동기 전송)
+	 * 전송 결과를 반환하여 Spring MVC가 비동기 요청의 시작, 시간 초과, 완료를 관리한다.
+	 * @param request http 요청 객체
+	 * @param response http 응답 객체
+	 * @param fileKey 파일 식별자 (업로드경로 + 파일명)
+	 * @return 전송 완료 결과
+	 * @throws ApiBizException 예외처리
+	 */
+	@GetMapping("/v1/s3storage/download-async")
+	@Operation(summary = "파일 다운로드(비동기)", description = "전송 중 요청 스레드를 점유하지 않는 파일 다운로드 (Range, If-None-Match, If-Modified-Since 지원). "
+			+ "여러 Range, 디스크 캐시에 있는 파일, 저장 압축 사용 시 Range 요청이나 gzip 미지원 클라이언트는 동기 방식으로 전송")
+	public CompletableFuture<Void> downloadObjectAsync(HttpServletRequest request, HttpServletResponse response, @RequestParam String fileKey) throws ApiBizException {
+		log.debug("downloadObjectAsync");
+		return s3Service.downloadObjectAsync(request, response, fileKey);
 	}
 
 	/**
@@ -76,8 +132,22 @@ public class S3Controller {
 		return ResponseUtils.build(s3Service.getPresignedUrl(fileKey));
 	}
 
+	/**
+	 * 여러 파일을 다운로드하기 위한 임시 URL 일괄 생성
+	 * @param fileKeyList 파일 식별자 목록
+	 * @return 파일 식별자별 임시 URL
+	 * @throws ApiBizException 예외 처리
+	 */
+	@PostMapping("/v1/s3storage/presigned-list")
+	@Operation(summary = "임시 URL 일괄 생성", description = "여러 파일을 다운로드하기 위한 임시 URL 일괄 생성")
+	public ApiResponseVO getPresignedUrlList(@RequestParam String[] fileKeyList) throws ApiBizException {
+		log.debug("getPresignedUrlList");
+		return ResponseUtils.build(s3Service.getPresignedUrlList(fileKeyList));
+	}
+
 	/**
 	 * 스토리지에서 여러 파일을 zip으로 다운로드
+	 * ZIP 조립은 요청 스레드에서 동기로 처리한다. (비동기 전송 사용 시 항목 조회만 S3AsyncClient로 처리)
 	 * @param response http 응답 객체
 	 * @param fileKeyList 파일 식별자 목록
 	 * @throws ApiBizException 예외 처리
@@ -104,6 +174,106 @@ public class S3Controller {
 		return ResponseUtils.build(fileKey + " 삭제");
 	}
 
+	/**
+	 * 스토리지에 저장된 여러 파일 일괄 삭제
+	 * @param fileKeyList 삭제 대상 파일키 목록
+	 * @return 삭제 결과
+	 * @throws ApiBizException 예외 처리
+	 */
+	@PostMapping("/v1/s3storage/delete-list")
+	@Operation(summary = "파일 일괄 삭제", description = "스토리지에 저장된 여러 파일 일괄 삭제")
+	public ApiResponseVO deleteObjectList(@RequestParam String[] fileKeyList) throws ApiBizException {
+		log.info("deleteObjectList");
+		return ResponseUtils.build(s3Service.deleteObjectList(fileKeyList));
+	}
+
+	/**
+	 * 기관코드/일자 하위 파일 일괄 삭제
+	 * @param instCd 삭제 대상 기관코드
+	 * @param dateString 삭제 대상 일자(연 or 연월 or 연월일)
+	 * @return 삭제 결과
+	 * @throws ApiBizException 예외 처리
+	 */
+	@PostMapping("/v1/s3storage/delete-prefix")
+	@Operation(summary = "파일 일괄 삭제(경로)", description = "기관코드/일자 하위 파일 일괄 삭제")
+	public ApiResponseVO deletePrefix(@RequestParam String instCd,
+									  @RequestParam(required = false) String dateString) throws ApiBizException {
+		log.info("deletePrefix");
+		return ResponseUtils.build(s3Service.deletePrefix(instCd, dateString));
+	}
+
+	/**
+	 * 파일 복사
+	 * @param fileKey 복사할 파일키
+	 * @param targetInstCd 대상 기관코드
+	 * @param targetDateString 대상 일자(연월일, 없으면 원본 일자)
+	 * @return 대상 파일 키
+	 * @throws ApiBizException 예외 처리
+	 */
+	@PostMapping("/v1/s3storage/copy")
+	@Operation(summary = "파일 복사", description = "파일을 다른 기관코드/일자 경로로 복사 (스토리지 내부 복사)")
+	public ApiResponseVO copyObject(@RequestParam String fileKey,
+									@RequestParam String targetInstCd,
+									@RequestParam(required = false) String targetDateString) throws ApiBizException {
+		log.info("copyObject");
+		return ResponseUtils.build(s3Service.copyObject(fileKey, targetInstCd, targetDateString));
+	}
+
+	/**
+	 * 파일 이동
+	 * @param fileKey 이동할 파일키
+	 * @param targetInstCd 대상 기관코드
+	 * @param targetDateString 대상 일자(연월일, 없으면 원본 일자)
+	 * @return 대상 파일 키
+	 * @throws ApiBizException 예외 처리
+	 */
+	@PostMapping("/v1/s3storage/move")
+	@Operation(summary = "파일 이동", description = "파일을 다른 기관코드/일자 경로로 이동 (복사 후 원본 삭제)")
+	public ApiResponseVO moveObject(@RequestParam String fileKey,
+									@RequestParam String targetInstCd,
+									@RequestParam(required = false) String targetDateString) throws ApiBizException {
+		log.info("moveObject");
+		return ResponseUtils.build(s3Service.moveObject(fileKey, targetInstCd, targetDateString));
+	}
+
+	/**
+	 * 기관코드/일자 하위 파일 일괄 복사
+	 * @param instCd 원본 기관코드
+	 * @param dateString 원본 일자(연 or 연월 or 연월일)
+	 * @param targetInstCd 대상 기관코드
+	 * @param targetDateString 대상 일자 (없으면 원본 일자)
+	 * @return 복사 결과
+	 * @throws ApiBizException 예외 처리
+	 */
+	@PostMapping("/v1/s3storage/copy-prefix")
+	@Operation(summary = "파일 일괄 복사(경로)", description = "기관코드/일자 하위 파일을 다른 기관코드/일자로 일괄 복사")
+	public ApiResponseVO copyPrefix(@RequestParam String instCd,
+									@RequestParam(required = false) String dateString,
+									@RequestParam String targetInstCd,
+									@RequestParam(required = false) String targetDateString) throws ApiBizException {
+		log.info("copyPrefix");
+		return ResponseUtils.build(s3Service.copyPrefix(instCd, dateString, targetInstCd, targetDateString));
+	}
+
+	/**
+	 * 기관코드/일자 하위 파일 일괄 이동
+	 * @param instCd 원본 기관코드
+	 * @param dateString 원본 일자(연 or 연월 or 연월일)
+	 * @param targetInstCd 대상 기관코드
+	 * @param targetDateString 대상 일자 (없으면 원본 일자)
+	 * @return 이동 결과
+	 * @throws ApiBizException 예외 처리
+	 */
+	@PostMapping("/v1/s3storage/move-prefix")
+	@Operation(summary = "파일 일괄 이동(경로)", description = "기관코드/일자 하위 파일을 다른 기관코드/일자로 일괄 이동 (복사된 파일만 원본 삭제)")
+	public ApiResponseVO movePrefix(@RequestParam String instCd,
+									@RequestParam(required = false) String dateString,
+									@RequestParam String targetInstCd,
+									@RequestParam(required = false) String targetDateString) throws ApiBizException {
+		log.info("movePrefix");
+		return ResponseUtils.build(s3Service.movePrefix(instCd, dateString, targetInstCd, targetDateString));
+	}
+
 	/**
 	 * 파일 정보 조회
 	 * @param fileKey 조회 대상 파일키
@@ -132,6 +302,41 @@ public class S3Controller {
 		return ResponseUtils.build(s3Service.listObject(instCd, dateString));
 	}
 
+	/**
+	 * 저장된 S3 목록을 페이지 단위로 가져오기
+	 * @param instCd 조회 대상 기관코드
+	 * @param dateString 조회 대상 일자(연 or 연월 or 연월일)
+	 * @param cursor 이전 페이지에서 받은 커서
+	 * @param pageSize 페이지 크기
+	 * @return 조회 결과와 다음 페이지 커서
+	 * @throws ApiBizException 예외 처리
+	 */
+	@PostMapping("/v1/s3storage/list-page")
+	@Operation(summary = "파일 목록 페이지 조회", description = "저장된 파일 목록을 커서 기반으로 페이지 단위 조회")
+	public ApiResponseVO listObjectPage(@RequestParam(required = false) String instCd,
+										@RequestParam(required = false) String dateString,
+										@RequestParam(required = false) String cursor,
+										@RequestParam(required = false) Integer pageSize) throws ApiBizException {
+		log.debug("listObjectPage");
+		return ResponseUtils.build(s3Service.listObjectPage(instCd, dateString, cursor, pageSize));
+	}
+
+	/**
+	 * 저장된 S3 목록을 NDJSON으로 스트리밍
+	 * @param response http 응답 객체
+	 * @param instCd 조회 대상 기관코드
+	 * @param dateString 조회 대상 일자(연 or 연월 or 연월일)
+	 * @throws ApiBizException 예외 처리
+	 */
+	@PostMapping(value = "/v1/s3storage/list-stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	@Operation(summary = "파일 목록 스트리밍 조회", description = "저장된 파일 목록을 한 줄에 한 건씩(NDJSON) 스트리밍 (전송 중 오류 시 마지막 줄에 {\"error\": 메시지})")
+	public void listObjectStream(HttpServletResponse response,
+								 @RequestParam(required = false) String instCd,
+								 @RequestParam(required = false) String dateString) throws ApiBizException {
+		log.debug("listObjectStream");
+		s3Service.listObjectStream(response, instCd, dateString);
+	}
+
 	//@PostMapping("/v1/s3storage/test-mapper")
 	public ApiResponseVO testMapper() throws ApiBizException {
 		return ResponseUtils.build(s3Service.testMapper(new S3VO()));
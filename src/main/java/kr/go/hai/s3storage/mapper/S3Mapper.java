@@ -1,8 +1,11 @@
 package kr.go.hai.s3storage.mapper;
 
+import kr.go.hai.s3storage.service.impl.vo.S3DedupVO;
 import kr.go.hai.s3storage.service.impl.vo.S3VO;
 import org.apache.ibatis.annotations.Mapper;
 
+import java.util.List;
+
 /**
  * S3 Storage Mapper
  *
@@ -21,4 +24,130 @@ import org.apache.ibatis.annotations.Mapper;
 @Mapper
 public interface S3Mapper {
     S3VO selectTest(S3VO vo);
+
+    /**
+     * 파일 목록 색인 조회 (prefix 일치, 파일키 순)
+     * @param vo 조회 조건 (prefix, 파일키 구간 startAfter ~ endAt)
+     * @return 파일 목록
+     */
+    List<S3VO> selectObjectList(S3VO vo);
+
+    /**
+     * 파일 목록 색인 등록
+     * @param vo 파일 정보
+     * @return 등록 건수
+     */
+    int insertObject(S3VO vo);
+
+    /**
+     * 파일 목록 색인 수정
+     * @param vo 파일 정보
+     * @return 수정 건수
+     */
+    int updateObject(S3VO vo);
+
+    /**
+     * 파일 목록 색인 삭제
+     * @param fileKey 파일 키
+     * @return 삭제 건수
+     */
+    int deleteObject(String fileKey);
+
+    /**
+     * 중복 제거 원본 조회 (내용 해시)
+     * @param contentHash 내용 해시
+     * @return 원본 정보
+     */
+    S3DedupVO selectDedupObject(String contentHash);
+
+    /**
+     * 중복 제거 원본 조회 후 트랜잭션 종료까지 행 잠금 (참조 등록/삭제, 원본 교체 순서 보장)
+     * @param contentHash 내용 해시
+     * @return 원본 정보
+     */
+    S3DedupVO selectDedupObjectForUpdate(String contentHash);
+
+    /**
+     * 중복 제거 원본 조회 (원본 파일 키)
+     * @param originFileKey 원본 파일 키
+     * @return 원본 정보
+     */
+    S3DedupVO selectDedupObjectByOrigin(String originFileKey);
+
+    /**
+     * 중복 제거 원본 목록 조회 (원본 파일 키 prefix 일치)
+     * @param vo 조회 조건 (prefix)
+     * @return 원본 목록
+     */
+    List<S3DedupVO> selectDedupObjectList(S3DedupVO vo);
+
+    /**
+     * 중복 제거 원본 등록
+     * @param vo 원본 정보
+     * @return 등록 건수
+     */
+    int insertDedupObject(S3DedupVO vo);
+
+    /**
+     * 중복 제거 원본 참조 수 증가 (원본이 바뀌지 않은 경우)
+     * @param vo 내용 해시, 원본 파일 키
+     * @return 수정 건수
+     */
+    int increaseDedupRefCount(S3DedupVO vo);
+
+    /**
+     * 중복 제거 원본 참조 수 감소
+     * @param vo 내용 해시, 원본 파일 키 (원본 파일 키가 없으면 해시만 일치)
+     * @return 수정 건수
+     */
+    int decreaseDedupRefCount(S3DedupVO vo);
+
+    /**
+     * 중복 제거 원본 파일 키 변경 (원본 삭제 시 참조 파일로 교체)
+     * @param vo 내용 해시, 새 원본 파일 키, ETag
+     * @return 수정 건수
+     */
+    int updateDedupOrigin(S3DedupVO vo);
+
+    /**
+     * 중복 제거 원본 삭제
+     * @param contentHash 내용 해시
+     * @return 삭제 건수
+     */
+    int deleteDedupObject(String contentHash);
+
+    /**
+     * 중복 제거 참조 조회 (원본 정보 포함)
+     * @param fileKey 참조 파일 키
+     * @return 참조 정보
+     */
+    S3DedupVO selectDedupRef(String fileKey);
+
+    /**
+     * 중복 제거 참조 목록 조회 (참조 파일 키 prefix 일치, 원본 크기/ETag와 참조 등록 일시 포함)
+     * @param vo 조회 조건 (prefix, 파일키 구간 startAfter ~ endAt)
+     * @return 참조 목록 (파일 키 순)
+     */
+    List<S3DedupVO> selectDedupRefList(S3DedupVO vo);
+
+    /**
+     * 원본별 중복 제거 참조 파일 키 목록 조회
+     * @param contentHash 내용 해시
+     * @return 참조 파일 키 목록
+     */
+    List<String> selectDedupRefKeyList(String contentHash);
+
+    /**
+     * 중복 제거 참조 등록
+     * @param vo 참조 파일 키, 내용 해시
+     * @return 등록 건수
+     */
+    int insertDedupRef(S3DedupVO vo);
+
+    /**
+     * 중복 제거 참조 삭제
+     * @param fileKey 참조 파일 키
+     * @return 삭제 건수
+     */
+    int deleteDedupRef(String fileKey);
 }
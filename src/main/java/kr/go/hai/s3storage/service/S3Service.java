@@ -1,11 +1,18 @@
 package kr.go.hai.s3storage.service;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import kr.go.hai.s3storage.service.impl.vo.S3CopyResultVO;
+import kr.go.hai.s3storage.service.impl.vo.S3DeleteResultVO;
+import kr.go.hai.s3storage.service.impl.vo.S3PageVO;
+import kr.go.hai.s3storage.service.impl.vo.S3UploadResultVO;
 import kr.go.hai.s3storage.service.impl.vo.S3VO;
 import kr.selim.msa.cmmn.exception.ApiBizException;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * S3 Storage Service
@@ -33,12 +40,47 @@ public interface S3Service {
      */
     String uploadObject(MultipartFile file, String instCd) throws ApiBizException;
 
+    /**
+     * 스토리지에 여러 파일 일괄 업로드
+     * @param fileList 업로드 대상 목록
+     * @param instCd 기관코드
+     * @return 업로드 결과 (파일별 파일 키 또는 오류)
+     * @throws ApiBizException API 예외 처리
+     */
+    S3UploadResultVO uploadObjectList(MultipartFile[] fileList, String instCd) throws ApiBizException;
+
+    /**
+     * 요청 본문을 디스크에 저장하지 않고 스토리지로 바로 업로드
+     * @param request http 요청 객체 (본문 = 파일 데이터)
+     * @param instCd 기관코드
+     * @param filename 원본파일명
+     * @param contentType 파일 유형 (없으면 파일명으로 추정)
+     * @return 파일 키
+     * @throws ApiBizException API 예외 처리
+     */
+    String uploadObjectStream(HttpServletRequest request, String instCd, String filename, String contentType) throws ApiBizException;
+
     /**
      * 스토리지에서 파일 다운로드
+     * Range(부분 요청), If-None-Match / If-Modified-Since(조건부 요청) 헤더를 지원한다.
+     * @param request http 요청 객체
+     * @param response http 응답 객체
+     * @param fileKey 파일 식별자 (업로드경로 + 파일명)
+     * @throws ApiBizException 예외처리
+     */
+    void downloadObject(HttpServletRequest request, HttpServletResponse response, String fileKey) throws ApiBizException;
+
+    /**
+     * 비동기 전송(S3AsyncClient)으로 파일 다운로드
+     * 반환한 결과를 컨트롤러에서 반환하면 Servlet 비동기 모드로 전송하여 전송 중 요청 스레드를 점유하지 않는다.
+     * 여러 Range, 디스크 캐시에 있는 파일, 저장 압축 사용 시 Range 요청이나 gzip 미지원 클라이언트는 동기 방식으로 처리한다.
+     * @param request http 요청 객체
+     * @param response http 응답 객체
      * @param fileKey 파일 식별자 (업로드경로 + 파일명)
+     * @return 전송 완료 결과 (컨트롤러에서 반환)
      * @throws ApiBizException 예외처리
      */
-    void downloadObject(HttpServletResponse response, String fileKey) throws ApiBizException;
+    CompletableFuture<Void> downloadObjectAsync(HttpServletRequest request, HttpServletResponse response, String fileKey) throws ApiBizException;
 
     /**
      * 파일을 다운로드하기 위한 임시 URL 생성
@@ -48,8 +90,17 @@ public interface S3Service {
      */
     String getPresignedUrl(String fileKey) throws ApiBizException;
 
+    /**
+     * 여러 파일을 다운로드하기 위한 임시 URL 일괄 생성
+     * @param fileKeyList 파일 식별자 목록
+     * @return 파일 식별자별 임시 URL
+     * @throws ApiBizException 예외 처리
+     */
+    Map<String, String> getPresignedUrlList(String[] fileKeyList) throws ApiBizException;
+
     /**
      * 스토리지에서 여러 파일을 zip으로 다운로드
+     * ZIP 조립은 요청 스레드에서 동기로 처리한다.
      * @param response http 응답 객체
      * @param fileKeyList 파일 식별자 목록
      * @throws ApiBizException 예외 처리
@@ -63,6 +114,65 @@ public interface S3Service {
      */
     void deleteObject(String fileKey) throws ApiBizException;
 
+    /**
+     * 스토리지에 저장된 여러 파일 일괄 삭제
+     * @param fileKeyList 삭제 대상 파일키 목록
+     * @return 삭제 결과 (실패한 파일 포함)
+     * @throws ApiBizException 예외 처리
+     */
+    S3DeleteResultVO deleteObjectList(String[] fileKeyList) throws ApiBizException;
+
+    /**
+     * 기관코드/일자 prefix 하위 파일 일괄 삭제
+     * @param instCd 삭제 대상 기관코드
+     * @param dateString 삭제 대상 일자(연 or 연월 or 연월일)
+     * @return 삭제 결과 (실패한 파일 포함)
+     * @throws ApiBizException 예외 처리
+     */
+    S3DeleteResultVO deletePrefix(String instCd, String dateString) throws ApiBizException;
+
+    /**
+     * 파일을 다른 기관코드/일자 경로로 복사 (스토리지 내부 복사)
+     * @param fileKey 복사할 파일키
+     * @param targetInstCd 대상 기관코드
+     * @param targetDateString 대상 일자(연월일, 없으면 원본 일자)
+     * @return 대상 파일 키
+     * @throws ApiBizException 예외 처리
+     */
+    String copyObject(String fileKey, String targetInstCd, String targetDateString) throws ApiBizException;
+
+    /**
+     * 파일을 다른 기관코드/일자 경로로 이동 (복사 후 원본 삭제)
+     * @param fileKey 이동할 파일키
+     * @param targetInstCd 대상 기관코드
+     * @param targetDateString 대상 일자(연월일, 없으면 원본 일자)
+     * @return 대상 파일 키
+     * @throws ApiBizException 예외 처리
+     */
+    String moveObject(String fileKey, String targetInstCd, String targetDateString) throws ApiBizException;
+
+    /**
+     * 기관코드/일자 prefix 하위 파일을 다른 기관코드/일자로 일괄 복사
+     * @param instCd 원본 기관코드
+     * @param dateString 원본 일자(연 or 연월 or 연월일)
+     * @param targetInstCd 대상 기관코드
+     * @param targetDateString 대상 일자 (없으면 원본 일자)
+     * @return 복사 결과 (실패한 파일 포함)
+     * @throws ApiBizException 예외 처리
+     */
+    S3CopyResultVO copyPrefix(String instCd, String dateString, String targetInstCd, String targetDateString) throws ApiBizException;
+
+    /**
+     * 기관코드/일자 prefix 하위 파일을 다른 기관코드/일자로 일괄 이동
+     * @param instCd 원본 기관코드
+     * @param dateString 원본 일자(연 or 연월 or 연월일)
+     * @param targetInstCd 대상 기관코드
+     * @param targetDateString 대상 일자 (없으면 원본 일자)
+     * @return 이동 결과 (실패한 파일 포함)
+     * @throws ApiBizException 예외 처리
+     */
+    S3CopyResultVO movePrefix(String instCd, String dateString, String targetInstCd, String targetDateString) throws ApiBizException;
+
     /**
      * 파일 정보 조회
      * @param fileKey 조회 대상 파일키
@@ -80,6 +190,26 @@ public interface S3Service {
      */
     List<S3VO> listObject(String instCd, String dateString) throws ApiBizException;
 
+    /**
+     * 저장된 S3 목록을 페이지 단위로 가져오기
+     * @param instCd 조회 대상 기관코드
+     * @param dateString 조회 대상 일자(연 or 연월 or 연월일)
+     * @param cursor 이전 페이지에서 받은 커서 (첫 페이지는 null)
+     * @param pageSize 페이지 크기
+     * @return 조회 결과와 다음 페이지 커서
+     * @throws ApiBizException 예외 처리
+     */
+    S3PageVO listObjectPage(String instCd, String dateString, String cursor, Integer pageSize) throws ApiBizException;
+
+    /**
+     * 저장된 S3 목록을 NDJSON으로 스트리밍 (S3 페이지를 받는 즉시 전송)
+     * @param response http 응답 객체
+     * @param instCd 조회 대상 기관코드
+     * @param dateString 조회 대상 일자(연 or 연월 or 연월일)
+     * @throws ApiBizException 예외 처리
+     */
+    void listObjectStream(HttpServletResponse response, String instCd, String dateString) throws ApiBizException;
+
     S3VO testMapper(S3VO vo);
 
 }
@@ -0,0 +1,194 @@
+package kr.go.hai.s3storage.service.impl;
+
+import jakarta.annotation.PreDestroy;
+import kr.go.hai.config.info.ConstantInfo;
+import kr.go.hai.config.info.S3Info;
+import kr.go.hai.s3storage.service.impl.vo.S3DeleteResultVO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.S3Error;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Consumer;
+
+/**
+ * 일괄 삭제 처리
+ * 파일 키를 1000건 단위로 묶어 DeleteObjects로 삭제하고, 여러 묶음을 동시에 처리한다.
+ *
+ * @author AX사업팀
+ * @version 1.0
+ * @since 2026.10.17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *   수정일        수정자            수정내용
+ * ----------    --------    ---------------------------
+ * 2026.10.17    양정숙        최초 생성
+ * </pre>
+ */
+@Slf4j
+@Component
+public class S3BatchDeleter {
+
+    private final S3Info s3Info;
+    private final S3Client s3Client;
+    private final ExecutorService executor;
+
+    public S3BatchDeleter(S3Info s3Info, S3Client s3Client, S3ExecutorFactory executorFactory) {
+        this.s3Info = s3Info;
+        this.s3Client = s3Client;
+
+        this.executor = executorFactory.newFixedThreadPool("s3-delete", s3Info.getDelete().getPoolSize());
+    }
+
+    /**
+     * 파일 목록 일괄 삭제
+     * @param fileKeyList 삭제 대상 파일 키
+     * @param onDeleted 삭제된 파일 키 후처리 (묶음 단위, 작업 스레드에서 호출)
+     * @return 삭제 결과
+     */
+    public S3DeleteResultVO delete(Collection<String> fileKeyList, Consumer<List<String>> onDeleted) {
+        try (Batch batch = new Batch(onDeleted)) {
+            List<String> keys = new ArrayList<>(ConstantInfo.S3_LIST_MAX_KEYS);
+            for (String fileKey : fileKeyList) {
+                keys.add(fileKey);
+                if (keys.size() == ConstantInfo.S3_LIST_MAX_KEYS) {
+                    batch.submit(keys);
+                    keys = new ArrayList<>(ConstantInfo.S3_LIST_MAX_KEYS);
+                }
+            }
+            if (!keys.isEmpty()) {
+                batch.submit(keys);
+            }
+            return batch.await();
+        }
+    }
+
+    /**
+     * prefix 하위 파일 일괄 삭제
+     * 목록 조회 페이지(1000건)를 받는 즉시 삭제 작업으로 넘겨 조회와 삭제를 동시에 진행한다.
+     * @param prefix 삭제 대상 prefix
+     * @param onDeleted 삭제된 파일 키 후처리 (묶음 단위, 작업 스레드에서 호출)
+     * @return 삭제 결과
+     */
+    public S3DeleteResultVO deletePrefix(String prefix, Consumer<List<String>> onDeleted) {
+        try (Batch batch = new Batch(onDeleted)) {
+            s3Client.listObjectsV2Paginator(req -> req
+                            .bucket(s3Info.getBucket())
+                            .prefix(prefix)
+                            .maxKeys(ConstantInfo.S3_LIST_MAX_KEYS))
+                    .forEach(page -> {
+                        if (!page.contents().isEmpty()) {
+                            batch.submit(page.contents().stream().map(S3Object::key).toList());
+                        }
+                    });
+            return batch.await();
+        }
+    }
+
+    /**
+     * DeleteObjects 호출 (quiet 모드 : 실패한 키만 응답)
+     * @param keys 삭제 대상 (최대 1000건)
+     * @param onDeleted 삭제된 파일 키 후처리
+     * @return 삭제 실패 목록
+     */
+    private List<S3DeleteResultVO.Error> deleteObjects(List<String> keys, Consumer<List<String>> onDeleted) {
+        List<S3DeleteResultVO.Error> errorList = new ArrayList<>();
+
+        try {
+            DeleteObjectsResponse response = s3Client.deleteObjects(req -> req
+                    .bucket(s3Info.getBucket())
+                    .delete(d -> d
+                            .quiet(true)
+                            .objects(keys.stream().map(key -> ObjectIdentifier.builder().key(key).build()).toList())));
+
+            for (S3Error s3Error : response.errors()) {
+                errorList.add(toError(s3Error.key(), s3Error.code(), s3Error.message()));
+            }
+        } catch (SdkException e) {
+            log.error("일괄 삭제 중 오류 발생", e);
+            keys.forEach(key -> errorList.add(toError(key, "RequestFailed", e.getMessage())));
+            return errorList;
+        }
+
+        Set<String> failed = new HashSet<>();
+        errorList.forEach(error -> failed.add(error.getFileKey()));
+        onDeleted.accept(failed.isEmpty() ? keys : keys.stream().filter(key -> !failed.contains(key)).toList());
+
+        return errorList;
+    }
+
+    private S3DeleteResultVO.Error toError(String fileKey, String code, String message) {
+        S3DeleteResultVO.Error error = new S3DeleteResultVO.Error();
+        error.setFileKey(fileKey);
+        error.setCode(code);
+        error.setMessage(message);
+        return error;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 요청 단위 삭제 작업 (동시 처리 묶음 수 제한)
+     */
+    private final class Batch implements AutoCloseable {
+        private final Consumer<List<String>> onDeleted;
+        private final Semaphore permits = new Semaphore(Math.max(1, s3Info.getDelete().getConcurrency()));
+        private final List<Future<List<S3DeleteResultVO.Error>>> futures = new ArrayList<>();
+        private long requested;
+
+        Batch(Consumer<List<String>> onDeleted) {
+            this.onDeleted = onDeleted;
+        }
+
+        void submit(List<String> keys) {
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CancellationException("일괄 삭제 중단");
+            }
+
+            requested += keys.size();
+            futures.add(executor.submit(() -> {
+                try {
+                    return deleteObjects(keys, onDeleted);
+                } finally {
+                    permits.release();
+                }
+            }));
+        }
+
+        S3DeleteResultVO await() {
+            S3DeleteResultVO result = new S3DeleteResultVO();
+            try {
+                for (Future<List<S3DeleteResultVO.Error>> future : futures) {
+                    result.getErrorList().addAll(future.get());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CancellationException("일괄 삭제 중단");
+            } catch (ExecutionException e) {
+                throw new CompletionException(e.getCause());
+            }
+
+            result.setDeletedCount(requested - result.getErrorList().size());
+            return result;
+        }
+
+        @Override
+        public void close() {
+            futures.forEach(future -> future.cancel(false));
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package kr.go.hai.s3storage.service.impl;
+
+import jakarta.annotation.PreDestroy;
+import kr.go.hai.config.info.S3Info;
+import kr.go.hai.s3storage.service.impl.vo.S3UploadResultVO;
+import kr.selim.msa.cmmn.exception.ApiBizException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.function.Function;
+
+/**
+ * 일괄 업로드 처리
+ * 요청 1건의 여러 파일을 동시 업로드 수 제한 안에서 병렬로 업로드하고, 파일별 결과(파일 키 또는 오류)를 요청 순서대로 반환한다.
+ *
+ * @author AX사업팀
+ * @version 1.0
+ * @since 2026.10.17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *   수정일        수정자            수정내용
+ * ----------    --------    ---------------------------
+ * 2026.10.17    양정숙        최초 생성
+ * </pre>
+ */
+@Slf4j
+@Component
+public class S3BatchUploader {
+
+    private final S3Info s3Info;
+    private final ExecutorService executor;
+
+    public S3BatchUploader(S3Info s3Info, S3ExecutorFactory executorFactory) {
+        this.s3Info = s3Info;
+
+        this.executor = executorFactory.newFixedThreadPool("s3-upload", s3Info.getUpload().getPoolSize());
+    }
+
+    /**
+     * 파일 목록 일괄 업로드
+     * 한 파일의 실패는 다른 파일 업로드에 영향을 주지 않는다.
+     * @param fileList 업로드 대상
+     * @param uploader 파일 1건 업로드 (파일 키 반환)
+     * @return 업로드 결과
+     */
+    public S3UploadResultVO upload(MultipartFile[] fileList, Function<MultipartFile, String> uploader) {
+        Semaphore permits = new Semaphore(Math.max(1, s3Info.getUpload().getConcurrency()));
+        List<Future<S3UploadResultVO.File>> futures = new ArrayList<>(fileList.length);
+
+        try {
+            for (MultipartFile file : fileList) {
+                permits.acquire();
+                futures.add(executor.submit(() -> {
+                    try {
+                        return uploadFile(file, uploader);
+                    } finally {
+                        permits.release();
+                    }
+                }));
+            }
+
+            S3UploadResultVO result = new S3UploadResultVO();
+            for (Future<S3UploadResultVO.File> future : futures) {
+                S3UploadResultVO.File file = future.get();
+                result.getFileList().add(file);
+                if (file.getFileKey() != null) {
+                    result.setUploadedCount(result.getUploadedCount() + 1);
+                }
+            }
+            return result;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("일괄 업로드 중단");
+        } catch (ExecutionException e) {
+            throw new CompletionException(e.getCause());
+        } finally {
+            futures.forEach(future -> future.cancel(false));
+        }
+    }
+
+    /**
+     * 파일 1건 업로드 (오류는 결과로 반환)
+     * @param file 업로드 대상
+     * @param uploader 파일 1건 업로드
+     * @return 업로드 결과
+     */
+    private S3UploadResultVO.File uploadFile(MultipartFile file, Function<MultipartFile, String> uploader) {
+        S3UploadResultVO.File result = new S3UploadResultVO.File();
+        result.setFilename(file.getOriginalFilename());
+
+        try {
+            result.setFileKey(uploader.apply(file));
+        } catch (ApiBizException e) {
+            result.setCode(e.getStatus() != null ? e.getStatus().name() : HttpStatus.INTERNAL_SERVER_ERROR.name());
+            result.setMessage(e.getMessage());
+        } catch (RuntimeException e) {
+            log.error("일괄 업로드 중 오류 발생 [{}]", file.getOriginalFilename(), e);
+            result.setCode(HttpStatus.INTERNAL_SERVER_ERROR.name());
+            result.setMessage("파일 업로드 실패");
+        }
+        return result;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
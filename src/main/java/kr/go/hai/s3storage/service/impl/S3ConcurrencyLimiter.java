@@ -0,0 +1,167 @@
+package kr.go.hai.s3storage.service.impl;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.go.hai.config.info.S3Info;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * S3 응답 시간 기반 동시 처리 한도 (Gradient 방식)
+ * S3 호출 응답 시간(첫 응답까지)의 단기/장기 이동 평균을 비교하여, 최근 응답이 기준보다 느려지면 한도를 줄이고
+ * 한도 가까이 사용 중이면서 응답이 빠르면 한도를 늘린다. S3 처리량 제한(503 SlowDown) 응답은 즉시 한도를 줄인다.
+ * 한도를 넘는 요청은 대기시키지 않고 바로 거절하며, 우선 기능은 다른 기능이 사용할 수 없는 한도(reservedRatio)를 사용할 수 있다.
+ * 사용하지 않을 때도 처리 중인 요청 수는 집계하므로, 처리 중에 설정이 바뀌어도 처리 권한 수가 어긋나지 않는다.
+ *
+ * @author AX사업팀
+ * @version 1.0
+ * @since 2026.10.17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *   수정일        수정자            수정내용
+ * ----------    --------    ---------------------------
+ * 2026.10.17    양정숙        최초 생성
+ * </pre>
+ */
+@Component
+public class S3ConcurrencyLimiter {
+
+    /** 한도 감소 시 최소 gradient (한 번에 절반 이하로 줄이지 않음) */
+    private static final double MIN_GRADIENT = 0.5;
+
+    private final S3Info s3Info;
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private volatile double limit;
+    private volatile double shortRtt;
+    private volatile double longRtt;
+
+    public S3ConcurrencyLimiter(S3Info s3Info, MeterRegistry meterRegistry) {
+        this.s3Info = s3Info;
+        this.limit = s3Info.getLimit().getInitialLimit();
+
+        Gauge.builder("s3.limit", this, limiter -> limiter.limit)
+                .description("동시 처리 한도")
+                .register(meterRegistry);
+        Gauge.builder("s3.limit.inflight", inflight, AtomicInteger::get)
+                .description("처리 중인 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("s3.limit.rtt", this, limiter -> limiter.shortRtt)
+                .description("S3 응답 시간 이동 평균")
+                .tag("window", "short")
+                .baseUnit("nanoseconds")
+                .register(meterRegistry);
+        Gauge.builder("s3.limit.rtt", this, limiter -> limiter.longRtt)
+                .description("S3 응답 시간 이동 평균")
+                .tag("window", "long")
+                .baseUnit("nanoseconds")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return s3Info.getLimit().isEnabled();
+    }
+
+    /**
+     * 처리 시작 (한도 초과 시 거절, 사용하지 않으면 항상 처리)
+     * @param priority 우선 기능 여부
+     * @return 처리 가능 여부 (true면 처리 후 release 호출)
+     */
+    public boolean tryAcquire(boolean priority) {
+        if (!isEnabled()) {
+            inflight.incrementAndGet();
+            return true;
+        }
+
+        int current = (int) limit;
+        int max = priority ? current : Math.max(1, (int) (current * (1 - s3Info.getLimit().getReservedRatio())));
+        while (true) {
+            int count = inflight.get();
+            if (count >= max) {
+                return false;
+            }
+            if (inflight.compareAndSet(count, count + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 처리 종료 (tryAcquire가 true를 반환한 요청마다 1회 호출)
+     */
+    public void release() {
+        inflight.decrementAndGet();
+    }
+
+    /**
+     * S3 응답 시간 반영
+     * @param rttNanos S3 호출 응답 시간
+     */
+    public void onSample(long rttNanos) {
+        if (!isEnabled() || rttNanos <= 0) {
+            return;
+        }
+
+        S3Info.Limit config = s3Info.getLimit();
+        lock.lock();
+        try {
+            if (longRtt == 0) {
+                shortRtt = rttNanos;
+                longRtt = rttNanos;
+            } else {
+                shortRtt += (rttNanos - shortRtt) * 2.0 / (config.getShortWindow() + 1);
+                longRtt += (rttNanos - longRtt) * 2.0 / (config.getLongWindow() + 1);
+            }
+
+            // 지연이 해소되면 기준 응답 시간도 빠르게 회복
+            if (longRtt > shortRtt * 2) {
+                longRtt *= 0.95;
+            }
+
+            // 한도를 충분히 사용하지 않는 동안에는 응답 시간이 한도와 무관하므로 조정하지 않음
+            if (inflight.get() < limit / 2) {
+                return;
+            }
+
+            double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, config.getTolerance() * longRtt / shortRtt));
+            double newLimit = limit * gradient + Math.sqrt(limit);
+            this.update(limit * (1 - config.getSmoothing()) + newLimit * config.getSmoothing());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * S3 처리량 제한(503 SlowDown) 응답 반영
+     */
+    public void onThrottled() {
+        if (!isEnabled()) {
+            return;
+        }
+
+        lock.lock();
+        try {
+            this.update(limit * s3Info.getLimit().getBackoffRatio());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void update(double newLimit) {
+        S3Info.Limit config = s3Info.getLimit();
+        limit = Math.max(config.getMinLimit(), Math.min(config.getMaxLimit(), newLimit));
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInflight() {
+        return inflight.get();
+    }
+}
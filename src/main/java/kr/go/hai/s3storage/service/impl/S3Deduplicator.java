@@ -0,0 +1,446 @@
+package kr.go.hai.s3storage.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.go.hai.config.info.S3Info;
+import kr.go.hai.s3storage.mapper.S3Mapper;
+import kr.go.hai.s3storage.service.impl.vo.S3DedupVO;
+import kr.go.hai.s3storage.service.impl.vo.S3VO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * 업로드 중복 제거
+ * 같은 내용(SHA-256, 크기)의 파일은 원본 1건만 스토리지에 저장하고, 이후 업로드는 원본을 가리키는 참조로 등록한다.
+ * 참조 파일은 조회/다운로드 시 원본 키로 바꾸어 읽고, 삭제 시 참조 수만 줄인다.
+ * 참조 파일은 스토리지 목록에 없으므로 목록 조회 시 참조 목록(refObjects)을 함께 병합한다.
+ * 원본을 삭제할 때 참조가 남아 있으면(참조 수 2 이상) 참조 파일 하나로 스토리지 내부 복사한 뒤 새 원본으로 교체한다.
+ * 참조 등록/삭제와 원본 교체는 원본 행을 잠근(SELECT ... FOR UPDATE) 별도 트랜잭션에서 처리하여,
+ * 원본 교체 중 등록된 참조가 삭제될 원본을 가리키지 않도록 한다.
+ * 원본 키는 다른 서버의 원본 교체로 바뀔 수 있으므로 참조 파일은 매번 DB에서 조회하고, 참조가 아닌 파일만 캐시한다.
+ *
+ * @author AX사업팀
+ * @version 1.0
+ * @since 2026.10.17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *   수정일        수정자            수정내용
+ * ----------    --------    ---------------------------
+ * 2026.10.17    양정숙        최초 생성
+ * </pre>
+ */
+@Slf4j
+@Component
+public class S3Deduplicator {
+
+    private static final String ALGORITHM = "SHA-256";
+
+    private final S3Info s3Info;
+    private final S3Client s3Client;
+    private final S3Mapper s3Mapper;
+    private final TransactionTemplate transaction;
+    private final S3ObjectMetadataCache s3ObjectMetadataCache;
+    private final S3PresignedUrlCache s3PresignedUrlCache;
+
+    /** 참조가 아닌 파일 키 (원본 키 조회 생략, 참조 파일은 원본 교체를 바로 반영하도록 보관하지 않음) */
+    private final Cache<String, Boolean> plainKeys;
+
+    private final Counter hit;
+    private final Counter miss;
+    private final Counter savedBytes;
+
+    public S3Deduplicator(S3Info s3Info, S3Client s3Client, S3Mapper s3Mapper, PlatformTransactionManager transactionManager,
+                          S3ObjectMetadataCache s3ObjectMetadataCache, S3PresignedUrlCache s3PresignedUrlCache,
+                          MeterRegistry meterRegistry) {
+        this.s3Info = s3Info;
+        this.s3Client = s3Client;
+        this.s3Mapper = s3Mapper;
+        this.s3ObjectMetadataCache = s3ObjectMetadataCache;
+        this.s3PresignedUrlCache = s3PresignedUrlCache;
+
+        // 서비스 트랜잭션과 관계없이 행 잠금 구간을 짧게 유지
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.plainKeys = Caffeine.newBuilder()
+                .maximumSize(s3Info.getDedup().getCacheMaximumSize())
+                .expireAfterWrite(s3Info.getDedup().getCacheTtl())
+                .build();
+
+        this.hit = Counter.builder("s3.dedup").description("중복 제거 업로드 수").tag("result", "hit").register(meterRegistry);
+        this.miss = Counter.builder("s3.dedup").description("중복 제거 업로드 수").tag("result", "miss").register(meterRegistry);
+        this.savedBytes = Counter.builder("s3.dedup.saved").description("중복 제거로 저장하지 않은 바이트")
+                .baseUnit("bytes").register(meterRegistry);
+    }
+
+    /**
+     * 중복 제거 사용 여부
+     * @return 사용하면 true
+     */
+    public boolean isEnabled() {
+        return s3Info.getDedup().isEnabled();
+    }
+
+    /**
+     * 내용 해시 계산기 생성
+     * @return SHA-256 MessageDigest
+     */
+    public MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 내용 해시 계산 (스트림을 끝까지 읽고 닫음)
+     * @param in 파일 스트림
+     * @return 내용 해시 (hex)
+     * @throws IOException 읽기 실패
+     */
+    public String hash(InputStream in) throws IOException {
+        MessageDigest digest = newDigest();
+        try (DigestInputStream digestIn = new DigestInputStream(in, digest)) {
+            digestIn.transferTo(OutputStream.nullOutputStream());
+        }
+        return toHex(digest);
+    }
+
+    /**
+     * 계산된 내용 해시 (hex)
+     * @param digest 파일을 모두 읽은 MessageDigest
+     * @return 내용 해시
+     */
+    public String toHex(MessageDigest digest) {
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * 같은 내용의 원본이 있으면 참조로 등록
+     * @param fileKey 업로드 파일 키
+     * @param contentHash 내용 해시
+     * @param size 파일 크기
+     * @return 원본 ETag (원본이 없으면 null)
+     */
+    public String link(String fileKey, String contentHash, long size) {
+        S3DedupVO origin;
+        try {
+            // 원본 행을 잠가 원본 교체/삭제(promote)가 끝난 뒤의 원본만 참조
+            origin = transaction.execute(status -> {
+                S3DedupVO locked = s3Mapper.selectDedupObjectForUpdate(contentHash);
+                if (locked == null || locked.getSize() != size) {
+                    return null;
+                }
+
+                locked.setFileKey(fileKey);
+                s3Mapper.insertDedupRef(locked);
+                s3Mapper.increaseDedupRefCount(locked);
+                return locked;
+            });
+        } catch (DataAccessException | TransactionException e) {
+            log.error("중복 제거 참조 등록 실패 [{}]", fileKey, e);
+            return null;
+        }
+
+        if (origin == null) {
+            miss.increment();
+            return null;
+        }
+
+        plainKeys.invalidate(fileKey);
+        hit.increment();
+        savedBytes.increment(size);
+        return origin.getETag();
+    }
+
+    /**
+     * 업로드된 파일을 원본으로 등록
+     * 등록 실패(동시 업로드 등)는 업로드를 실패시키지 않으며, 해당 파일은 중복 제거 대상에서 제외된다.
+     * @param fileKey 파일 키
+     * @param contentHash 내용 해시 (null이면 등록하지 않음)
+     * @param size 파일 크기
+     * @param eTag ETag
+     */
+    public void register(String fileKey, String contentHash, long size, String eTag) {
+        if (contentHash == null) {
+            return;
+        }
+
+        S3DedupVO origin = new S3DedupVO();
+        origin.setContentHash(contentHash);
+        origin.setOriginFileKey(fileKey);
+        origin.setSize(size);
+        origin.setETag(eTag);
+        try {
+            s3Mapper.insertDedupObject(origin);
+        } catch (DuplicateKeyException e) {
+            log.debug("같은 내용의 원본이 이미 등록됨 [{}]", fileKey);
+        } catch (DataAccessException e) {
+            log.error("중복 제거 원본 등록 실패 [{}]", fileKey, e);
+        }
+    }
+
+    /**
+     * 업로드 후 중복 제거 (업로드 중 계산한 해시로 원본이 있으면 업로드한 파일을 지우고 참조로 등록)
+     * 스트림 업로드는 본문을 한 번만 읽을 수 있어 해시를 미리 계산할 수 없으므로, 중복 파일도 업로드 전송과 저장은 일어나고
+     * 저장 공간만 절약된다. (업로드 전송까지 줄이려면 파일 업로드(uploadObject)를 사용)
+     * @param fileKey 파일 키
+     * @param contentHash 내용 해시 (null이면 처리하지 않음)
+     * @param size 파일 크기
+     * @param eTag 업로드한 파일 ETag
+     * @return 파일 ETag (참조로 등록되면 원본 ETag)
+     */
+    public String deduplicate(String fileKey, String contentHash, long size, String eTag) {
+        if (contentHash == null) {
+            return eTag;
+        }
+
+        String originETag = this.link(fileKey, contentHash, size);
+        if (originETag == null) {
+            this.register(fileKey, contentHash, size, eTag);
+            return eTag;
+        }
+
+        try {
+            s3Client.deleteObject(req -> req.bucket(s3Info.getBucket()).key(fileKey));
+        } catch (S3Exception e) {
+            log.warn("중복 업로드 파일 삭제 실패 [{}]", fileKey, e);
+        }
+        return originETag;
+    }
+
+    /**
+     * 파일 복사 시 같은 원본을 가리키는 참조로 등록 (스토리지 복사 불필요)
+     * @param fileKey 복사할 파일 키 (원본 또는 참조 파일)
+     * @param targetKey 대상 파일 키
+     * @return 원본 ETag (중복 제거 대상이 아니면 null)
+     */
+    public String linkCopy(String fileKey, String targetKey) {
+        if (!isEnabled()) {
+            return null;
+        }
+
+        S3DedupVO source;
+        try {
+            source = s3Mapper.selectDedupRef(fileKey);
+            if (source == null) {
+                source = s3Mapper.selectDedupObjectByOrigin(fileKey);
+            }
+        } catch (DataAccessException e) {
+            log.error("중복 제거 원본 조회 실패 [{}]", fileKey, e);
+            return null;
+        }
+        return source != null ? this.link(targetKey, source.getContentHash(), source.getSize()) : null;
+    }
+
+    /**
+     * prefix 하위 참조 파일 목록 (스토리지 목록에 나타나지 않는 파일)
+     * @param prefix 조회 대상 prefix
+     * @return 참조 파일 키
+     */
+    public List<String> refKeys(String prefix) {
+        if (!isEnabled()) {
+            return List.of();
+        }
+
+        S3DedupVO condition = new S3DedupVO();
+        condition.setPrefix(S3ObjectIndexer.escapeLike(prefix));
+        return s3Mapper.selectDedupRefList(condition).stream().map(S3DedupVO::getFileKey).toList();
+    }
+
+    /**
+     * prefix 하위 참조 파일 정보 (목록 조회 병합용, 크기/ETag는 원본 기준, 최종 수정일은 참조 등록 일시)
+     * @param prefix 조회 대상 prefix
+     * @param startAfter 조회 구간 시작 파일 키 (제외, 없으면 null)
+     * @param endAt 조회 구간 끝 파일 키 (포함, 없으면 null)
+     * @return 참조 파일 정보 (파일 키 순)
+     */
+    public List<S3VO> refObjects(String prefix, String startAfter, String endAt) {
+        if (!isEnabled()) {
+            return List.of();
+        }
+
+        S3DedupVO condition = new S3DedupVO();
+        condition.setPrefix(S3ObjectIndexer.escapeLike(prefix));
+        condition.setStartAfter(startAfter);
+        condition.setEndAt(endAt);
+        return s3Mapper.selectDedupRefList(condition).stream()
+                .map(ref -> S3ObjectIndexer.toS3VO(ref.getFileKey(), ref.getSize(), ref.getETag(), ref.getRegisteredAt()))
+                .toList();
+    }
+
+    /**
+     * 스토리지 키 조회 (참조 파일은 원본 키)
+     * @param fileKey 파일 키
+     * @return 스토리지 키
+     */
+    public String resolve(String fileKey) {
+        if (!isEnabled() || fileKey == null) {
+            return fileKey;
+        }
+
+        // 캐시 잠금 안에서 DB를 조회하지 않도록 조회 후 보관 (DB 지연 시 다른 키 조회까지 대기하지 않음)
+        if (plainKeys.getIfPresent(fileKey) != null) {
+            return fileKey;
+        }
+
+        try {
+            S3DedupVO ref = s3Mapper.selectDedupRef(fileKey);
+            if (ref == null) {
+                plainKeys.put(fileKey, Boolean.TRUE);
+                return fileKey;
+            }
+            return ref.getOriginFileKey();
+        } catch (DataAccessException e) {
+            log.error("중복 제거 원본 조회 실패 [{}]", fileKey, e);
+            return fileKey;
+        }
+    }
+
+    /**
+     * 파일 삭제 전처리
+     * 참조 파일은 참조만 삭제하고, 참조가 남은 원본은 참조 파일 하나를 새 원본으로 교체한다.
+     * @param fileKeys 삭제 대상 파일 키
+     * @return 참조만 삭제한 파일 키 (스토리지 삭제 불필요)
+     */
+    public List<String> release(Collection<String> fileKeys) {
+        if (!isEnabled()) {
+            return List.of();
+        }
+
+        // 함께 삭제되는 참조를 먼저 정리해야 원본 교체 대상에서 제외된다.
+        List<String> released = new ArrayList<>();
+        List<String> others = new ArrayList<>();
+        for (String fileKey : fileKeys) {
+            S3DedupVO ref = s3Mapper.selectDedupRef(fileKey);
+            if (ref != null) {
+                this.unlink(ref);
+                released.add(fileKey);
+            } else {
+                others.add(fileKey);
+            }
+        }
+
+        for (String fileKey : others) {
+            S3DedupVO origin = s3Mapper.selectDedupObjectByOrigin(fileKey);
+            if (origin != null) {
+                this.promote(origin);
+            }
+        }
+        return released;
+    }
+
+    /**
+     * prefix 하위 파일 삭제 전처리 (release와 동일)
+     * @param prefix 삭제 대상 prefix
+     * @return 참조만 삭제한 파일 키
+     */
+    public List<String> releasePrefix(String prefix) {
+        if (!isEnabled()) {
+            return List.of();
+        }
+
+        S3DedupVO condition = new S3DedupVO();
+        condition.setPrefix(S3ObjectIndexer.escapeLike(prefix));
+
+        List<String> released = new ArrayList<>();
+        for (S3DedupVO ref : s3Mapper.selectDedupRefList(condition)) {
+            this.unlink(ref);
+            released.add(ref.getFileKey());
+        }
+        for (S3DedupVO origin : s3Mapper.selectDedupObjectList(condition)) {
+            this.promote(origin);
+        }
+        return released;
+    }
+
+    /**
+     * 참조 삭제
+     * @param ref 참조 정보
+     */
+    private void unlink(S3DedupVO ref) {
+        transaction.executeWithoutResult(status -> {
+            s3Mapper.selectDedupObjectForUpdate(ref.getContentHash());
+
+            // 동시에 삭제된 참조는 참조 수를 다시 줄이지 않음
+            if (s3Mapper.deleteDedupRef(ref.getFileKey()) > 0) {
+                S3DedupVO origin = new S3DedupVO();
+                origin.setContentHash(ref.getContentHash());
+                s3Mapper.decreaseDedupRefCount(origin);
+            }
+        });
+        plainKeys.invalidate(ref.getFileKey());
+    }
+
+    /**
+     * 원본 삭제 전 참조 파일 하나를 새 원본으로 교체 (참조 수가 1(원본만)이면 원본 정보 삭제)
+     * 원본 행을 잠근 상태에서 참조 목록을 조회하므로, 교체가 끝날 때까지 새 참조는 등록되지 않는다.
+     * @param origin 원본 정보
+     */
+    private void promote(S3DedupVO origin) {
+        List<String> refKeys = transaction.execute(status -> {
+            S3DedupVO locked = s3Mapper.selectDedupObjectForUpdate(origin.getContentHash());
+            // 다른 요청이 이미 교체/삭제한 원본
+            if (locked == null || !origin.getOriginFileKey().equals(locked.getOriginFileKey())) {
+                return List.<String>of();
+            }
+
+            // 참조 수(원본 포함)로 참조가 없는 원본은 참조 목록 조회 없이 삭제
+            List<String> keys = locked.getRefCount() > 1 ? s3Mapper.selectDedupRefKeyList(locked.getContentHash()) : List.of();
+            if (keys.isEmpty()) {
+                s3Mapper.deleteDedupObject(locked.getContentHash());
+                return keys;
+            }
+
+            String target = keys.get(0);
+            String eTag = s3Client.copyObject(req -> req
+                            .sourceBucket(s3Info.getBucket())
+                            .sourceKey(locked.getOriginFileKey())
+                            .destinationBucket(s3Info.getBucket())
+                            .destinationKey(target))
+                    .copyObjectResult()
+                    .eTag();
+
+            s3Mapper.deleteDedupRef(target);
+            s3Mapper.decreaseDedupRefCount(locked);
+
+            S3DedupVO promoted = new S3DedupVO();
+            promoted.setContentHash(locked.getContentHash());
+            promoted.setOriginFileKey(target);
+            promoted.setETag(eTag);
+            s3Mapper.updateDedupOrigin(promoted);
+
+            log.info("중복 제거 원본 교체 [{}] -> [{}]", locked.getOriginFileKey(), target);
+            return keys;
+        });
+
+        // 원본 키가 바뀐 참조 파일의 캐시 정리 (이전 원본 키로 서명된 URL 등)
+        for (String refKey : refKeys) {
+            s3ObjectMetadataCache.invalidate(refKey);
+            s3PresignedUrlCache.invalidate(refKey);
+        }
+    }
+}
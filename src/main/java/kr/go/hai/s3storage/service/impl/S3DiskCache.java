@@ -0,0 +1,316 @@
+package kr.go.hai.s3storage.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import kr.go.hai.config.info.S3Info;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * 다운로드 디스크 캐시
+ * S3에서 받은 파일을 응답으로 보내면서 로컬 디스크에 함께 저장하고, 다음 요청은 디스크 파일을 그대로 전송한다.
+ * 크기 한도(W-TinyLFU)를 넘으면 사용 빈도가 낮은 파일부터 정리하고, 이 서버의 업로드/삭제 시 제거한다.
+ * 다른 서버의 덮어쓰기(복사, 이동)와 삭제는 전송 전 현재 ETag와 비교하여 걸러내고, 저장 후 maxAge가 지나면 만료하여 S3에서 다시 받는다.
+ *
+ * @author AX사업팀
+ * @version 1.0
+ * @since 2026.10.17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *   수정일        수정자            수정내용
+ * ----------    --------    ---------------------------
+ * 2026.10.17    양정숙        최초 생성
+ * </pre>
+ */
+@Slf4j
+@Component
+public class S3DiskCache {
+
+    /** Tomcat sendfile 요청 속성 (커널에서 파일을 소켓으로 바로 전송) */
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private static final String TEMP_SUFFIX = ".part";
+    private static final String CACHE_SUFFIX = ".cache";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final S3Info.DiskCache config;
+    private final Path directory;
+    private final Cache<String, Entry> cache;
+
+    /** 저장 중인 파일 (저장 도중 제거되면 저장 결과를 버린다) */
+    private final ConcurrentMap<String, Object> writing = new ConcurrentHashMap<>();
+
+    public S3DiskCache(S3Info s3Info, MeterRegistry meterRegistry) {
+        this.config = s3Info.getDiskCache();
+        this.directory = Paths.get(config.getDirectory());
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(Math.max(1, config.getMaxSize().toKilobytes()))
+                .weigher((String fileKey, Entry entry) -> (int) Math.min(Integer.MAX_VALUE, Math.max(1, entry.size() / 1024)))
+                .expireAfterWrite(config.getMaxAge())
+                .removalListener((String fileKey, Entry entry, RemovalCause cause) -> {
+                    if (entry != null) {
+                        this.deleteLater(entry.path());
+                    }
+                })
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "s3.disk");
+    }
+
+    /**
+     * 캐시 경로 생성 및 이전 실행에서 남은 캐시 파일 삭제 (색인은 메모리에만 유지)
+     * @throws IOException 경로 생성 실패
+     */
+    @PostConstruct
+    void init() throws IOException {
+        if (!config.isEnabled()) {
+            return;
+        }
+
+        Files.createDirectories(directory);
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(path -> path.toString().endsWith(TEMP_SUFFIX) || path.toString().endsWith(CACHE_SUFFIX))
+                    .forEach(this::delete);
+        }
+    }
+
+    public boolean isEnabled() {
+        return config.isEnabled();
+    }
+
+    /**
+     * 캐시 저장 대상 여부
+     * @param contentLength 파일 크기
+     * @return 저장 대상이면 true
+     */
+    public boolean isCacheable(Long contentLength) {
+        return config.isEnabled() && contentLength != null && contentLength >= 0
+                && contentLength <= config.getMaxObjectSize().toBytes();
+    }
+
+    /**
+     * 캐시 파일 조회
+     * @param fileKey 파일 키
+     * @return 캐시 파일 (없으면 empty)
+     */
+    public Optional<Entry> get(String fileKey) {
+        if (!config.isEnabled()) {
+            return Optional.empty();
+        }
+
+        Entry entry = cache.getIfPresent(fileKey);
+        if (entry != null && !Files.isReadable(entry.path())) {
+            cache.invalidate(fileKey);
+            return Optional.empty();
+        }
+        return Optional.ofNullable(entry);
+    }
+
+    /**
+     * 캐시 파일 조회 (ETag 재검증)
+     * 현재 ETag와 다르거나 파일이 없으면(다른 서버에서 덮어쓰거나 삭제) 캐시 파일을 제거한다.
+     * @param fileKey 파일 키
+     * @param currentETag 현재 ETag 조회 (파일이 없으면 Optional.empty(), 캐시 파일이 있을 때만 호출)
+     * @return 캐시 파일 (없거나 변경되었으면 empty)
+     */
+    public Optional<Entry> get(String fileKey, Function<String, Optional<String>> currentETag) {
+        Optional<Entry> entry = this.get(fileKey);
+        if (entry.isEmpty() || currentETag.apply(fileKey).filter(eTag -> eTag.equals(entry.get().eTag())).isPresent()) {
+            return entry;
+        }
+
+        log.debug("디스크 캐시 파일 변경 : {}", fileKey);
+        cache.asMap().remove(fileKey, entry.get());
+        return Optional.empty();
+    }
+
+    /**
+     * S3 응답을 http 응답으로 전송하면서 캐시 파일로 저장
+     * 디스크 저장에 실패해도 응답 전송은 계속한다.
+     * @param fileKey 파일 키
+     * @param object S3 응답
+     * @param in S3 응답 본문
+     * @param out http 응답 본문
+     * @return 전송한 바이트 수
+     * @throws IOException 응답 전송 실패
+     */
+    public long write(String fileKey, GetObjectResponse object, InputStream in, OutputStream out) throws IOException {
+        Object token = new Object();
+        writing.put(fileKey, token);
+
+        Path temp = null;
+        OutputStream file = null;
+        try {
+            temp = Files.createTempFile(directory, "s3-", TEMP_SUFFIX);
+            file = Files.newOutputStream(temp);
+        } catch (IOException e) {
+            log.warn("디스크 캐시 파일 생성 실패 : {}", e.getMessage());
+        }
+
+        long total = 0;
+        try {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+                total += read;
+
+                if (file != null) {
+                    try {
+                        file.write(buffer, 0, read);
+                    } catch (IOException e) {
+                        log.warn("디스크 캐시 저장 실패 : {}", e.getMessage());
+                        file = close(file);
+                    }
+                }
+            }
+
+            boolean complete = file != null && total == object.contentLength();
+            file = close(file);
+            if (complete && writing.remove(fileKey, token)) {
+                Path target = directory.resolve(temp.getFileName().toString().replace(TEMP_SUFFIX, CACHE_SUFFIX));
+                try {
+                    Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+                    temp = null;
+                    cache.put(fileKey, new Entry(target, total, object.contentType(), object.contentEncoding(),
+                            S3StorageCodec.originalLength(object.metadata()), object.eTag(), object.lastModified()));
+                } catch (IOException e) {
+                    log.warn("디스크 캐시 저장 실패 : {}", e.getMessage());
+                }
+            }
+        } finally {
+            writing.remove(fileKey, token);
+            close(file);
+            if (temp != null) {
+                this.delete(temp);
+            }
+        }
+        return total;
+    }
+
+    /**
+     * 캐시 파일 구간 전송
+     * Tomcat sendfile을 지원하면 요청 속성으로 전송을 위임하고, 아니면 FileChannel.transferTo로 전송한다.
+     * @param entry 캐시 파일
+     * @param request http 요청
+     * @param response http 응답 (헤더 세팅 완료)
+     * @param start 시작 위치
+     * @param count 전송 바이트 수
+     * @throws IOException 전송 실패
+     */
+    public void transferTo(Entry entry, HttpServletRequest request, HttpServletResponse response, long start, long count) throws IOException {
+        if (count > 0 && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, entry.path().toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, start + count);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(entry.path(), StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long end = start + count;
+            while (position < end) {
+                long transferred = channel.transferTo(position, end - position, target);
+                if (transferred <= 0) {
+                    break;
+                }
+                position += transferred;
+            }
+        }
+        response.flushBuffer();
+    }
+
+    /**
+     * 캐시 파일 읽기 (압축 저장 파일 압축 해제 전송)
+     * @param entry 캐시 파일
+     * @return 파일 입력 스트림
+     * @throws IOException 파일 열기 실패
+     */
+    public InputStream newInputStream(Entry entry) throws IOException {
+        return Files.newInputStream(entry.path());
+    }
+
+    /**
+     * 캐시 파일 제거 (업로드, 삭제 시)
+     * @param fileKey 파일 키
+     */
+    public void invalidate(String fileKey) {
+        if (!config.isEnabled()) {
+            return;
+        }
+        writing.remove(fileKey);
+        cache.invalidate(fileKey);
+    }
+
+    private void deleteLater(Path path) {
+        CompletableFuture.runAsync(() -> this.delete(path),
+                CompletableFuture.delayedExecutor(config.getDeleteDelay().toMillis(), TimeUnit.MILLISECONDS));
+    }
+
+    private void delete(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("디스크 캐시 파일 삭제 실패 : {}", path, e);
+        }
+    }
+
+    private static OutputStream close(OutputStream file) {
+        if (file != null) {
+            try {
+                file.close();
+            } catch (IOException e) {
+                log.warn("디스크 캐시 파일 닫기 실패 : {}", e.getMessage());
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 캐시 파일 정보
+     * @param path 파일 경로
+     * @param size 파일 크기
+     * @param contentType 파일 유형
+     * @param contentEncoding 압축 방식 (압축 저장 파일)
+     * @param originalLength 압축 전 크기 (모르면 null)
+     * @param eTag ETag
+     * @param lastModified 최종 수정일
+     */
+    public record Entry(Path path, long size, String contentType, String contentEncoding, Long originalLength,
+                        String eTag, Instant lastModified) {
+    }
+}
@@ -0,0 +1,93 @@
+package kr.go.hai.s3storage.service.impl;
+
+import kr.go.hai.config.info.S3Info;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.system.JavaVersion;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * S3 작업용 Thread Pool 생성
+ * 기능별 pool-size 만큼만 동시에 실행하여 S3 연결 수와 호출량을 제한하며, 스레드 이름으로 기능을 구분한다.
+ * s3.executor.virtual=true 또는 spring.threads.virtual.enabled=true 이면 가상 스레드(Virtual Thread)로 작업을 수행한다.
+ * 빌드는 Java 17 기준이므로 가상 스레드는 Java 21 이상 런타임에서 실행할 때만 적용되며, 그 외에는 플랫폼 스레드를 사용한다.
+ * 가상 스레드에서도 pool-size 만큼만 동시에 실행한다.
+ *
+ * @author AX사업팀
+ * @version 1.0
+ * @since 2026.10.17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *   수정일        수정자            수정내용
+ * ----------    --------    ---------------------------
+ * 2026.10.17    양정숙        최초 생성
+ * </pre>
+ */
+@Slf4j
+@Component
+public class S3ExecutorFactory {
+
+    private final boolean virtual;
+
+    @Autowired
+    public S3ExecutorFactory(S3Info s3Info, Environment environment) {
+        this(s3Info.getExecutor().isVirtual() || Threading.VIRTUAL.isActive(environment));
+    }
+
+    /**
+     * 플랫폼 스레드로 작업 수행
+     */
+    public S3ExecutorFactory() {
+        this(false);
+    }
+
+    S3ExecutorFactory(boolean virtual) {
+        boolean supported = JavaVersion.getJavaVersion().isEqualOrNewerThan(JavaVersion.TWENTY_ONE);
+        if (virtual && !supported) {
+            log.warn("가상 스레드는 Java 21 이상에서만 사용할 수 있어 플랫폼 스레드를 사용합니다. (현재 Java {})", JavaVersion.getJavaVersion());
+        }
+        this.virtual = virtual && supported;
+        log.info("S3 작업 스레드 : {}", this.virtual ? "가상 스레드" : "플랫폼 스레드");
+    }
+
+    /**
+     * 가상 스레드 사용 여부
+     * @return 가상 스레드로 실행하면 true
+     */
+    public boolean isVirtual() {
+        return virtual;
+    }
+
+    /**
+     * 고정 크기 Thread Pool 생성
+     * @param name 스레드 이름 (s3-zip 등)
+     * @param poolSize 동시 실행 수
+     * @return Thread Pool
+     */
+    public ExecutorService newFixedThreadPool(String name, int poolSize) {
+        return Executors.newFixedThreadPool(Math.max(1, poolSize), threadFactory(name + "-"));
+    }
+
+    private ThreadFactory threadFactory(String prefix) {
+        if (virtual) {
+            return new VirtualThreadTaskExecutor(prefix).getVirtualThreadFactory();
+        }
+
+        AtomicInteger threadSeq = new AtomicInteger();
+        return r -> {
+            Thread thread = new Thread(r, prefix + threadSeq.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,256 @@
+package kr.go.hai.s3storage.service.impl;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import jakarta.annotation.PreDestroy;
+import kr.go.hai.config.info.S3Info;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+
+import java.time.Duration;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 조회 요청 Hedging (GetObject, HeadObject)
+ * 요청이 최근 응답 시간의 상위 분위수(기본 p95)를 넘도록 응답이 없으면 같은 요청을 한 번 더 보내고, 먼저 도착한 응답을 사용한다.
+ * 지연 시간은 원 요청이 Thread Pool에서 실제로 시작된 시점부터 계산하므로, Pool 대기만으로는 추가 요청을 보내지 않는다.
+ * 늦게 도착한 응답은 연결을 끊어 버리고 진행 중인 요청은 중단한다.
+ * 추가 요청은 원 요청 수 대비 예산(budgetPercent) 안에서만 보내므로 S3 장애로 모든 요청이 느려져도 부하가 예산 이상 늘지 않는다.
+ *
+ * @author AX사업팀
+ * @version 1.0
+ * @since 2026.10.17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *   수정일        수정자            수정내용
+ * ----------    --------    ---------------------------
+ * 2026.10.17    양정숙        최초 생성
+ * </pre>
+ */
+@Component
+public class S3Hedger {
+
+    /** 예산 단위 (추가 요청 1건) */
+    private static final long CREDIT = 1000;
+
+    /** 지연 기준 갱신 주기 */
+    private static final long REFRESH_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final S3Info s3Info;
+    private final S3Client s3Client;
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService executor;
+    private final AtomicLong credits = new AtomicLong();
+
+    private final Operation get;
+    private final Operation head;
+
+    public S3Hedger(S3Info s3Info, S3Client s3Client, MeterRegistry meterRegistry, S3ExecutorFactory executorFactory) {
+        this.s3Info = s3Info;
+        this.s3Client = s3Client;
+        this.meterRegistry = meterRegistry;
+        this.get = new Operation("getObject");
+        this.head = new Operation("headObject");
+
+        this.executor = executorFactory.newFixedThreadPool("s3-hedge", s3Info.getHedge().getPoolSize());
+    }
+
+    public boolean isEnabled() {
+        return s3Info.getHedge().isEnabled();
+    }
+
+    /**
+     * 파일 다운로드
+     * @param request S3 요청
+     * @return S3 응답 (먼저 도착한 응답)
+     */
+    public ResponseInputStream<GetObjectResponse> getObject(GetObjectRequest request) {
+        return this.hedge(get, () -> s3Client.getObject(request), ResponseInputStream::abort);
+    }
+
+    /**
+     * 파일 정보 조회
+     * @param request S3 요청
+     * @return S3 응답 (먼저 도착한 응답)
+     */
+    public HeadObjectResponse headObject(HeadObjectRequest request) {
+        return this.hedge(head, () -> s3Client.headObject(request), response -> {});
+    }
+
+    /**
+     * 원 요청을 보내고 원 요청 시작 후 지연 기준까지 응답이 없으면 예산 안에서 추가 요청
+     * 한 요청이 실패해도 다른 요청이 진행 중이면 그 결과를 기다리며, 모두 실패하면 마지막 오류를 던진다.
+     * @param operation 기능별 응답 시간, 지표
+     * @param call S3 호출
+     * @param discard 늦게 도착한 응답 정리
+     * @return 먼저 도착한 응답
+     */
+    private <T> T hedge(Operation operation, Supplier<T> call, Consumer<T> discard) {
+        if (!isEnabled()) {
+            return call.get();
+        }
+
+        S3Info.Hedge config = s3Info.getHedge();
+        long maxCredits = CREDIT * Math.max(1, config.getMaxBurst());
+        credits.getAndUpdate(c -> Math.min(maxCredits, c + (long) (CREDIT * config.getBudgetPercent() / 100)));
+
+        CompletableFuture<T> result = new CompletableFuture<>();
+        CompletableFuture<Long> started = new CompletableFuture<>();
+        AtomicInteger pending = new AtomicInteger(1);
+        Future<?> primary = executor.submit(() -> attempt(operation, call, discard, result, pending, started));
+        Future<?> hedged = null;
+        try {
+            try {
+                long elapsed = System.nanoTime() - started.get();
+                return result.get(Math.max(0, operation.delayNanos() - elapsed), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                if (!result.isDone() && acquireCredit()) {
+                    operation.sent.increment();
+                    pending.incrementAndGet();
+                    hedged = executor.submit(() -> attempt(operation, call, discard, result, pending, null));
+                } else {
+                    operation.exhausted.increment();
+                }
+            }
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("S3 조회 중단");
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : new CompletionException(e.getCause());
+        } finally {
+            // 진행 중인 나머지 요청 중단 (응답이 도착한 요청은 attempt에서 정리)
+            primary.cancel(true);
+            if (hedged != null) {
+                hedged.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * S3 요청 실행
+     * @param started 원 요청 시작 시각 전달 (추가 요청은 null)
+     */
+    private <T> void attempt(Operation operation, Supplier<T> call, Consumer<T> discard,
+                             CompletableFuture<T> result, AtomicInteger pending, CompletableFuture<Long> started) {
+        long start = System.nanoTime();
+        if (started != null) {
+            started.complete(start);
+        }
+
+        T value;
+        try {
+            value = call.get();
+        } catch (RuntimeException e) {
+            if (pending.decrementAndGet() == 0) {
+                result.completeExceptionally(e);
+            }
+            return;
+        }
+
+        operation.latency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        if (result.complete(value)) {
+            if (started == null) {
+                operation.won.increment();
+            }
+        } else {
+            discard.accept(value);
+        }
+    }
+
+    private boolean acquireCredit() {
+        while (true) {
+            long current = credits.get();
+            if (current < CREDIT) {
+                return false;
+            }
+            if (credits.compareAndSet(current, current - CREDIT)) {
+                return true;
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 기능별 응답 시간 분포와 추가 요청 지연 기준
+     */
+    private final class Operation {
+        private final Timer latency;
+        private final Counter sent;
+        private final Counter won;
+        private final Counter exhausted;
+
+        private volatile long delayNanos;
+        private volatile long refreshedAt;
+
+        Operation(String name) {
+            S3Info.Hedge config = s3Info.getHedge();
+            this.latency = Timer.builder("s3.hedge.latency")
+                    .description("Hedging 대상 S3 요청 응답 시간 (응답 헤더 수신까지)")
+                    .tag("operation", name)
+                    .publishPercentiles(config.getQuantile())
+                    .distributionStatisticExpiry(Duration.ofMinutes(1))
+                    .register(meterRegistry);
+            this.sent = counter(name, "sent");
+            this.won = counter(name, "won");
+            this.exhausted = counter(name, "budget_exhausted");
+            this.delayNanos = config.getMaxDelay().toNanos();
+
+            Gauge.builder("s3.hedge.delay", this, operation -> operation.delayNanos)
+                    .description("추가 요청 지연 기준")
+                    .tag("operation", name)
+                    .baseUnit("nanoseconds")
+                    .register(meterRegistry);
+        }
+
+        /**
+         * 추가 요청 지연 기준 (관측 분위수를 최소/최대 지연 범위로 제한, 표본이 부족하면 최대 지연)
+         * @return 지연 시간
+         */
+        long delayNanos() {
+            long now = System.nanoTime();
+            if (now - refreshedAt < REFRESH_NANOS) {
+                return delayNanos;
+            }
+            refreshedAt = now;
+
+            S3Info.Hedge config = s3Info.getHedge();
+            long delay = config.getMaxDelay().toNanos();
+            if (latency.count() >= config.getMinSamples()) {
+                ValueAtPercentile[] percentiles = latency.takeSnapshot().percentileValues();
+                if (percentiles.length > 0 && percentiles[0].value() > 0) {
+                    delay = Math.max(config.getMinDelay().toNanos(),
+                            Math.min(delay, (long) percentiles[0].value(TimeUnit.NANOSECONDS)));
+                }
+            }
+            delayNanos = delay;
+            return delay;
+        }
+
+        private Counter counter(String name, String result) {
+            return Counter.builder("s3.hedge")
+                    .description("Hedging 추가 요청")
+                    .tag("operation", name)
+                    .tag("result", result)
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package kr.go.hai.s3storage.service.impl;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.go.hai.config.info.ConstantInfo;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * S3 처리 지표 (기관코드별)
+ * - s3.bytes.in : 업로드 바이트
+ * - s3.bytes.out : 다운로드 바이트 (ZIP은 압축 전 파일 크기 합계)
+ * - s3.zip.objects : ZIP 요청 1건당 파일 수
+ * - s3.list.pages : 목록 조회 1건당 S3 페이지 수
+ *
+ * @author AX사업팀
+ * @version 1.0
+ * @since 2026.10.17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *   수정일        수정자            수정내용
+ * ----------    --------    ---------------------------
+ * 2026.10.17    양정숙        최초 생성
+ * </pre>
+ */
+@Component
+@RequiredArgsConstructor
+public class S3Metrics {
+
+    /** 기관코드를 알 수 없는 경우의 태그 값 */
+    public static final String UNKNOWN_INST_CD = "none";
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 업로드 바이트 기록
+     * @param fileKey 파일 키
+     * @param bytes 바이트 수
+     */
+    public void recordBytesIn(String fileKey, long bytes) {
+        counter("s3.bytes.in", "업로드 바이트", instCdOf(fileKey)).increment(bytes);
+    }
+
+    /**
+     * 다운로드 바이트 기록
+     * @param fileKey 파일 키
+     * @param bytes 바이트 수
+     */
+    public void recordBytesOut(String fileKey, long bytes) {
+        counter("s3.bytes.out", "다운로드 바이트", instCdOf(fileKey)).increment(bytes);
+    }
+
+    /**
+     * ZIP 요청 파일 수 기록
+     * @param instCd 기관코드
+     * @param count 파일 수
+     */
+    public void recordZipObjects(String instCd, int count) {
+        summary("s3.zip.objects", "ZIP 요청 1건당 파일 수", instCd).record(count);
+    }
+
+    /**
+     * 목록 조회 페이지 수 기록
+     * @param instCd 기관코드
+     * @param pages 페이지 수
+     */
+    public void recordListPages(String instCd, int pages) {
+        summary("s3.list.pages", "목록 조회 1건당 S3 페이지 수", instCd).record(pages);
+    }
+
+    /**
+     * 파일 키에서 기관코드 추출 (파일 키 규칙 : 기관코드/연/월/일/UUID/파일명)
+     * @param fileKey 파일 키
+     * @return 기관코드 (알 수 없으면 none)
+     */
+    public static String instCdOf(String fileKey) {
+        if (fileKey == null) {
+            return UNKNOWN_INST_CD;
+        }
+        int index = fileKey.indexOf(ConstantInfo.S3_PREFIX_DELIMITER);
+        return index > 0 ? fileKey.substring(0, index) : UNKNOWN_INST_CD;
+    }
+
+    private Counter counter(String name, String description, String instCd) {
+        return Counter.builder(name)
+                .description(description)
+                .baseUnit("bytes")
+                .tag("instCd", tagValue(instCd))
+                .register(meterRegistry);
+    }
+
+    private DistributionSummary summary(String name, String description, String instCd) {
+        return DistributionSummary.builder(name)
+                .description(description)
+                .tag("instCd", tagValue(instCd))
+                .register(meterRegistry);
+    }
+
+    private String tagValue(String instCd) {
+        return instCd == null || instCd.isBlank() ? UNKNOWN_INST_CD : instCd;
+    }
+}
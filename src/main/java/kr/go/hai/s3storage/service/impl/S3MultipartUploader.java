@@ -0,0 +1,287 @@
+package kr.go.hai.s3storage.service.impl;
+
+import jakarta.annotation.PreDestroy;
+import kr.go.hai.config.info.S3Info;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.MultipartUpload;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * S3 Multipart Upload 처리
+ * 파일을 Part 단위로 나누어 병렬 전송하고, 실패한 Part만 재시도한다.
+ *
+ * @author AX사업팀
+ * @version 1.0
+ * @since 2026.10.17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *   수정일        수정자            수정내용
+ * ----------    --------    ---------------------------
+ * 2026.10.17    양정숙        최초 생성
+ * </pre>
+ */
+@Slf4j
+@Component
+public class S3MultipartUploader {
+
+    /** 재시도 대기 기본 시간(ms) */
+    private static final long RETRY_BACKOFF_MILLIS = 200L;
+
+    private final S3Info s3Info;
+    private final S3Client s3Client;
+    private final ExecutorService executor;
+
+    public S3MultipartUploader(S3Info s3Info, S3Client s3Client, S3ExecutorFactory executorFactory) {
+        this.s3Info = s3Info;
+        this.s3Client = s3Client;
+
+        this.executor = executorFactory.newFixedThreadPool("s3-multipart", s3Info.getMultipart().getPoolSize());
+    }
+
+    /**
+     * Multipart Upload 대상 여부
+     * @param contentLength 파일 크기
+     * @return 설정된 기준 크기 이상이면 true
+     */
+    public boolean supports(long contentLength) {
+        S3Info.Multipart multipart = s3Info.getMultipart();
+        return multipart.isEnabled() && contentLength >= multipart.getThreshold().toBytes();
+    }
+
+    /**
+     * Multipart Upload 수행
+     * 동시에 메모리에 올라가는 Part는 업로드 1건당 concurrency 개로 제한된다.
+     * @param fileKey 파일 키
+     * @param contentType 파일 유형
+     * @param in 업로드 대상 스트림
+     * @param contentLength 파일 크기 (모르면 -1)
+     * @return 업로드된 객체의 ETag
+     * @throws IOException 업로드 실패 (실패 시 Multipart Upload는 중단 처리됨)
+     */
+    public String upload(String fileKey, String contentType, InputStream in, long contentLength) throws IOException {
+        long maxSize = s3Info.getMultipart().getPartSize().toBytes() * S3Info.Multipart.MAX_PARTS;
+        if (contentLength > maxSize) {
+            throw new IOException("Multipart Upload 최대 크기(Part 크기 x " + S3Info.Multipart.MAX_PARTS + ") 초과 : " + fileKey);
+        }
+        return this.upload(fileKey, contentType, null, Collections.emptyMap(), in);
+    }
+
+    /**
+     * Multipart Upload 수행 (압축 저장 객체의 Content-Encoding, 메타데이터 지정)
+     * 크기를 모르는 스트림이 최대 Part 수(10,000)를 넘으면 다음 Part를 보내기 전에 중단한다.
+     * @param fileKey 파일 키
+     * @param contentType 파일 유형
+     * @param contentEncoding 객체 Content-Encoding (없으면 null)
+     * @param metadata 객체 메타데이터
+     * @param in 업로드 대상 스트림
+     * @return 업로드된 객체의 ETag
+     * @throws IOException 업로드 실패 (실패 시 Multipart Upload는 중단 처리됨)
+     */
+    public String upload(String fileKey, String contentType, String contentEncoding, Map<String, String> metadata,
+                         InputStream in) throws IOException {
+        S3Info.Multipart multipart = s3Info.getMultipart();
+        // S3Info.Multipart에서 5MB ~ 1GB로 제한
+        int partSize = (int) multipart.getPartSize().toBytes();
+        Semaphore permits = new Semaphore(Math.max(1, multipart.getConcurrency()));
+
+        String uploadId;
+        try {
+            uploadId = s3Client.createMultipartUpload(req -> req
+                    .bucket(s3Info.getBucket())
+                    .key(fileKey)
+                    .contentType(contentType)
+                    .contentEncoding(contentEncoding)
+                    .metadata(metadata)
+            ).uploadId();
+        } catch (SdkException e) {
+            throw new IOException("Multipart Upload 생성 실패 : " + fileKey, e);
+        }
+
+        List<CompletableFuture<CompletedPart>> futures = new ArrayList<>();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        try {
+            int partNumber = 1;
+            while (true) {
+                permits.acquire();
+                if (failure.get() != null) {
+                    permits.release();
+                    break;
+                }
+
+                byte[] data = in.readNBytes(partSize);
+                if (data.length == 0 && partNumber > 1) {
+                    permits.release();
+                    break;
+                }
+                if (partNumber > S3Info.Multipart.MAX_PARTS) {
+                    permits.release();
+                    throw new IOException("Multipart Upload 최대 Part 수(" + S3Info.Multipart.MAX_PARTS + ") 초과 : " + fileKey);
+                }
+
+                int currentPart = partNumber++;
+                futures.add(CompletableFuture
+                        .supplyAsync(() -> uploadPart(fileKey, uploadId, currentPart, data), executor)
+                        .whenComplete((part, e) -> {
+                            if (e != null) {
+                                failure.compareAndSet(null, e);
+                            }
+                            permits.release();
+                        }));
+
+                if (data.length < partSize) {
+                    break;
+                }
+            }
+
+            List<CompletedPart> completedParts = new ArrayList<>(futures.size());
+            for (CompletableFuture<CompletedPart> future : futures) {
+                completedParts.add(future.get());
+            }
+
+            return s3Client.completeMultipartUpload(req -> req
+                    .bucket(s3Info.getBucket())
+                    .key(fileKey)
+                    .uploadId(uploadId)
+                    .multipartUpload(mu -> mu.parts(completedParts))
+            ).eTag();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            abort(fileKey, uploadId, futures);
+            throw new IOException("Multipart Upload 중단 : " + fileKey, e);
+        } catch (ExecutionException e) {
+            abort(fileKey, uploadId, futures);
+            throw new IOException("Part 업로드 실패 : " + fileKey, e.getCause());
+        } catch (IOException | RuntimeException e) {
+            abort(fileKey, uploadId, futures);
+            throw e instanceof IOException ioe ? ioe : new IOException("Multipart Upload 실패 : " + fileKey, e);
+        }
+    }
+
+    /**
+     * Part 업로드 (실패 시 해당 Part만 재시도)
+     * @param fileKey 파일 키
+     * @param uploadId Multipart Upload ID
+     * @param partNumber Part 번호
+     * @param data Part 데이터
+     * @return 완료된 Part 정보
+     */
+    private CompletedPart uploadPart(String fileKey, String uploadId, int partNumber, byte[] data) {
+        int maxRetries = Math.max(0, s3Info.getMultipart().getMaxRetries());
+
+        for (int attempt = 0; ; attempt++) {
+            try {
+                UploadPartResponse response = s3Client.uploadPart(req -> req
+                                .bucket(s3Info.getBucket())
+                                .key(fileKey)
+                                .uploadId(uploadId)
+                                .partNumber(partNumber)
+                                .contentLength((long) data.length),
+                        RequestBody.fromContentProvider(() -> new ByteArrayInputStream(data), data.length, "application/octet-stream")
+                );
+
+                return CompletedPart.builder()
+                        .partNumber(partNumber)
+                        .eTag(response.eTag())
+                        .build();
+            } catch (SdkException e) {
+                if (attempt >= maxRetries) {
+                    throw e;
+                }
+                log.warn("Part 업로드 재시도 [{}] part={}, attempt={}", fileKey, partNumber, attempt + 1);
+                backoff(attempt);
+            }
+        }
+    }
+
+    /**
+     * 진행 중인 Part 업로드를 취소하고 Multipart Upload 중단
+     * @param fileKey 파일 키
+     * @param uploadId Multipart Upload ID
+     * @param futures 진행 중인 Part 업로드
+     */
+    private void abort(String fileKey, String uploadId, List<CompletableFuture<CompletedPart>> futures) {
+        futures.forEach(future -> future.cancel(true));
+
+        try {
+            s3Client.abortMultipartUpload(req -> req
+                    .bucket(s3Info.getBucket())
+                    .key(fileKey)
+                    .uploadId(uploadId));
+        } catch (SdkException e) {
+            log.error("Multipart Upload 중단 실패 [{}] uploadId={}", fileKey, uploadId, e);
+        }
+    }
+
+    /**
+     * 완료되지 않고 남아있는 Multipart Upload 정리
+     * s3.multipart.stale-cleanup-cron 설정 시 동작하며, 같은 버킷을 쓰는 다른 서비스의 업로드는 건드리지 않도록
+     * s3.multipart.stale-cleanup-prefixes 하위만 정리한다.
+     */
+    @Scheduled(cron = "${s3.multipart.stale-cleanup-cron:-}")
+    public void abortStaleUploads() {
+        List<String> prefixes = s3Info.getMultipart().getStaleCleanupPrefixes();
+        if (prefixes.isEmpty()) {
+            log.warn("미완료 Multipart Upload 정리 대상 prefix(s3.multipart.stale-cleanup-prefixes)가 없어 정리하지 않습니다.");
+            return;
+        }
+
+        Instant staleBefore = Instant.now().minus(s3Info.getMultipart().getStaleAfter());
+        for (String prefix : prefixes) {
+            try {
+                s3Client.listMultipartUploadsPaginator(req -> req.bucket(s3Info.getBucket()).prefix(prefix))
+                        .uploads()
+                        .stream()
+                        .filter(upload -> upload.initiated() != null && upload.initiated().isBefore(staleBefore))
+                        .forEach(this::abortStaleUpload);
+            } catch (SdkException e) {
+                log.error("미완료 Multipart Upload 목록 조회 실패 [{}]", prefix, e);
+            }
+        }
+    }
+
+    private void abortStaleUpload(MultipartUpload upload) {
+        try {
+            s3Client.abortMultipartUpload(req -> req
+                    .bucket(s3Info.getBucket())
+                    .key(upload.key())
+                    .uploadId(upload.uploadId()));
+            log.info("미완료 Multipart Upload 정리 [{}] uploadId={}", upload.key(), upload.uploadId());
+        } catch (SdkException e) {
+            log.error("미완료 Multipart Upload 정리 실패 [{}]", upload.key(), e);
+        }
+    }
+
+    private void backoff(int attempt) {
+        try {
+            Thread.sleep(RETRY_BACKOFF_MILLIS << Math.min(attempt, 5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Part 업로드 재시도 대기 중 중단");
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,275 @@
+package kr.go.hai.s3storage.service.impl;
+
+import jakarta.annotation.PreDestroy;
+import kr.go.hai.config.info.ConstantInfo;
+import kr.go.hai.config.info.S3Info;
+import kr.go.hai.s3storage.service.impl.vo.S3CopyResultVO;
+import kr.selim.msa.cmmn.exception.ApiBizException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * 스토리지 내부 복사 처리
+ * 파일 데이터를 서버로 받지 않고 CopyObject로 복사하며, 기준 크기를 넘는 파일은 UploadPartCopy로 구간을 나누어 병렬 복사한다.
+ * prefix 일괄 복사는 목록 조회 페이지를 받는 즉시 복사 작업으로 넘겨 요청 1건당 동시 복사 수 안에서 처리한다.
+ *
+ * @author AX사업팀
+ * @version 1.0
+ * @since 2026.10.17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *   수정일        수정자            수정내용
+ * ----------    --------    ---------------------------
+ * 2026.10.17    양정숙        최초 생성
+ * </pre>
+ */
+@Slf4j
+@Component
+public class S3ObjectCopier {
+
+    /** CopyObject 최대 크기 */
+    private static final long MAX_COPY_OBJECT_SIZE = 5L * 1024 * 1024 * 1024;
+
+    /** Multipart Upload 최대 Part 수 */
+    private static final int MAX_PARTS = 10_000;
+
+    private final S3Info s3Info;
+    private final S3Client s3Client;
+    private final ExecutorService executor;
+    private final ExecutorService partExecutor;
+
+    public S3ObjectCopier(S3Info s3Info, S3Client s3Client, S3ExecutorFactory executorFactory) {
+        this.s3Info = s3Info;
+        this.s3Client = s3Client;
+
+        this.executor = executorFactory.newFixedThreadPool("s3-copy", s3Info.getCopy().getPoolSize());
+        this.partExecutor = executorFactory.newFixedThreadPool("s3-copy-part", s3Info.getCopy().getPartPoolSize());
+    }
+
+    /**
+     * 파일 복사 (스토리지 내부)
+     * @param sourceKey 원본 스토리지 키
+     * @param targetKey 대상 파일 키
+     * @param head 원본 정보 (크기, 메타데이터)
+     * @return 복사된 객체의 ETag
+     * @throws S3Exception 스토리지 오류
+     */
+    public String copy(String sourceKey, String targetKey, HeadObjectResponse head) {
+        long threshold = Math.min(MAX_COPY_OBJECT_SIZE, s3Info.getCopy().getMultipartThreshold().toBytes());
+        if (head.contentLength() <= threshold) {
+            return s3Client.copyObject(req -> req
+                            .sourceBucket(s3Info.getBucket())
+                            .sourceKey(sourceKey)
+                            .destinationBucket(s3Info.getBucket())
+                            .destinationKey(targetKey)
+                            .copySourceIfMatch(head.eTag()))
+                    .copyObjectResult()
+                    .eTag();
+        }
+        return this.copyMultipart(sourceKey, targetKey, head);
+    }
+
+    /**
+     * Part 단위 병렬 복사 (UploadPartCopy)
+     * Multipart Upload는 원본 메타데이터를 복사하지 않으므로 생성 시 지정한다.
+     * @param sourceKey 원본 스토리지 키
+     * @param targetKey 대상 파일 키
+     * @param head 원본 정보
+     * @return 복사된 객체의 ETag
+     */
+    private String copyMultipart(String sourceKey, String targetKey, HeadObjectResponse head) {
+        S3Info.Copy copy = s3Info.getCopy();
+        long size = head.contentLength();
+        long partSize = Math.max(copy.getPartSize().toBytes(), (size + MAX_PARTS - 1) / MAX_PARTS);
+        Semaphore permits = new Semaphore(Math.max(1, copy.getPartConcurrency()));
+
+        String uploadId = s3Client.createMultipartUpload(req -> req
+                .bucket(s3Info.getBucket())
+                .key(targetKey)
+                .contentType(head.contentType())
+                .contentEncoding(head.contentEncoding())
+                .metadata(head.metadata())
+        ).uploadId();
+
+        List<CompletableFuture<CompletedPart>> futures = new ArrayList<>();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        try {
+            int partNumber = 1;
+            for (long start = 0; start < size && failure.get() == null; start += partSize) {
+                permits.acquire();
+
+                int currentPart = partNumber++;
+                String range = "bytes=" + start + "-" + (Math.min(start + partSize, size) - 1);
+                futures.add(CompletableFuture
+                        .supplyAsync(() -> copyPart(sourceKey, targetKey, uploadId, currentPart, range, head.eTag()), partExecutor)
+                        .whenComplete((part, e) -> {
+                            if (e != null) {
+                                failure.compareAndSet(null, e);
+                            }
+                            permits.release();
+                        }));
+            }
+
+            List<CompletedPart> completedParts = new ArrayList<>(futures.size());
+            for (CompletableFuture<CompletedPart> future : futures) {
+                completedParts.add(future.get());
+            }
+
+            return s3Client.completeMultipartUpload(req -> req
+                    .bucket(s3Info.getBucket())
+                    .key(targetKey)
+                    .uploadId(uploadId)
+                    .multipartUpload(mu -> mu.parts(completedParts))
+            ).eTag();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            abort(targetKey, uploadId);
+            throw new CancellationException("Part 복사 중단");
+        } catch (ExecutionException e) {
+            abort(targetKey, uploadId);
+            throw e.getCause() instanceof RuntimeException cause ? cause : new CompletionException(e.getCause());
+        } catch (RuntimeException e) {
+            abort(targetKey, uploadId);
+            throw e;
+        }
+    }
+
+    private CompletedPart copyPart(String sourceKey, String targetKey, String uploadId, int partNumber, String range, String eTag) {
+        // 복사 중 원본이 바뀌지 않았는지 ETag로 확인
+        String partETag = s3Client.uploadPartCopy(req -> req
+                        .sourceBucket(s3Info.getBucket())
+                        .sourceKey(sourceKey)
+                        .destinationBucket(s3Info.getBucket())
+                        .destinationKey(targetKey)
+                        .uploadId(uploadId)
+                        .partNumber(partNumber)
+                        .copySourceRange(range)
+                        .copySourceIfMatch(eTag))
+                .copyPartResult()
+                .eTag();
+
+        return CompletedPart.builder().partNumber(partNumber).eTag(partETag).build();
+    }
+
+    private void abort(String targetKey, String uploadId) {
+        try {
+            s3Client.abortMultipartUpload(req -> req.bucket(s3Info.getBucket()).key(targetKey).uploadId(uploadId));
+        } catch (SdkException e) {
+            log.warn("Part 복사 중단 처리 실패 [{}] : {}", targetKey, e.getMessage());
+        }
+    }
+
+    /**
+     * prefix 하위 파일 일괄 복사
+     * 한 파일의 실패는 다른 파일 복사에 영향을 주지 않으며, 실패한 파일은 결과의 오류 목록에 기록한다.
+     * @param sourcePrefix 원본 prefix
+     * @param extraKeys 스토리지 목록에 없는 복사 대상 (중복 제거 참조 파일)
+     * @param copyFunction 파일 1건 복사 (원본 파일 키, 작업 스레드에서 호출)
+     * @return 복사 결과
+     */
+    public S3CopyResultVO copyPrefix(String sourcePrefix, Collection<String> extraKeys, Consumer<String> copyFunction) {
+        try (Batch batch = new Batch(copyFunction)) {
+            s3Client.listObjectsV2Paginator(req -> req
+                            .bucket(s3Info.getBucket())
+                            .prefix(sourcePrefix)
+                            .maxKeys(ConstantInfo.S3_LIST_MAX_KEYS))
+                    .forEach(page -> page.contents().stream().map(S3Object::key).forEach(batch::submit));
+            extraKeys.forEach(batch::submit);
+            return batch.await();
+        }
+    }
+
+    private S3CopyResultVO.Error toError(String fileKey, RuntimeException e) {
+        S3CopyResultVO.Error error = new S3CopyResultVO.Error();
+        error.setFileKey(fileKey);
+        if (e instanceof S3Exception s3Exception && s3Exception.awsErrorDetails() != null) {
+            error.setCode(s3Exception.awsErrorDetails().errorCode());
+        } else if (e instanceof ApiBizException apiBizException && apiBizException.getStatus() != null) {
+            error.setCode(apiBizException.getStatus().name());
+        } else {
+            error.setCode("RequestFailed");
+        }
+        error.setMessage(e.getMessage());
+        return error;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+        partExecutor.shutdownNow();
+    }
+
+    /**
+     * 요청 단위 복사 작업 (동시 복사 수 제한)
+     */
+    private final class Batch implements AutoCloseable {
+        private final Consumer<String> copyFunction;
+        private final Semaphore permits = new Semaphore(Math.max(1, s3Info.getCopy().getConcurrency()));
+        private final List<Future<S3CopyResultVO.Error>> futures = new ArrayList<>();
+
+        Batch(Consumer<String> copyFunction) {
+            this.copyFunction = copyFunction;
+        }
+
+        void submit(String fileKey) {
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CancellationException("일괄 복사 중단");
+            }
+
+            futures.add(executor.submit(() -> {
+                try {
+                    copyFunction.accept(fileKey);
+                    return null;
+                } catch (RuntimeException e) {
+                    log.warn("일괄 복사 실패 [{}] : {}", fileKey, e.getMessage());
+                    return toError(fileKey, e);
+                } finally {
+                    permits.release();
+                }
+            }));
+        }
+
+        S3CopyResultVO await() {
+            S3CopyResultVO result = new S3CopyResultVO();
+            try {
+                for (Future<S3CopyResultVO.Error> future : futures) {
+                    S3CopyResultVO.Error error = future.get();
+                    if (error != null) {
+                        result.getErrorList().add(error);
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CancellationException("일괄 복사 중단");
+            } catch (ExecutionException e) {
+                throw new CompletionException(e.getCause());
+            }
+
+            result.setCopiedCount(futures.size() - result.getErrorList().size());
+            return result;
+        }
+
+        @Override
+        public void close() {
+            futures.forEach(future -> future.cancel(false));
+        }
+    }
+}
@@ -0,0 +1,316 @@
+package kr.go.hai.s3storage.service.impl;
+
+import kr.go.hai.config.info.ConstantInfo;
+import kr.go.hai.config.info.S3Info;
+import kr.go.hai.s3storage.mapper.S3Mapper;
+import kr.go.hai.s3storage.service.impl.vo.S3DedupVO;
+import kr.go.hai.s3storage.service.impl.vo.S3VO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CommonPrefix;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 파일 목록 색인(DB) 관리
+ * 업로드/삭제 시 색인을 갱신하고, 주기적으로 스토리지와 비교하여 차이를 보정한다.
+ * 색인은 사용 설정 이후의 업로드만 등록하므로, 기존 파일이 있는 버킷은 s3.index.reconcile-on-startup으로 기동 시 색인을 채운다.
+ *
+ * @author AX사업팀
+ * @version 1.0
+ * @since 2026.10.17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *   수정일        수정자            수정내용
+ * ----------    --------    ---------------------------
+ * 2026.10.17    양정숙        최초 생성
+ * </pre>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class S3ObjectIndexer {
+
+    private final S3Info s3Info;
+    private final S3Client s3Client;
+    private final S3Mapper s3Mapper;
+
+    /**
+     * 색인 사용 여부
+     * @return 사용하면 true
+     */
+    public boolean isEnabled() {
+        return s3Info.getIndex().isEnabled();
+    }
+
+    /**
+     * 색인에서 파일 목록 조회
+     * @param prefix 조회 대상 prefix
+     * @return 파일 목록 (파일키 순)
+     */
+    public List<S3VO> list(String prefix) {
+        S3VO condition = new S3VO();
+        condition.setPrefix(escapeLike(prefix));
+        return s3Mapper.selectObjectList(condition);
+    }
+
+    /**
+     * 저장된 파일 색인 등록
+     * PutObject/CompleteMultipartUpload 응답에는 최종 수정일이 없으므로 HEAD로 스토리지의 ETag, 최종 수정일을 확인하여
+     * 스토리지 목록 조회와 같은 값으로 등록한다.
+     * 색인 실패는 업로드를 실패시키지 않으며, 보정 작업에서 다시 반영된다.
+     * @param fileKey 파일 키
+     * @param objectKey 실제 저장된 키 (중복 제거 참조 파일이면 원본 키)
+     * @param size 파일 크기 (압축 저장 파일은 원본 크기)
+     */
+    public void register(String fileKey, String objectKey, long size) {
+        if (!isEnabled()) {
+            return;
+        }
+
+        HeadObjectResponse head;
+        try {
+            head = s3Client.headObject(req -> req.bucket(s3Info.getBucket()).key(objectKey));
+        } catch (SdkException e) {
+            log.error("파일 목록 색인 등록 실패 [{}]", fileKey, e);
+            return;
+        }
+        this.register(toS3VO(fileKey, size, head.eTag(), head.lastModified()));
+    }
+
+    /**
+     * 파일 색인 등록
+     * 색인 실패는 업로드를 실패시키지 않으며, 보정 작업에서 다시 반영된다.
+     * @param s3VO 파일 정보
+     */
+    public void register(S3VO s3VO) {
+        if (!isEnabled()) {
+            return;
+        }
+
+        try {
+            this.upsert(s3VO);
+        } catch (DataAccessException e) {
+            log.error("파일 목록 색인 등록 실패 [{}]", s3VO.getFileKey(), e);
+        }
+    }
+
+    /**
+     * 삭제된 파일 색인 삭제
+     * @param fileKey 파일 키
+     */
+    public void remove(String fileKey) {
+        if (!isEnabled()) {
+            return;
+        }
+
+        try {
+            s3Mapper.deleteObject(fileKey);
+        } catch (DataAccessException e) {
+            log.error("파일 목록 색인 삭제 실패 [{}]", fileKey, e);
+        }
+    }
+
+    /**
+     * 기동 시 색인 적재 (s3.index.reconcile-on-startup 설정 시, 적재가 끝날 때까지 목록이 일부만 조회될 수 있음)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        if (s3Info.getIndex().isReconcileOnStartup()) {
+            reconcileAll();
+        }
+    }
+
+    /**
+     * 스토리지 전체와 색인 보정
+     * 기관코드/연도 prefix 단위로 나누어 보정하며, 한 prefix 보정에 실패해도 나머지 prefix는 계속 보정한다.
+     * s3.index.reconcile-cron 설정 시 동작
+     */
+    @Scheduled(cron = "${s3.index.reconcile-cron:-}")
+    public void reconcileAll() {
+        if (!isEnabled()) {
+            return;
+        }
+
+        try {
+            for (String instPrefix : listCommonPrefixes("")) {
+                for (String yearPrefix : listCommonPrefixes(instPrefix)) {
+                    try {
+                        reconcile(yearPrefix);
+                    } catch (SdkException | DataAccessException e) {
+                        log.error("파일 목록 색인 보정 실패 [{}]", yearPrefix, e);
+                    }
+                }
+            }
+        } catch (SdkException e) {
+            log.error("파일 목록 색인 보정 실패", e);
+        }
+    }
+
+    /**
+     * prefix 단위 색인 보정
+     * 스토리지에만 있으면 등록, 색인에만 있으면 삭제(중복 제거 참조 파일 제외), ETag가 다르면 수정한다.
+     * 스토리지 목록 1페이지마다 같은 파일키 구간의 색인만 조회하여 비교하므로 prefix 전체를 메모리에 올리지 않는다.
+     * 색인 조회 후 업로드로 먼저 등록된 파일은 수정으로 처리한다.
+     * 압축 저장 파일은 색인에 원본 크기를 기록하므로 스토리지 크기와 비교하지 않는다.
+     * @param prefix 보정 대상 prefix
+     */
+    public void reconcile(String prefix) {
+        int[] counts = new int[3];
+        String startAfter = null;
+
+        for (ListObjectsV2Response page : s3Client.listObjectsV2Paginator(req -> req.bucket(s3Info.getBucket()).prefix(prefix))) {
+            if (page.contents().isEmpty()) {
+                continue;
+            }
+            String endAt = page.contents().get(page.contents().size() - 1).key();
+            this.reconcileRange(prefix, startAfter, endAt, page.contents(), counts);
+            startAfter = endAt;
+        }
+        // 마지막 스토리지 파일 이후 색인 (스토리지에서 삭제된 파일)
+        this.reconcileRange(prefix, startAfter, null, List.of(), counts);
+
+        if (counts[0] + counts[1] + counts[2] > 0) {
+            log.info("파일 목록 색인 보정 [{}] 등록={}, 수정={}, 삭제={}", prefix, counts[0], counts[1], counts[2]);
+        }
+    }
+
+    /**
+     * 파일키 구간 색인 보정
+     * @param prefix 보정 대상 prefix
+     * @param startAfter 구간 시작 (이 키 제외, 처음이면 null)
+     * @param endAt 구간 끝 (이 키 포함, 끝까지면 null)
+     * @param contents 구간 내 스토리지 파일 목록
+     * @param counts 등록, 수정, 삭제 건수
+     */
+    private void reconcileRange(String prefix, String startAfter, String endAt, List<S3Object> contents, int[] counts) {
+        S3VO condition = new S3VO();
+        condition.setPrefix(escapeLike(prefix));
+        condition.setStartAfter(startAfter);
+        condition.setEndAt(endAt);
+        Map<String, S3VO> indexed = new HashMap<>();
+        s3Mapper.selectObjectList(condition).forEach(s3VO -> indexed.put(s3VO.getFileKey(), s3VO));
+
+        for (S3Object content : contents) {
+            S3VO current = indexed.remove(content.key());
+            S3VO s3VO = toS3VO(content);
+
+            if (current == null) {
+                this.upsert(s3VO);
+                counts[0]++;
+            } else if (!Objects.equals(current.getETag(), s3VO.getETag())) {
+                s3Mapper.updateObject(s3VO);
+                counts[1]++;
+            }
+        }
+
+        // 중복 제거 참조 파일은 스토리지에 없으므로 색인 유지
+        if (!indexed.isEmpty() && s3Info.getDedup().isEnabled()) {
+            S3DedupVO refCondition = new S3DedupVO();
+            refCondition.setPrefix(escapeLike(prefix));
+            refCondition.setStartAfter(startAfter);
+            refCondition.setEndAt(endAt);
+            s3Mapper.selectDedupRefList(refCondition).forEach(ref -> indexed.remove(ref.getFileKey()));
+        }
+
+        indexed.keySet().forEach(s3Mapper::deleteObject);
+        counts[2] += indexed.size();
+    }
+
+    /**
+     * 색인 등록 (이미 등록된 파일이면 수정)
+     * @param s3VO 파일 정보
+     */
+    private void upsert(S3VO s3VO) {
+        try {
+            s3Mapper.insertObject(s3VO);
+        } catch (DuplicateKeyException e) {
+            s3Mapper.updateObject(s3VO);
+        }
+    }
+
+    /**
+     * 하위 prefix 목록 조회 (delimiter 조회)
+     * @param prefix 상위 prefix
+     * @return 하위 prefix 목록
+     */
+    private List<String> listCommonPrefixes(String prefix) {
+        return s3Client.listObjectsV2Paginator(req -> req
+                        .bucket(s3Info.getBucket())
+                        .prefix(prefix)
+                        .delimiter(ConstantInfo.S3_PREFIX_DELIMITER))
+                .commonPrefixes()
+                .stream()
+                .map(CommonPrefix::prefix)
+                .toList();
+    }
+
+    /**
+     * 스토리지 목록 조회 결과를 S3VO로 변환 (색인 조회 결과와 같은 항목)
+     * @param content 목록 조회 결과
+     * @return 파일 정보
+     */
+    static S3VO toS3VO(S3Object content) {
+        return toS3VO(content.key(), content.size(), content.eTag(), content.lastModified());
+    }
+
+    /**
+     * 파일 정보 생성 (스토리지 목록 조회, 색인 공통)
+     * @param fileKey 파일 키
+     * @param size 파일 크기
+     * @param eTag ETag
+     * @param lastModified 스토리지 최종 수정일
+     * @return 파일 정보
+     */
+    static S3VO toS3VO(String fileKey, long size, String eTag, Instant lastModified) {
+        S3VO s3VO = new S3VO();
+        s3VO.setFileKey(fileKey);
+        s3VO.setSize(size);
+        s3VO.setETag(eTag);
+        s3VO.setLastModified(String.valueOf(lastModified));
+        fillKeyAttributes(s3VO);
+        return s3VO;
+    }
+
+    /**
+     * 파일 키에서 기관코드, 등록일자 추출
+     * 파일 키 규칙 : 기관코드/연/월/일/UUID/파일명
+     * @param s3VO 파일 정보
+     */
+    private static void fillKeyAttributes(S3VO s3VO) {
+        String[] parts = s3VO.getFileKey().split(ConstantInfo.S3_PREFIX_DELIMITER, 5);
+        s3VO.setInstCd(parts[0]);
+        if (parts.length == 5) {
+            s3VO.setRegYmd(parts[1] + parts[2] + parts[3]);
+        }
+    }
+
+    /**
+     * LIKE 조건 특수문자 처리
+     * @param prefix prefix
+     * @return escape 처리된 prefix
+     */
+    static String escapeLike(String prefix) {
+        if (prefix == null) {
+            return null;
+        }
+        return prefix.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
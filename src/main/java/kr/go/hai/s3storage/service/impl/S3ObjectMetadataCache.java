@@ -0,0 +1,104 @@
+package kr.go.hai.s3storage.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import kr.go.hai.config.info.S3Info;
+import kr.go.hai.s3storage.service.impl.vo.S3VO;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * 파일 정보(headObject) 캐시
+ * 파일 키는 UUID를 포함하여 내용이 바뀌지 않으므로 조회 결과를 로컬에 보관한다.
+ * 존재하지 않는 파일(404)은 짧은 시간 동안만 보관한다.
+ *
+ * @author AX사업팀
+ * @version 1.0
+ * @since 2026.10.17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *   수정일        수정자            수정내용
+ * ----------    --------    ---------------------------
+ * 2026.10.17    양정숙        최초 생성
+ * </pre>
+ */
+@Component
+public class S3ObjectMetadataCache {
+
+    private final S3Info s3Info;
+    private final S3ExecutorFactory executorFactory;
+    private final Cache<String, Optional<S3VO>> cache;
+
+    public S3ObjectMetadataCache(S3Info s3Info, MeterRegistry meterRegistry, S3ExecutorFactory executorFactory) {
+        this.s3Info = s3Info;
+        this.executorFactory = executorFactory;
+
+        S3Info.MetadataCache config = s3Info.getMetadataCache();
+        long ttlNanos = config.getTtl().toNanos();
+        long negativeTtlNanos = config.getNegativeTtl().toNanos();
+
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(config.getMaximumSize())
+                .expireAfter(new Expiry<String, Optional<S3VO>>() {
+                    @Override
+                    public long expireAfterCreate(String key, Optional<S3VO> value, long currentTime) {
+                        return value.isPresent() ? ttlNanos : negativeTtlNanos;
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Optional<S3VO> value, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Optional<S3VO> value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+
+        // hit/miss, eviction 통계 (cache.gets, cache.evictions 등)
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "s3.metadata");
+    }
+
+    /**
+     * 캐시된 파일 정보 조회 (없으면 loader로 조회 후 보관)
+     * 가상 스레드에서는 캐시 잠금(synchronized) 안에서 스토리지를 조회하면 carrier 스레드가 고정(pinning)되므로,
+     * 잠금 밖에서 조회한 뒤 보관한다. (같은 키 동시 조회는 S3SingleFlight가 1건으로 합침)
+     * @param fileKey 파일 키
+     * @param loader 스토리지 조회 (파일이 없으면 Optional.empty())
+     * @return 파일 정보
+     */
+    public Optional<S3VO> get(String fileKey, Function<String, Optional<S3VO>> loader) {
+        if (!s3Info.getMetadataCache().isEnabled()) {
+            return loader.apply(fileKey);
+        }
+
+        if (executorFactory.isVirtual()) {
+            Optional<S3VO> cached = cache.getIfPresent(fileKey);
+            if (cached != null) {
+                return cached;
+            }
+            Optional<S3VO> loaded = loader.apply(fileKey);
+            cache.put(fileKey, loaded);
+            return loaded;
+        }
+        return cache.get(fileKey, loader);
+    }
+
+    /**
+     * 파일 정보 삭제 (업로드, 삭제 시)
+     * @param fileKey 파일 키
+     */
+    public void invalidate(String fileKey) {
+        cache.invalidate(fileKey);
+    }
+}
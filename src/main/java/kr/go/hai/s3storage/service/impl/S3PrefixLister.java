@@ -0,0 +1,184 @@
+package kr.go.hai.s3storage.service.impl;
+
+import jakarta.annotation.PreDestroy;
+import kr.go.hai.config.info.ConstantInfo;
+import kr.go.hai.config.info.S3Info;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CommonPrefix;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.function.Function;
+
+/**
+ * 날짜 하위 prefix 병렬 목록 조회
+ * 기관코드/연/월/일/ 구조의 하위 prefix를 delimiter 조회로 찾은 뒤, 일 단위 prefix를 병렬로 조회한다.
+ *
+ * @author AX사업팀
+ * @version 1.0
+ * @since 2026.10.17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *   수정일        수정자            수정내용
+ * ----------    --------    ---------------------------
+ * 2026.10.17    양정숙        최초 생성
+ * </pre>
+ */
+@Slf4j
+@Component
+public class S3PrefixLister {
+
+    private final S3Info s3Info;
+    private final S3Client s3Client;
+    private final ExecutorService executor;
+
+    public S3PrefixLister(S3Info s3Info, S3Client s3Client, S3ExecutorFactory executorFactory) {
+        this.s3Info = s3Info;
+        this.s3Client = s3Client;
+
+        this.executor = executorFactory.newFixedThreadPool("s3-list", s3Info.getList().getPoolSize());
+    }
+
+    /**
+     * 병렬 조회 사용 여부
+     * @param prefix 조회 대상 prefix
+     * @return 일 단위보다 넓은 prefix(기관 전체, 연, 월)이면 true
+     */
+    public boolean supports(String prefix) {
+        return s3Info.getList().isFanOutEnabled()
+                && (prefix == null || prefix.isEmpty() || prefix.endsWith(ConstantInfo.S3_PREFIX_DELIMITER))
+                && depth(prefix) < ConstantInfo.S3_DATE_PREFIX_DEPTH;
+    }
+
+    /**
+     * prefix 하위 전체 목록 조회
+     * 하위 prefix 탐색은 단계별로(월 → 일) 병렬 수행하고, 결과는 파일키 순으로 합친다.
+     * @param prefix 조회 대상 prefix
+     * @return 파일 목록 (파일키 순)
+     * @throws S3Exception 스토리지 오류
+     */
+    public List<S3Object> list(String prefix) {
+        List<S3Object> result = new ArrayList<>();
+        List<String> prefixes = List.of(prefix == null ? "" : prefix);
+
+        // 일 단위 prefix까지 단계별 탐색 (탐색 단계에서 발견한 파일도 포함)
+        for (int depth = depth(prefix); depth < ConstantInfo.S3_DATE_PREFIX_DEPTH && !prefixes.isEmpty(); depth++) {
+            List<String> children = new ArrayList<>();
+            for (ListObjectsV2Response page : invokeAll(prefixes, this::listLevel)) {
+                page.commonPrefixes().stream().map(CommonPrefix::prefix).forEach(children::add);
+                result.addAll(page.contents());
+            }
+            prefixes = children;
+        }
+
+        // 일 단위 prefix 병렬 조회
+        for (List<S3Object> contents : invokeAll(prefixes, this::listAll)) {
+            result.addAll(contents);
+        }
+
+        result.sort(Comparator.comparing(S3Object::key));
+        return result;
+    }
+
+    /**
+     * delimiter 조회 (한 단계 하위 prefix + 해당 단계의 파일)
+     * 여러 페이지의 결과를 하나로 합친다.
+     * @param prefix 조회 대상 prefix
+     * @return 조회 결과
+     */
+    private ListObjectsV2Response listLevel(String prefix) {
+        List<CommonPrefix> commonPrefixes = new ArrayList<>();
+        List<S3Object> contents = new ArrayList<>();
+
+        s3Client.listObjectsV2Paginator(req -> req
+                        .bucket(s3Info.getBucket())
+                        .prefix(prefix)
+                        .delimiter(ConstantInfo.S3_PREFIX_DELIMITER))
+                .forEach(page -> {
+                    commonPrefixes.addAll(page.commonPrefixes());
+                    contents.addAll(page.contents());
+                });
+
+        return ListObjectsV2Response.builder()
+                .commonPrefixes(commonPrefixes)
+                .contents(contents)
+                .build();
+    }
+
+    /**
+     * prefix 하위 전체 파일 조회
+     * @param prefix 조회 대상 prefix
+     * @return 파일 목록
+     */
+    private List<S3Object> listAll(String prefix) {
+        List<S3Object> contents = new ArrayList<>();
+        s3Client.listObjectsV2Paginator(req -> req
+                        .bucket(s3Info.getBucket())
+                        .prefix(prefix)
+                        .maxKeys(ConstantInfo.S3_LIST_MAX_KEYS))
+                .forEach(page -> contents.addAll(page.contents()));
+        return contents;
+    }
+
+    /**
+     * prefix별 작업을 병렬 수행하고 prefix 순서대로 결과 반환
+     * 작업은 호출 스레드에서만 기다리므로 Thread Pool 안에서 대기가 중첩되지 않는다.
+     * @param prefixes prefix 목록
+     * @param task prefix별 작업
+     * @return prefix 순서의 결과
+     */
+    private <T> List<T> invokeAll(List<String> prefixes, Function<String, T> task) {
+        if (prefixes.size() == 1) {
+            return List.of(task.apply(prefixes.get(0)));
+        }
+
+        List<Future<T>> futures = new ArrayList<>(prefixes.size());
+        try {
+            for (String prefix : prefixes) {
+                futures.add(executor.submit(() -> task.apply(prefix)));
+            }
+
+            List<T> results = new ArrayList<>(futures.size());
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            futures.forEach(future -> future.cancel(true));
+            throw new CancellationException("목록 조회 중단");
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new CompletionException(e.getCause());
+        }
+    }
+
+    /**
+     * prefix 단계 (기관코드/ = 1, 기관코드/연/ = 2 ...)
+     * @param prefix prefix
+     * @return 단계
+     */
+    private int depth(String prefix) {
+        if (prefix == null || prefix.isEmpty()) {
+            return 0;
+        }
+        return prefix.split(ConstantInfo.S3_PREFIX_DELIMITER, -1).length - 1;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
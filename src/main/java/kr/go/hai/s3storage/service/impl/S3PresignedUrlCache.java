@@ -0,0 +1,99 @@
+package kr.go.hai.s3storage.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import kr.go.hai.config.info.S3Info;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.Function;
+
+/**
+ * 서명된 URL 재사용 캐시
+ * 유효시간이 설정된 비율 이상 남아있는 URL은 다시 서명하지 않고 재사용한다.
+ *
+ * @author AX사업팀
+ * @version 1.0
+ * @since 2026.10.17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *   수정일        수정자            수정내용
+ * ----------    --------    ---------------------------
+ * 2026.10.17    양정숙        최초 생성
+ * </pre>
+ */
+@Component
+public class S3PresignedUrlCache {
+
+    private final S3Info s3Info;
+    private final Cache<String, PresignedGetObjectRequest> cache;
+
+    public S3PresignedUrlCache(S3Info s3Info, MeterRegistry meterRegistry) {
+        this.s3Info = s3Info;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(s3Info.getPresigned().getCacheMaximumSize())
+                .expireAfter(new Expiry<String, PresignedGetObjectRequest>() {
+                    @Override
+                    public long expireAfterCreate(String key, PresignedGetObjectRequest value, long currentTime) {
+                        return Math.max(0, Duration.between(Instant.now(), value.expiration()).toNanos());
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, PresignedGetObjectRequest value, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, PresignedGetObjectRequest value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "s3.presigned");
+    }
+
+    /**
+     * 서명된 URL 조회 (재사용 가능한 URL이 없으면 새로 서명)
+     * @param fileKey 파일 키
+     * @param signer 서명 처리
+     * @return 서명된 URL
+     */
+    public String get(String fileKey, Function<String, PresignedGetObjectRequest> signer) {
+        S3Info.Presigned presigned = s3Info.getPresigned();
+        if (!presigned.isCacheEnabled()) {
+            return signer.apply(fileKey).url().toExternalForm();
+        }
+
+        PresignedGetObjectRequest cached = cache.getIfPresent(fileKey);
+        if (cached != null && isReusable(cached, presigned)) {
+            return cached.url().toExternalForm();
+        }
+
+        PresignedGetObjectRequest signed = signer.apply(fileKey);
+        cache.put(fileKey, signed);
+        return signed.url().toExternalForm();
+    }
+
+    /**
+     * 캐시된 URL 삭제 (파일 삭제 시)
+     * @param fileKey 파일 키
+     */
+    public void invalidate(String fileKey) {
+        cache.invalidate(fileKey);
+    }
+
+    private boolean isReusable(PresignedGetObjectRequest cached, S3Info.Presigned presigned) {
+        long lifetimeMillis = Duration.ofMinutes(s3Info.getPresignedTime()).toMillis();
+        long remainingMillis = Duration.between(Instant.now(), cached.expiration()).toMillis();
+        return remainingMillis >= lifetimeMillis * presigned.getMinRemainingRatio();
+    }
+}
@@ -1,22 +1,42 @@
 package kr.go.hai.s3storage.service.impl;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import kr.go.hai.config.info.ConstantInfo;
 import kr.go.hai.config.info.S3Info;
 import kr.go.hai.s3storage.mapper.S3Mapper;
 import kr.go.hai.s3storage.service.S3Service;
+import kr.go.hai.s3storage.service.impl.vo.S3CopyResultVO;
+import kr.go.hai.s3storage.service.impl.vo.S3DeleteResultVO;
+import kr.go.hai.s3storage.service.impl.vo.S3PageVO;
+import kr.go.hai.s3storage.service.impl.vo.S3UploadResultVO;
 import kr.go.hai.s3storage.service.impl.vo.S3VO;
 import kr.selim.msa.cmmn.exception.ApiBizException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.DataAccessException;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.util.MimeTypeUtils;
 import org.springframework.util.StreamUtils;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.context.request.async.DeferredResultProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
 import org.springframework.web.multipart.MultipartFile;
 import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.async.ResponsePublisher;
+import software.amazon.awssdk.core.exception.SdkException;
 import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.*;
 import software.amazon.awssdk.services.s3.paginators.ListObjectsV2Iterable;
@@ -24,15 +44,28 @@ import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
 import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
 
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Paths;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
 import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
-import java.util.zip.ZipEntry;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.zip.ZipOutputStream;
 
 /**
@@ -55,13 +88,37 @@ import java.util.zip.ZipOutputStream;
 @RequiredArgsConstructor
 public class S3ServiceImpl implements S3Service {
 
+    /** 여러 Range 요청 시 S3 요청 1건으로 함께 받을 Range 사이 최대 간격 (사이 구간은 받아서 버림) */
+    private static final long MULTI_RANGE_MERGE_GAP = 64 * 1024;
+
+    /** 여러 Range 요청 1건당 최대 S3 요청 수 (초과 시 첫 Range부터 마지막 Range까지 1건으로 요청) */
+    private static final int MULTI_RANGE_MAX_REQUESTS = 4;
+
     private final S3Info s3Info;
     private final S3Client s3Client;
     private final S3Presigner s3Presigner;
     private final S3Mapper s3Mapper;
+    private final S3MultipartUploader s3MultipartUploader;
+    private final S3ZipWriter s3ZipWriter;
+    private final S3ObjectMetadataCache s3ObjectMetadataCache;
+    private final S3PresignedUrlCache s3PresignedUrlCache;
+    private final S3ObjectIndexer s3ObjectIndexer;
+    private final S3PrefixLister s3PrefixLister;
+    private final S3BatchDeleter s3BatchDeleter;
+    private final ObjectMapper objectMapper;
+    private final ObjectProvider<S3AsyncClient> s3AsyncClientProvider;
+    private final S3Metrics s3Metrics;
+    private final S3DiskCache s3DiskCache;
+    private final S3SingleFlight s3SingleFlight;
+    private final S3Deduplicator s3Deduplicator;
+    private final S3StorageCodec s3StorageCodec;
+    private final S3BatchUploader s3BatchUploader;
+    private final S3ObjectCopier s3ObjectCopier;
+    private final S3Hedger s3Hedger;
 
     /**
      * 스토리지에 파일 업로드
+     * 중복 제거 사용 시 업로드 전에 내용 해시를 계산하여 같은 내용의 파일이 있으면 저장하지 않고 참조로 등록한다.
      * @param file 업로드 대상
      * @param instCd 기관코드
      * @return 파일 키
@@ -72,10 +129,85 @@ public class S3ServiceImpl implements S3Service {
         String fileKey = getUploadFileKey(instCd, file.getOriginalFilename());
 
         try {
-            s3Client.putObject(
-                    req -> req.bucket(s3Info.getBucket()).key(fileKey),
-                    RequestBody.fromInputStream(file.getInputStream(), file.getSize())
-            );
+            String contentHash = s3Deduplicator.isEnabled() ? s3Deduplicator.hash(file.getInputStream()) : null;
+            String eTag = contentHash != null ? s3Deduplicator.link(fileKey, contentHash, file.getSize()) : null;
+            if (eTag == null) {
+                try (InputStream in = file.getInputStream()) {
+                    eTag = this.putObject(fileKey, file.getContentType(), in, file.getSize());
+                }
+                s3Deduplicator.register(fileKey, contentHash, file.getSize(), eTag);
+            }
+            this.afterUpload(fileKey, file.getSize());
+        } catch (S3Exception | IOException e) {
+            log.error("파일 업로드 중 오류 발생", e);
+            throw new ApiBizException(HttpStatus.INTERNAL_SERVER_ERROR, "파일 업로드 실패");
+        }
+
+        return fileKey;
+    }
+
+    /**
+     * 스토리지에 여러 파일 일괄 업로드
+     * 요청 1건당 동시 업로드 수 안에서 병렬로 업로드하며, 실패한 파일은 오류로 기록하고 나머지는 계속 업로드한다.
+     * @param fileList 업로드 대상 목록
+     * @param instCd 기관코드
+     * @return 업로드 결과 (파일별 파일 키 또는 오류)
+     * @throws ApiBizException API 예외 처리
+     */
+    @Override
+    public S3UploadResultVO uploadObjectList(MultipartFile[] fileList, String instCd) throws ApiBizException {
+        if (instCd == null || instCd.isBlank()) {
+            throw new ApiBizException(HttpStatus.BAD_REQUEST, "기관코드가 없습니다.");
+        }
+
+        if (fileList == null || fileList.length == 0) {
+            return new S3UploadResultVO();
+        }
+
+        if (fileList.length > s3Info.getUpload().getMaxFiles()) {
+            throw new ApiBizException(HttpStatus.BAD_REQUEST, "한번에 업로드할 수 있는 파일 수를 초과했습니다.");
+        }
+
+        return s3BatchUploader.upload(fileList, file -> this.uploadObject(file, instCd));
+    }
+
+    /**
+     * 요청 본문을 디스크에 저장하지 않고 스토리지로 바로 업로드
+     * 크기를 알 수 없거나 기준 크기 이상이면 Part 단위 버퍼로 나누어 업로드한다.
+     * 중복 제거 사용 시 업로드하면서 내용 해시를 계산하고, 같은 내용의 파일이 있으면 업로드한 파일을 지우고 참조로 등록한다.
+     * 본문은 한 번만 읽을 수 있어 업로드 전에 중복 여부를 알 수 없으므로, 중복 파일도 스토리지 전송은 일어나고 저장 공간만 절약된다.
+     * @param request http 요청 객체 (본문 = 파일 데이터)
+     * @param instCd 기관코드
+     * @param filename 원본파일명
+     * @param contentType 파일 유형 (없으면 파일명으로 추정)
+     * @return 파일 키
+     * @throws ApiBizException API 예외 처리
+     */
+    @Override
+    public String uploadObjectStream(HttpServletRequest request, String instCd, String filename, String contentType) throws ApiBizException {
+        if (filename == null || filename.isBlank()) {
+            throw new ApiBizException(HttpStatus.BAD_REQUEST, "파일명이 없습니다.");
+        }
+
+        long maxSize = s3Info.getStreamMaxSize().toBytes();
+        long contentLength = request.getContentLengthLong();
+        if (contentLength > maxSize) {
+            throw new ApiBizException(HttpStatus.PAYLOAD_TOO_LARGE, "업로드 가능한 크기를 초과했습니다.");
+        }
+
+        String fileKey = getUploadFileKey(instCd, filename);
+        String mimeType = contentType != null && !contentType.isBlank() ? contentType
+                : MediaTypeFactory.getMediaType(filename).orElse(MediaType.APPLICATION_OCTET_STREAM).toString();
+
+        try (LimitedInputStream in = new LimitedInputStream(request.getInputStream(), maxSize)) {
+            MessageDigest digest = s3Deduplicator.isEnabled() ? s3Deduplicator.newDigest() : null;
+            String eTag = this.putObject(fileKey, mimeType, digest != null ? new DigestInputStream(in, digest) : in, contentLength);
+            if (digest != null) {
+                s3Deduplicator.deduplicate(fileKey, s3Deduplicator.toHex(digest), in.getCount(), eTag);
+            }
+            this.afterUpload(fileKey, in.getCount());
+        } catch (SizeLimitExceededException e) {
+            throw new ApiBizException(HttpStatus.PAYLOAD_TOO_LARGE, "업로드 가능한 크기를 초과했습니다.");
         } catch (S3Exception | IOException e) {
             log.error("파일 업로드 중 오류 발생", e);
             throw new ApiBizException(HttpStatus.INTERNAL_SERVER_ERROR, "파일 업로드 실패");
@@ -84,120 +216,928 @@ public class S3ServiceImpl implements S3Service {
         return fileKey;
     }
 
+    /**
+     * 스토리지에 파일 저장
+     * 크기를 모르거나(chunked) 기준 크기 이상이면 Part 단위 병렬 업로드, 그 외에는 단일 요청으로 저장한다.
+     * 저장 압축 대상이면 압축하여 저장한다.
+     * @param fileKey 파일 키
+     * @param contentType 파일 유형
+     * @param in 업로드 대상 스트림
+     * @param contentLength 파일 크기 (모르면 -1)
+     * @return 저장된 객체의 ETag
+     * @throws IOException 업로드 실패
+     */
+    private String putObject(String fileKey, String contentType, InputStream in, long contentLength) throws IOException {
+        if (s3StorageCodec.isCompressible(fileKey, contentType, contentLength)) {
+            return this.putEncodedObject(fileKey, contentType, in, contentLength);
+        }
+
+        if (contentLength < 0 || s3MultipartUploader.supports(contentLength)) {
+            return s3MultipartUploader.upload(fileKey, contentType, in, contentLength);
+        }
+
+        return s3Client.putObject(
+                req -> req.bucket(s3Info.getBucket()).key(fileKey).contentType(contentType),
+                RequestBody.fromInputStream(in, contentLength)
+        ).eTag();
+    }
+
+    /**
+     * 스토리지에 파일 압축 저장 (Content-Encoding: gzip)
+     * 압축 후 크기는 미리 알 수 없으므로 기준 크기 미만은 메모리에서 압축하여 단일 요청으로 저장하고,
+     * 그 외에는 압축 스트림을 Part 단위로 나누어 업로드한다.
+     * @param fileKey 파일 키
+     * @param contentType 파일 유형
+     * @param in 업로드 대상 스트림
+     * @param contentLength 파일 크기 (모르면 -1)
+     * @return 저장된 객체의 ETag
+     * @throws IOException 업로드 실패
+     */
+    private String putEncodedObject(String fileKey, String contentType, InputStream in, long contentLength) throws IOException {
+        Map<String, String> metadata = s3StorageCodec.metadata(contentLength);
+
+        try (InputStream encoded = s3StorageCodec.encode(in)) {
+            if (contentLength < 0 || s3MultipartUploader.supports(contentLength)) {
+                return s3MultipartUploader.upload(fileKey, contentType, S3StorageCodec.GZIP, metadata, encoded);
+            }
+
+            return s3Client.putObject(
+                    req -> req.bucket(s3Info.getBucket()).key(fileKey).contentType(contentType)
+                            .contentEncoding(S3StorageCodec.GZIP).metadata(metadata),
+                    RequestBody.fromBytes(encoded.readAllBytes())
+            ).eTag();
+        }
+    }
+
+    /**
+     * 업로드 후처리 (캐시 정리, 파일 목록 등록)
+     * @param fileKey 파일 키
+     * @param size 파일 크기
+     */
+    private void afterUpload(String fileKey, long size) {
+        s3Metrics.recordBytesIn(fileKey, size);
+        this.afterStore(fileKey, size);
+    }
+
+    /**
+     * 저장 후처리 (업로드, 복사 공통 : 캐시 정리, 파일 목록 등록)
+     * @param fileKey 파일 키
+     * @param size 파일 크기 (압축 저장 파일은 원본 크기)
+     */
+    private void afterStore(String fileKey, long size) {
+        // 저장 전 조회로 남은 캐시(404) 제거
+        s3ObjectMetadataCache.invalidate(fileKey);
+        s3DiskCache.invalidate(fileKey);
+
+        s3ObjectIndexer.register(fileKey, s3Deduplicator.resolve(fileKey), size);
+    }
+
     /**
      * 스토리지에서 파일 다운로드
+     * 단일 Range와 조건부 요청은 GetObjectRequest로 그대로 전달하여 필요한 바이트만 전송받는다.
+     * 디스크 캐시에 있는 파일은 현재 ETag(파일 정보 캐시, 없으면 HEAD)와 같을 때 디스크에서 전송하고, 없으면 전체 다운로드 시 디스크 캐시에 함께 저장한다.
+     * 같은 파일의 전체 다운로드가 동시에 들어오면 S3 응답 1건을 함께 사용한다.
+     * 압축 저장 파일은 Range를 무시하고 전체를 전송하며, 클라이언트가 gzip을 받을 수 없으면 압축을 풀어 전송한다.
+     * @param request http 요청 객체
+     * @param response http 응답 객체
      * @param fileKey 파일 식별자 (업로드경로 + 파일명)
      * @throws ApiBizException 예외처리
      */
     @Override
-    public void downloadObject(HttpServletResponse response, String fileKey) throws ApiBizException {
-        try (ResponseInputStream<GetObjectResponse> s3InputStream = s3Client.getObject(
-                GetObjectRequest.builder().bucket(s3Info.getBucket()).key(fileKey).build()
-        )) {
-            // 파일명 추출
-            String filename = Paths.get(fileKey).getFileName().toString();
-
-            // HTTP 헤더 설정
-            this.setResponse(response, filename, s3InputStream.response().contentType(), s3InputStream.response().contentLength());
-
-            // 스트리밍 전송
-            StreamUtils.copy(s3InputStream, response.getOutputStream());
-            response.flushBuffer();
+    public void downloadObject(HttpServletRequest request, HttpServletResponse response, String fileKey) throws ApiBizException {
+        List<HttpRange> ranges = parseRanges(request);
+        if (ranges.size() > 1) {
+            if (this.downloadMultiRange(request, response, fileKey, ranges)) {
+                return;
+            }
+            ranges = Collections.emptyList();
+        }
+
+        Optional<S3DiskCache.Entry> cached = s3DiskCache.get(fileKey, this::currentETag);
+        if (cached.isPresent()) {
+            this.downloadCached(request, response, fileKey, ranges, cached.get());
+            return;
+        }
+
+        String objectKey = s3Deduplicator.resolve(fileKey);
+        GetObjectRequest.Builder getBuilder = GetObjectRequest.builder().bucket(s3Info.getBucket()).key(objectKey);
+        if (!ranges.isEmpty()) {
+            getBuilder.range(HttpRange.toString(ranges));
+        }
+        applyConditions(request, getBuilder);
+
+        try (ResponseInputStream<GetObjectResponse> s3InputStream = this.getObject(getBuilder)) {
+            // HTTP 헤더 설정
+            GetObjectResponse object = s3InputStream.response();
+            boolean decode = S3StorageCodec.isEncoded(object.contentEncoding()) && !S3StorageCodec.isAccepted(request);
+            this.setObjectResponse(response, fileKey, object, decode);
+
+            // 스트리밍 전송 (전체 다운로드는 디스크 캐시에 함께 저장, gzip을 받을 수 없으면 압축 해제)
+            long written;
+            if (decode) {
+                try (InputStream in = S3StorageCodec.decode(s3InputStream)) {
+                    written = in.transferTo(response.getOutputStream());
+                }
+            } else if (object.contentRange() == null && s3DiskCache.isCacheable(object.contentLength())) {
+                // 재검증 기준(파일 정보 캐시)이 이전 ETag로 남아 새 캐시 파일을 바로 제거하지 않도록 함께 비움
+                s3ObjectMetadataCache.invalidate(fileKey);
+                written = s3DiskCache.write(fileKey, object, s3InputStream, response.getOutputStream());
+            } else {
+                written = s3InputStream.transferTo(response.getOutputStream());
+            }
+            s3Metrics.recordBytesOut(fileKey, written);
+            response.flushBuffer();
+
+        } catch (S3Exception e) {
+            if (this.handleConditionalResult(response, objectKey, e)) {
+                return;
+            }
+            if (downloadErrorStatus(e) == HttpStatus.NOT_FOUND) {
+                throw new ApiBizException(HttpStatus.NOT_FOUND, "파일이 없습니다.");
+            }
+            log.error("파일 다운로드 중 오류 발생", e);
+            throw new ApiBizException(HttpStatus.INTERNAL_SERVER_ERROR, "파일 다운로드 실패");
+        } catch (IOException e) {
+            log.error("파일 다운로드 중 오류 발생", e);
+            throw new ApiBizException(HttpStatus.INTERNAL_SERVER_ERROR, "파일 다운로드 실패");
+        }
+    }
+
+    /**
+     * 다운로드 오류 응답 코드 (동기/비동기 다운로드 공통, 파일이 없으면 404)
+     * @param e 오류
+     * @return 응답 코드
+     */
+    private static HttpStatus downloadErrorStatus(Throwable e) {
+        return e instanceof S3Exception s3Exception && s3Exception.statusCode() == HttpStatus.NOT_FOUND.value()
+                ? HttpStatus.NOT_FOUND : HttpStatus.INTERNAL_SERVER_ERROR;
+    }
+
+    /**
+     * 다운로드 대상 조회
+     * 압축 저장 파일은 압축 데이터 일부만으로 풀 수 없으므로 Range 요청이면 전체를 다시 요청한다.
+     * @param getBuilder S3 요청
+     * @return S3 응답
+     * @throws IOException 응답 스트림 정리 실패
+     */
+    private ResponseInputStream<GetObjectResponse> getObject(GetObjectRequest.Builder getBuilder) throws IOException {
+        ResponseInputStream<GetObjectResponse> s3InputStream = s3SingleFlight.getObject(getBuilder.build());
+        GetObjectResponse object = s3InputStream.response();
+        if (object.contentRange() == null || !S3StorageCodec.isEncoded(object.contentEncoding())) {
+            return s3InputStream;
+        }
+
+        s3InputStream.abort();
+        s3InputStream.close();
+        return s3SingleFlight.getObject(getBuilder.range(null).build());
+    }
+
+    /**
+     * 비동기 전송(S3AsyncClient)으로 파일 다운로드
+     * 반환한 결과를 컨트롤러가 그대로 반환하면 Spring MVC가 Servlet 비동기 모드를 시작하고,
+     * 시작된 뒤에 S3 응답을 Non-blocking I/O(WriteListener)로 전송하므로 S3 응답 대기와 클라이언트 전송 모두 스레드를 점유하지 않는다.
+     * 다음 요청은 동기 방식(downloadObject)으로 처리하고 완료된 결과를 반환한다.
+     * <ul>
+     *     <li>비동기 전송을 사용하지 않는 경우 (s3.async.enabled)</li>
+     *     <li>여러 Range 요청 (Range마다 S3 요청 후 multipart/byteranges 조립)</li>
+     *     <li>디스크 캐시에 있는 파일 (로컬 디스크에서 전송, 캐시에 없으면 비동기로 전송하고 캐시에 저장하지 않음)</li>
+     *     <li>저장 압축 사용 시 Range 요청 또는 gzip을 받을 수 없는 클라이언트 (압축 여부를 응답 전에 알 수 없음)</li>
+     * </ul>
+     * 전송 완료, S3 오류, 시간 초과(s3.async.timeout), 클라이언트 연결 오류 중 먼저 발생한 1건으로 결과를 완료하며,
+     * 시간 초과나 연결 오류 시에는 S3 요청(수신 중이면 구독)을 취소한다.
+     * 응답 헤더 전송 전 오류는 동기 방식과 같은 ApiBizException으로 완료한다. (파일이 없으면 404)
+     * 전송 시작 후 오류는 오류 응답을 쓸 수 없으므로 전송을 중단하고 정상 완료한다.
+     * @param request http 요청 객체
+     * @param response http 응답 객체
+     * @param fileKey 파일 식별자 (업로드경로 + 파일명)
+     * @return 전송 완료 결과 (컨트롤러에서 반환)
+     * @throws ApiBizException 예외처리
+     */
+    @Override
+    public CompletableFuture<Void> downloadObjectAsync(HttpServletRequest request, HttpServletResponse response, String fileKey) throws ApiBizException {
+        S3AsyncClient s3AsyncClient = s3AsyncClientProvider.getIfAvailable();
+        List<HttpRange> ranges = parseRanges(request);
+        if (s3AsyncClient == null || ranges.size() > 1 || s3DiskCache.get(fileKey, this::currentETag).isPresent()
+                || (s3StorageCodec.isEnabled() && (!ranges.isEmpty() || !S3StorageCodec.isAccepted(request)))) {
+            log.debug("동기 방식으로 다운로드 : {}", fileKey);
+            this.downloadObject(request, response, fileKey);
+            return CompletableFuture.completedFuture(null);
+        }
+
+        String objectKey = s3Deduplicator.resolve(fileKey);
+        GetObjectRequest.Builder getBuilder = GetObjectRequest.builder().bucket(s3Info.getBucket()).key(objectKey);
+        if (!ranges.isEmpty()) {
+            getBuilder.range(HttpRange.toString(ranges));
+        }
+        applyConditions(request, getBuilder);
+
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        CompletableFuture<Void> started = new CompletableFuture<>();
+        CompletableFuture<ResponsePublisher<GetObjectResponse>> s3Response =
+                s3AsyncClient.getObject(getBuilder.build(), AsyncResponseTransformer.toPublisher());
+        AtomicReference<ServletOutputSubscriber> subscriber = new AtomicReference<>();
+        AtomicBoolean finished = new AtomicBoolean();
+
+        // 결과 완료 (먼저 호출된 1건만 처리)
+        BiConsumer<Long, Throwable> finish = (contentLength, error) -> {
+            if (!finished.compareAndSet(false, true)) {
+                return;
+            }
+            if (contentLength != null) {
+                s3Metrics.recordBytesOut(fileKey, contentLength);
+            }
+
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            if (cause instanceof S3Exception s3Exception && !response.isCommitted()
+                    && this.handleConditionalResult(response, objectKey, s3Exception)) {
+                cause = null;
+            }
+            if (cause == null) {
+                result.complete(null);
+                return;
+            }
+
+            s3Response.cancel(true);
+            ServletOutputSubscriber current = subscriber.get();
+            if (current != null) {
+                current.cancel(cause);
+            }
+
+            HttpStatus status = downloadErrorStatus(cause);
+            if (status != HttpStatus.NOT_FOUND) {
+                log.error("파일 다운로드 중 오류 발생", cause);
+            }
+            if (response.isCommitted()) {
+                result.complete(null);
+            } else {
+                result.completeExceptionally(status == HttpStatus.NOT_FOUND
+                        ? new ApiBizException(HttpStatus.NOT_FOUND, "파일이 없습니다.")
+                        : new ApiBizException(HttpStatus.INTERNAL_SERVER_ERROR, "파일 다운로드 실패"));
+            }
+        };
+
+        // Spring MVC 비동기 처리 시작, 시간 초과, 연결 오류
+        WebAsyncUtils.getAsyncManager(request).registerDeferredResultInterceptor(result, new DeferredResultProcessingInterceptor() {
+            @Override
+            public <T> void preProcess(NativeWebRequest webRequest, DeferredResult<T> deferredResult) {
+                request.getAsyncContext().setTimeout(s3Info.getAsync().getTimeout().toMillis());
+                started.complete(null);
+            }
+
+            @Override
+            public <T> boolean handleTimeout(NativeWebRequest webRequest, DeferredResult<T> deferredResult) {
+                finish.accept(null, new TimeoutException("파일 다운로드 시간 초과"));
+                return true;
+            }
+
+            @Override
+            public <T> boolean handleError(NativeWebRequest webRequest, DeferredResult<T> deferredResult, Throwable t) {
+                finish.accept(null, t);
+                return true;
+            }
+
+            @Override
+            public <T> void afterCompletion(NativeWebRequest webRequest, DeferredResult<T> deferredResult) {
+                finish.accept(null, new CancellationException("응답 종료"));
+            }
+        });
+
+        started
+                .thenCompose(v -> s3Response)
+                .thenCompose(publisher -> {
+                    // 시간 초과 등으로 결과가 먼저 완료된 경우 S3 응답 수신만 취소
+                    if (finished.get()) {
+                        ServletOutputSubscriber cancelled = new ServletOutputSubscriber(null);
+                        cancelled.cancel(new CancellationException("응답 종료"));
+                        publisher.subscribe(cancelled);
+                        return cancelled.result().thenApply(v -> 0L);
+                    }
+
+                    // HTTP 헤더 설정
+                    this.setObjectResponse(response, fileKey, publisher.response(), false);
+
+                    ServletOutputSubscriber current;
+                    try {
+                        current = new ServletOutputSubscriber(response.getOutputStream());
+                    } catch (IOException e) {
+                        throw new CompletionException(e);
+                    }
+                    subscriber.set(current);
+                    publisher.subscribe(current);
+                    return current.result().thenApply(v -> publisher.response().contentLength());
+                })
+                .whenComplete(finish);
+        return result;
+    }
+
+    /**
+     * 디스크 캐시 파일 전송 (조건부 요청, 단일 Range 처리)
+     * 압축 저장 파일은 Range를 무시하고 전체를 전송하며, 클라이언트가 gzip을 받을 수 없으면 압축을 풀어 전송한다.
+     * @param request http 요청 객체
+     * @param response http 응답 객체
+     * @param fileKey 파일 식별자
+     * @param ranges 요청 Range 목록 (0 또는 1건)
+     * @param cached 캐시 파일
+     * @throws ApiBizException 예외처리
+     */
+    private void downloadCached(HttpServletRequest request, HttpServletResponse response, String fileKey,
+                                List<HttpRange> ranges, S3DiskCache.Entry cached) throws ApiBizException {
+        if (this.isPreconditionFailed(request, cached.eTag(), cached.lastModified())) {
+            response.setStatus(HttpStatus.PRECONDITION_FAILED.value());
+            return;
+        }
+        if (this.isNotModified(request, cached.eTag(), cached.lastModified())) {
+            this.setValidatorHeaders(response, cached.eTag(), cached.lastModified());
+            response.setStatus(HttpStatus.NOT_MODIFIED.value());
+            return;
+        }
+
+        if (S3StorageCodec.isEncoded(cached.contentEncoding())) {
+            this.downloadCachedEncoded(request, response, fileKey, cached);
+            return;
+        }
+
+        long start = 0;
+        long end = cached.size() - 1;
+        if (!ranges.isEmpty()) {
+            start = ranges.get(0).getRangeStart(cached.size());
+            end = ranges.get(0).getRangeEnd(cached.size());
+            // 시작 위치가 파일 크기 이상이거나 빈 파일의 suffix Range (bytes=-N)
+            if (start >= cached.size() || start > end) {
+                response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + cached.size());
+                return;
+            }
+        }
+
+        String filename = Paths.get(fileKey).getFileName().toString();
+        this.setResponse(response, filename, cached.contentType(), end - start + 1);
+        this.setValidatorHeaders(response, cached.eTag(), cached.lastModified());
+        if (!ranges.isEmpty()) {
+            response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + cached.size());
+        }
+
+        try {
+            s3DiskCache.transferTo(cached, request, response, start, end - start + 1);
+            s3Metrics.recordBytesOut(fileKey, end - start + 1);
+        } catch (IOException e) {
+            log.error("파일 다운로드 중 오류 발생", e);
+            throw new ApiBizException(HttpStatus.INTERNAL_SERVER_ERROR, "파일 다운로드 실패");
+        }
+    }
+
+    /**
+     * 디스크 캐시 압축 저장 파일 전송
+     * @param request http 요청 객체
+     * @param response http 응답 객체
+     * @param fileKey 파일 식별자
+     * @param cached 캐시 파일 (압축 데이터)
+     * @throws ApiBizException 예외처리
+     */
+    private void downloadCachedEncoded(HttpServletRequest request, HttpServletResponse response, String fileKey,
+                                       S3DiskCache.Entry cached) throws ApiBizException {
+        boolean decode = !S3StorageCodec.isAccepted(request);
+
+        String filename = Paths.get(fileKey).getFileName().toString();
+        this.setResponse(response, filename, cached.contentType(), decode ? cached.originalLength() : Long.valueOf(cached.size()));
+        this.setValidatorHeaders(response, cached.eTag(), cached.lastModified());
+        this.setEncodingHeaders(response, cached.eTag(), decode);
+
+        try {
+            if (decode) {
+                try (InputStream in = S3StorageCodec.decode(s3DiskCache.newInputStream(cached))) {
+                    s3Metrics.recordBytesOut(fileKey, in.transferTo(response.getOutputStream()));
+                }
+                response.flushBuffer();
+            } else {
+                s3DiskCache.transferTo(cached, request, response, 0, cached.size());
+                s3Metrics.recordBytesOut(fileKey, cached.size());
+            }
+        } catch (IOException e) {
+            log.error("파일 다운로드 중 오류 발생", e);
+            throw new ApiBizException(HttpStatus.INTERNAL_SERVER_ERROR, "파일 다운로드 실패");
+        }
+    }
+
+    /**
+     * 다운로드 응답 헤더 세팅 (파일 정보, 캐시 검증, 압축, 부분 응답)
+     * @param response http 응답
+     * @param fileKey 파일 식별자
+     * @param object S3 응답
+     * @param decode 압축 저장 파일을 풀어서 전송하는지 여부 (원본 크기를 모르면 Content-Length 생략)
+     */
+    private void setObjectResponse(HttpServletResponse response, String fileKey, GetObjectResponse object, boolean decode) {
+        // 파일명 추출
+        String filename = Paths.get(fileKey).getFileName().toString();
+
+        this.setResponse(response, filename, object.contentType(),
+                decode ? S3StorageCodec.originalLength(object.metadata()) : object.contentLength());
+        this.setValidatorHeaders(response, object.eTag(), object.lastModified());
+        if (S3StorageCodec.isEncoded(object.contentEncoding())) {
+            this.setEncodingHeaders(response, object.eTag(), decode);
+        }
+        if (object.contentRange() != null) {
+            response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+            response.setHeader(HttpHeaders.CONTENT_RANGE, object.contentRange());
+        }
+    }
+
+    /**
+     * 여러 Range 요청 처리 (multipart/byteranges)
+     * 객체 크기로 각 Range를 확정한 뒤 겹치거나 인접한 Range를 합치고(RFC 9110 14.6), 가까운 Range는 S3 요청 1건으로 받아 사이 구간을 건너뛴다.
+     * S3 요청이 MULTI_RANGE_MAX_REQUESTS건을 넘으면 첫 Range부터 마지막 Range까지 1건으로 받는다.
+     * 합친 결과가 1건이면 단일 Range 응답으로 전송한다.
+     * @param request http 요청 객체
+     * @param response http 응답 객체
+     * @param fileKey 파일 식별자
+     * @param ranges 요청 Range 목록
+     * @return 처리 여부 (압축 저장 파일은 Range를 지원하지 않으므로 false)
+     * @throws ApiBizException 예외처리
+     */
+    private boolean downloadMultiRange(HttpServletRequest request, HttpServletResponse response, String fileKey, List<HttpRange> ranges) throws ApiBizException {
+        String objectKey = s3Deduplicator.resolve(fileKey);
+        try {
+            HeadObjectResponse head = s3Hedger.headObject(HeadObjectRequest.builder()
+                    .bucket(s3Info.getBucket())
+                    .key(objectKey)
+                    .build());
+            if (S3StorageCodec.isEncoded(head.contentEncoding())) {
+                return false;
+            }
+
+            if (isPreconditionFailed(request, head.eTag(), head.lastModified())) {
+                response.setStatus(HttpStatus.PRECONDITION_FAILED.value());
+                return true;
+            }
+            this.setValidatorHeaders(response, head.eTag(), head.lastModified());
+            if (isNotModified(request, head.eTag(), head.lastModified())) {
+                response.setStatus(HttpStatus.NOT_MODIFIED.value());
+                return true;
+            }
+
+            long length = head.contentLength();
+            List<long[]> parts = mergeRanges(ranges, length);
+            if (parts.isEmpty()) {
+                response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                return true;
+            }
+
+            String filename = Paths.get(fileKey).getFileName().toString();
+            String contentType = head.contentType() != null ? head.contentType() : MediaType.APPLICATION_OCTET_STREAM_VALUE;
+            String boundary = MimeTypeUtils.generateMultipartBoundaryString();
+            if (parts.size() == 1) {
+                long[] part = parts.get(0);
+                this.setResponse(response, filename, contentType, part[1] - part[0] + 1);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + part[0] + "-" + part[1] + "/" + length);
+            } else {
+                this.setResponse(response, filename, "multipart/byteranges; boundary=" + boundary, null);
+            }
+            response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+
+            ServletOutputStream out = response.getOutputStream();
+            for (List<long[]> window : groupRanges(parts)) {
+                long windowStart = window.get(0)[0];
+                long windowEnd = window.get(window.size() - 1)[1];
+
+                // 전송 중 객체가 바뀌지 않았는지 ETag로 확인
+                try (ResponseInputStream<GetObjectResponse> s3InputStream = s3Hedger.getObject(GetObjectRequest.builder()
+                        .bucket(s3Info.getBucket())
+                        .key(objectKey)
+                        .range("bytes=" + windowStart + "-" + windowEnd)
+                        .ifMatch(head.eTag())
+                        .build())) {
+                    long position = windowStart;
+                    for (long[] part : window) {
+                        if (parts.size() > 1) {
+                            out.write(("\r\n--" + boundary + "\r\n"
+                                    + HttpHeaders.CONTENT_TYPE + ": " + contentType + "\r\n"
+                                    + HttpHeaders.CONTENT_RANGE + ": bytes " + part[0] + "-" + part[1] + "/" + length + "\r\n\r\n")
+                                    .getBytes(StandardCharsets.US_ASCII));
+                        }
+                        s3InputStream.skipNBytes(part[0] - position);
+                        s3Metrics.recordBytesOut(fileKey, StreamUtils.copyRange(s3InputStream, out, 0, part[1] - part[0]));
+                        position = part[1] + 1;
+                    }
+                }
+            }
+            if (parts.size() > 1) {
+                out.write(("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.US_ASCII));
+            }
+            response.flushBuffer();
+            return true;
+
+        } catch (S3Exception e) {
+            if (downloadErrorStatus(e) == HttpStatus.NOT_FOUND) {
+                throw new ApiBizException(HttpStatus.NOT_FOUND, "파일이 없습니다.");
+            }
+            log.error("파일 다운로드 중 오류 발생", e);
+            throw new ApiBizException(HttpStatus.INTERNAL_SERVER_ERROR, "파일 다운로드 실패");
+        } catch (IOException e) {
+            log.error("파일 다운로드 중 오류 발생", e);
+            throw new ApiBizException(HttpStatus.INTERNAL_SERVER_ERROR, "파일 다운로드 실패");
+        }
+    }
+
+    /**
+     * 여러 Range를 객체 크기로 확정하여 시작 위치 순으로 정렬하고, 겹치거나 맞닿은 Range는 합친다.
+     * 시작 위치가 객체 크기 이상인 Range는 제외한다.
+     * @param ranges 요청 Range 목록
+     * @param length 객체 크기
+     * @return [시작, 끝] 목록 (모두 만족할 수 없으면 빈 목록)
+     */
+    private static List<long[]> mergeRanges(List<HttpRange> ranges, long length) {
+        List<long[]> sorted = new ArrayList<>();
+        for (HttpRange range : ranges) {
+            long start = range.getRangeStart(length);
+            long end = range.getRangeEnd(length);
+            if (start < length && start <= end) {
+                sorted.add(new long[] {start, end});
+            }
+        }
+        sorted.sort(Comparator.comparingLong(range -> range[0]));
+
+        List<long[]> merged = new ArrayList<>();
+        for (long[] range : sorted) {
+            long[] last = merged.isEmpty() ? null : merged.get(merged.size() - 1);
+            if (last != null && range[0] <= last[1] + 1) {
+                last[1] = Math.max(last[1], range[1]);
+            } else {
+                merged.add(range);
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * 정렬된 Range를 S3 요청 단위로 묶는다.
+     * 사이 간격이 MULTI_RANGE_MERGE_GAP 이하인 Range는 같은 요청으로 받고,
+     * 요청이 MULTI_RANGE_MAX_REQUESTS건을 넘으면 전체를 1건으로 묶는다.
+     * @param parts 정렬 및 병합된 Range 목록
+     * @return S3 요청별 Range 목록
+     */
+    private static List<List<long[]>> groupRanges(List<long[]> parts) {
+        List<List<long[]>> windows = new ArrayList<>();
+        for (long[] part : parts) {
+            List<long[]> last = windows.isEmpty() ? null : windows.get(windows.size() - 1);
+            if (last != null && part[0] - last.get(last.size() - 1)[1] - 1 <= MULTI_RANGE_MERGE_GAP) {
+                last.add(part);
+            } else {
+                windows.add(new ArrayList<>(List.of(part)));
+            }
+        }
+        return windows.size() > MULTI_RANGE_MAX_REQUESTS ? List.of(parts) : windows;
+    }
+
+    /**
+     * 파일을 다운로드하기 위한 임시 URL 생성
+     * @param fileKey 파일 식별자 (업로드경로 + 파일명)
+     * @return 임시 URL (서명된 URL, 유효시간 10분)
+     * @throws ApiBizException 예외 처리
+     */
+    @Override
+    public String getPresignedUrl(String fileKey) throws ApiBizException {
+        try {
+            // 중복 제거 참조 파일은 원본 교체 시 다른 서버의 URL 캐시를 정리할 수 없으므로 보관하지 않음
+            if (!s3Deduplicator.resolve(fileKey).equals(fileKey)) {
+                return this.presign(fileKey).url().toExternalForm();
+            }
+            return s3PresignedUrlCache.get(fileKey, this::presign);
+        } catch (S3Exception | IllegalArgumentException e) {
+            log.error("Presigned URL 발급 실패", e);
+            throw new ApiBizException(HttpStatus.INTERNAL_SERVER_ERROR, "URL 발급 실패");
+        }
+    }
+
+    /**
+     * 여러 파일을 다운로드하기 위한 임시 URL 일괄 생성
+     * @param fileKeyList 파일 식별자 목록
+     * @return 파일 식별자별 임시 URL
+     * @throws ApiBizException 예외 처리
+     */
+    @Override
+    public Map<String, String> getPresignedUrlList(String[] fileKeyList) throws ApiBizException {
+        if (fileKeyList == null) {
+            return Collections.emptyMap();
+        }
+
+        if (fileKeyList.length > s3Info.getPresigned().getBatchMaxKeys()) {
+            throw new ApiBizException(HttpStatus.BAD_REQUEST, "한번에 발급할 수 있는 URL 수를 초과했습니다.");
+        }
+
+        Map<String, String> urlMap = new LinkedHashMap<>();
+        for (String fileKey : fileKeyList) {
+            urlMap.computeIfAbsent(fileKey, this::getPresignedUrl);
+        }
+        return urlMap;
+    }
+
+    /**
+     * 파일 다운로드용 URL 서명
+     * @param fileKey 파일 식별자
+     * @return 서명된 요청
+     */
+    private PresignedGetObjectRequest presign(String fileKey) {
+        String objectKey = s3Deduplicator.resolve(fileKey);
+        GetObjectRequest.Builder objectRequest = GetObjectRequest.builder()
+                .bucket(s3Info.getBucket())
+                .key(objectKey);
+
+        // 중복 제거 참조 파일은 원본 키로 서명하므로 다운로드 파일명을 지정
+        if (!objectKey.equals(fileKey)) {
+            String filename = Paths.get(fileKey).getFileName().toString();
+            objectRequest.responseContentDisposition("attachment; filename*=UTF-8''"
+                    + URLEncoder.encode(filename, StandardCharsets.UTF_8).replaceAll("\\+", "%20"));
+        }
+
+        GetObjectPresignRequest presignRequest = GetObjectPresignRequest.builder()
+                .signatureDuration(Duration.ofMinutes(s3Info.getPresignedTime()))
+                .getObjectRequest(objectRequest.build())
+                .build();
+
+        return s3Presigner.presignGetObject(presignRequest);
+    }
+
+    /**
+     * 스토리지에서 여러 파일을 zip으로 다운로드
+     * @param response http 응답 객체
+     * @param fileKeyList 파일 식별자 목록
+     * @throws ApiBizException 예외 처리
+     */
+    @Override
+    public void downloadZip(HttpServletResponse response, String[] fileKeyList) throws ApiBizException {
+        if(fileKeyList == null) {
+            return;
+        }
+
+        if(fileKeyList.length > s3Info.getZip().getMaxKeys()) {
+            throw new ApiBizException(HttpStatus.BAD_REQUEST, "한번에 다운로드할 수 있는 파일 수를 초과했습니다.");
+        }
+
+        // 다운 파일명
+        String zipName = LocalDate.now() + ".zip";
+
+        // HTTP 헤더 설정
+        this.setResponse(response, zipName, "application/zip", null);
+
+        try(ZipOutputStream zos = new ZipOutputStream(response.getOutputStream())) {
+            // 다음 파일을 미리 가져오면서 요청 순서대로 기록
+            long written = s3ZipWriter.write(zos, fileKeyList, s3Deduplicator::resolve);
+
+            String firstKey = fileKeyList.length > 0 ? fileKeyList[0] : null;
+            s3Metrics.recordZipObjects(S3Metrics.instCdOf(firstKey), fileKeyList.length);
+            s3Metrics.recordBytesOut(firstKey, written);
+        } catch (S3Exception e) {
+            log.error("파일 다운로드 중 오류 발생", e);
+            throw new ApiBizException(HttpStatus.INTERNAL_SERVER_ERROR, "파일 다운로드 실패");
+        } catch (IOException e) {
+            throw new ApiBizException(HttpStatus.INTERNAL_SERVER_ERROR, "ZIP 파일을 생성할 수 없습니다.");
+        }
+    }
+
+    /**
+     * 스토리지에 저장된 파일 삭제
+     * @param fileKey 삭제 대상 파일키
+     * @throws ApiBizException 예외 처리
+     */
+    @Override
+    public void deleteObject(String fileKey) throws ApiBizException {
+        try {
+            // 중복 제거 참조 파일은 참조만 삭제
+            if (s3Deduplicator.release(List.of(fileKey)).isEmpty()) {
+                s3Client.deleteObject(DeleteObjectRequest.builder()
+                        .bucket(s3Info.getBucket())
+                        .key(fileKey)
+                        .build());
+            }
+        } catch (S3Exception | DataAccessException e) {
+            log.error("파일 삭제 중 오류 발생", e);
+            throw new ApiBizException(HttpStatus.INTERNAL_SERVER_ERROR, "삭제 실패");
+        } finally {
+            s3ObjectMetadataCache.invalidate(fileKey);
+            s3PresignedUrlCache.invalidate(fileKey);
+            s3DiskCache.invalidate(fileKey);
+        }
+
+        s3ObjectIndexer.remove(fileKey);
+    }
+
+    /**
+     * 스토리지에 저장된 여러 파일 일괄 삭제
+     * @param fileKeyList 삭제 대상 파일키 목록
+     * @return 삭제 결과 (실패한 파일 포함)
+     * @throws ApiBizException 예외 처리
+     */
+    @Override
+    public S3DeleteResultVO deleteObjectList(String[] fileKeyList) throws ApiBizException {
+        if (fileKeyList == null || fileKeyList.length == 0) {
+            return new S3DeleteResultVO();
+        }
+
+        if (fileKeyList.length > s3Info.getDelete().getMaxKeys()) {
+            throw new ApiBizException(HttpStatus.BAD_REQUEST, "한번에 삭제할 수 있는 파일 수를 초과했습니다.");
+        }
+
+        return this.deleteKeys(new LinkedHashSet<>(Arrays.asList(fileKeyList)));
+    }
+
+    /**
+     * 파일 목록 삭제 (중복 제거 참조 파일은 참조만 삭제)
+     * @param fileKeys 삭제 대상 파일키
+     * @return 삭제 결과 (실패한 파일 포함)
+     * @throws ApiBizException 예외 처리
+     */
+    private S3DeleteResultVO deleteKeys(Set<String> fileKeys) throws ApiBizException {
+        List<String> released;
+        try {
+            released = s3Deduplicator.release(fileKeys);
+        } catch (S3Exception | DataAccessException e) {
+            log.error("파일 삭제 중 오류 발생", e);
+            throw new ApiBizException(HttpStatus.INTERNAL_SERVER_ERROR, "삭제 실패");
+        }
+        released.forEach(fileKeys::remove);
+        this.afterDelete(released);
+
+        S3DeleteResultVO result = s3BatchDeleter.delete(fileKeys, this::afterDelete);
+        result.setDeletedCount(result.getDeletedCount() + released.size());
+        return result;
+    }
+
+    /**
+     * 기관코드/일자 prefix 하위 파일 일괄 삭제
+     * @param instCd 삭제 대상 기관코드
+     * @param dateString 삭제 대상 일자(연 or 연월 or 연월일)
+     * @return 삭제 결과 (실패한 파일 포함)
+     * @throws ApiBizException 예외 처리
+     */
+    @Override
+    public S3DeleteResultVO deletePrefix(String instCd, String dateString) throws ApiBizException {
+        if (instCd == null || instCd.isBlank()) {
+            throw new ApiBizException(HttpStatus.BAD_REQUEST, "기관코드가 없습니다.");
+        }
+
+        try {
+            String prefix = buildPrefix(instCd, dateString);
+            List<String> released = s3Deduplicator.releasePrefix(prefix);
+            this.afterDelete(released);
+
+            S3DeleteResultVO result = s3BatchDeleter.deletePrefix(prefix, this::afterDelete);
+            result.setDeletedCount(result.getDeletedCount() + released.size());
+            return result;
+        } catch (S3Exception | DataAccessException e) {
+            log.error("파일 삭제 중 오류 발생", e);
+            throw new ApiBizException(HttpStatus.INTERNAL_SERVER_ERROR, "삭제 실패");
+        }
+    }
+
+    /**
+     * 삭제 후처리 (캐시 정리, 파일 목록 삭제)
+     * @param fileKeyList 삭제된 파일키 목록
+     */
+    private void afterDelete(List<String> fileKeyList) {
+        for (String fileKey : fileKeyList) {
+            s3ObjectMetadataCache.invalidate(fileKey);
+            s3PresignedUrlCache.invalidate(fileKey);
+            s3DiskCache.invalidate(fileKey);
+            s3ObjectIndexer.remove(fileKey);
+        }
+    }
+
+    /**
+     * 파일을 다른 기관코드/일자 경로로 복사 (스토리지 내부 복사)
+     * 파일 데이터를 서버로 받지 않으며, 중복 제거 대상 파일은 스토리지 복사 없이 참조로 등록한다.
+     * @param fileKey 복사할 파일키
+     * @param targetInstCd 대상 기관코드
+     * @param targetDateString 대상 일자(연월일, 없으면 원본 일자)
+     * @return 대상 파일 키 (UUID와 파일명은 원본과 같음)
+     * @throws ApiBizException 예외 처리
+     */
+    @Override
+    public String copyObject(String fileKey, String targetInstCd, String targetDateString) throws ApiBizException {
+        String targetKey = getCopyFileKey(fileKey, targetInstCd, targetDateString);
 
-        } catch (S3Exception | IOException e) {
-            log.error("파일 다운로드 중 오류 발생", e);
-            throw new ApiBizException(HttpStatus.INTERNAL_SERVER_ERROR, "파일 다운로드 실패");
+        try {
+            this.copyKey(fileKey, targetKey);
+        } catch (NoSuchKeyException e) {
+            throw new ApiBizException(HttpStatus.NOT_FOUND, "파일이 없습니다.");
+        } catch (S3Exception | DataAccessException e) {
+            if (e instanceof S3Exception s3Exception && s3Exception.statusCode() == HttpStatus.NOT_FOUND.value()) {
+                throw new ApiBizException(HttpStatus.NOT_FOUND, "파일이 없습니다.");
+            }
+            log.error("파일 복사 중 오류 발생", e);
+            throw new ApiBizException(HttpStatus.INTERNAL_SERVER_ERROR, "복사 실패");
         }
+        return targetKey;
     }
 
     /**
-     * 파일을 다운로드하기 위한 임시 URL 생성
-     * @param fileKey 파일 식별자 (업로드경로 + 파일명)
-     * @return 임시 URL (서명된 URL, 유효시간 10분)
+     * 파일을 다른 기관코드/일자 경로로 이동 (복사 후 원본 삭제)
+     * @param fileKey 이동할 파일키
+     * @param targetInstCd 대상 기관코드
+     * @param targetDateString 대상 일자(연월일, 없으면 원본 일자)
+     * @return 대상 파일 키
      * @throws ApiBizException 예외 처리
      */
     @Override
-    public String getPresignedUrl(String fileKey) throws ApiBizException {
-        try {
-            GetObjectRequest objectRequest = GetObjectRequest.builder()
-                    .bucket(s3Info.getBucket())
-                    .key(fileKey)
-                    .build();
+    public String moveObject(String fileKey, String targetInstCd, String targetDateString) throws ApiBizException {
+        String targetKey = this.copyObject(fileKey, targetInstCd, targetDateString);
+        this.deleteObject(fileKey);
+        return targetKey;
+    }
 
-            GetObjectPresignRequest presignRequest = GetObjectPresignRequest.builder()
-                    .signatureDuration(Duration.ofMinutes(s3Info.getPresignedTime()))
-                    .getObjectRequest(objectRequest)
-                    .build();
+    /**
+     * 기관코드/일자 prefix 하위 파일을 다른 기관코드/일자로 일괄 복사
+     * 하위 경로(일자, UUID, 파일명)는 유지하므로 원본과 대상 일자는 같은 단위(연, 연월, 연월일)여야 한다.
+     * @param instCd 원본 기관코드
+     * @param dateString 원본 일자(연 or 연월 or 연월일)
+     * @param targetInstCd 대상 기관코드
+     * @param targetDateString 대상 일자 (없으면 원본 일자)
+     * @return 복사 결과 (실패한 파일 포함)
+     * @throws ApiBizException 예외 처리
+     */
+    @Override
+    public S3CopyResultVO copyPrefix(String instCd, String dateString, String targetInstCd, String targetDateString) throws ApiBizException {
+        return this.copyPrefix(instCd, dateString, targetInstCd, targetDateString, key -> {});
+    }
 
-            PresignedGetObjectRequest presignedRequest = s3Presigner.presignGetObject(presignRequest);
+    /**
+     * 기관코드/일자 prefix 하위 파일을 다른 기관코드/일자로 일괄 이동 (복사된 파일만 원본 삭제)
+     * @param instCd 원본 기관코드
+     * @param dateString 원본 일자(연 or 연월 or 연월일)
+     * @param targetInstCd 대상 기관코드
+     * @param targetDateString 대상 일자 (없으면 원본 일자)
+     * @return 이동 결과 (실패한 파일 포함)
+     * @throws ApiBizException 예외 처리
+     */
+    @Override
+    public S3CopyResultVO movePrefix(String instCd, String dateString, String targetInstCd, String targetDateString) throws ApiBizException {
+        Set<String> copied = ConcurrentHashMap.newKeySet();
+        S3CopyResultVO result = this.copyPrefix(instCd, dateString, targetInstCd, targetDateString, copied::add);
+        if (copied.isEmpty()) {
+            return result;
+        }
 
-            return presignedRequest.url().toExternalForm();
-        } catch (S3Exception | IllegalArgumentException e) {
-            log.error("Presigned URL 발급 실패", e);
-            throw new ApiBizException(HttpStatus.INTERNAL_SERVER_ERROR, "URL 발급 실패");
+        S3DeleteResultVO deleted = this.deleteKeys(copied);
+        result.setDeletedCount(deleted.getDeletedCount());
+        for (S3DeleteResultVO.Error deleteError : deleted.getErrorList()) {
+            S3CopyResultVO.Error error = new S3CopyResultVO.Error();
+            error.setFileKey(deleteError.getFileKey());
+            error.setCode(deleteError.getCode());
+            error.setMessage(deleteError.getMessage());
+            result.getErrorList().add(error);
         }
+        return result;
     }
 
     /**
-     * 스토리지에서 여러 파일을 zip으로 다운로드
-     * @param response http 응답 객체
-     * @param fileKeyList 파일 식별자 목록
-     * @throws ApiBizException 예외 처리
+     * prefix 일괄 복사
+     * @param onCopied 복사된 원본 파일 키 후처리 (작업 스레드에서 호출)
      */
-    @Override
-    public void downloadZip(HttpServletResponse response, String[] fileKeyList) throws ApiBizException {
-        if(fileKeyList == null) {
-            return;
+    private S3CopyResultVO copyPrefix(String instCd, String dateString, String targetInstCd, String targetDateString,
+                                      Consumer<String> onCopied) throws ApiBizException {
+        if (instCd == null || instCd.isBlank() || targetInstCd == null || targetInstCd.isBlank()) {
+            throw new ApiBizException(HttpStatus.BAD_REQUEST, "기관코드가 없습니다.");
         }
 
-        // 다운 파일명
-        String zipName = LocalDate.now() + ".zip";
+        String targetDate = targetDateString != null && !targetDateString.isBlank() ? targetDateString : dateString;
+        if ((dateString == null ? 0 : dateString.length()) != (targetDate == null ? 0 : targetDate.length())) {
+            throw new ApiBizException(HttpStatus.BAD_REQUEST, "원본과 대상 일자의 단위가 다릅니다.");
+        }
 
-        // HTTP 헤더 설정
-        this.setResponse(response, zipName, "application/zip", null);
+        String sourcePrefix = buildPrefix(instCd, dateString);
+        String targetPrefix = buildPrefix(targetInstCd, targetDate);
+        if (sourcePrefix.equals(targetPrefix)) {
+            throw new ApiBizException(HttpStatus.BAD_REQUEST, "원본과 대상 경로가 같습니다.");
+        }
 
-        try(ZipOutputStream zos = new ZipOutputStream(response.getOutputStream())) {
-            for(String fileKey:fileKeyList) {
-                try (ResponseInputStream<GetObjectResponse> s3InputStream = s3Client.getObject(
-                        GetObjectRequest.builder().bucket(s3Info.getBucket()).key(fileKey).build()
-                )) {
-                    // 파일명 추출
-                    String filename = Paths.get(fileKey).getFileName().toString();
-
-                    // ZIPentry(압축될 파일명)
-                    ZipEntry zipEntry = new ZipEntry(filename);
-                    zos.putNextEntry(zipEntry);
-
-                    // 파일 데이터 쓰기
-                    StreamUtils.copy(s3InputStream, zos);
-                    zos.closeEntry();
-
-                } catch (S3Exception | IOException e) {
-                    log.error("파일 다운로드 중 오류 발생", e);
-                    throw new ApiBizException(HttpStatus.INTERNAL_SERVER_ERROR, "파일 다운로드 실패");
-                }
-            }
-        } catch (IOException e) {
-            throw new ApiBizException(HttpStatus.INTERNAL_SERVER_ERROR, "ZIP 파일을 생성할 수 없습니다.");
+        try {
+            return s3ObjectCopier.copyPrefix(sourcePrefix, s3Deduplicator.refKeys(sourcePrefix), fileKey -> {
+                this.copyKey(fileKey, targetPrefix + fileKey.substring(sourcePrefix.length()));
+                onCopied.accept(fileKey);
+            });
+        } catch (S3Exception | DataAccessException e) {
+            log.error("파일 복사 중 오류 발생", e);
+            throw new ApiBizException(HttpStatus.INTERNAL_SERVER_ERROR, "복사 실패");
         }
     }
 
     /**
-     * 스토리지에 저장된 파일 삭제
-     * @param fileKey 삭제 대상 파일키
-     * @throws ApiBizException 예외 처리
+     * 파일 1건 복사 (중복 제거 참조 등록 또는 스토리지 내부 복사) 후 파일 목록 등록
+     * @param fileKey 원본 파일 키
+     * @param targetKey 대상 파일 키
      */
-    @Override
-    public void deleteObject(String fileKey) throws ApiBizException {
-        try {
-            s3Client.deleteObject(DeleteObjectRequest.builder()
-                    .bucket(s3Info.getBucket())
-                    .key(fileKey)
-                    .build());
-        } catch (S3Exception e) {
-            log.error("파일 삭제 중 오류 발생", e);
-            throw new ApiBizException(HttpStatus.INTERNAL_SERVER_ERROR, "삭제 실패");
+    private void copyKey(String fileKey, String targetKey) {
+        String objectKey = s3Deduplicator.resolve(fileKey);
+        HeadObjectResponse head = s3Client.headObject(req -> req.bucket(s3Info.getBucket()).key(objectKey));
+
+        if (s3Deduplicator.linkCopy(fileKey, targetKey) == null) {
+            s3ObjectCopier.copy(objectKey, targetKey, head);
         }
+
+        Long originalLength = S3StorageCodec.isEncoded(head.contentEncoding())
+                ? S3StorageCodec.originalLength(head.metadata()) : null;
+        this.afterStore(targetKey, originalLength != null ? originalLength : head.contentLength());
     }
 
     /**
@@ -208,28 +1148,64 @@ public class S3ServiceImpl implements S3Service {
      */
     @Override
     public S3VO viewObject(String fileKey) throws ApiBizException {
+        return this.lookupObject(fileKey)
+                .orElseThrow(() -> new ApiBizException(HttpStatus.NOT_FOUND, "파일이 없습니다."));
+    }
+
+    /**
+     * 파일 정보 조회 (파일 정보 캐시, 없으면 스토리지 조회)
+     * @param fileKey 조회 대상 파일키
+     * @return 파일 정보 (파일이 없으면 empty)
+     */
+    private Optional<S3VO> lookupObject(String fileKey) {
+        return s3ObjectMetadataCache.get(fileKey, key -> s3SingleFlight.load(key, () -> this.headObject(key)));
+    }
+
+    /**
+     * 현재 ETag 조회 (디스크 캐시 재검증)
+     * @param fileKey 조회 대상 파일키
+     * @return ETag (파일이 없으면 empty)
+     */
+    private Optional<String> currentETag(String fileKey) {
+        return this.lookupObject(fileKey).map(S3VO::getETag);
+    }
+
+    /**
+     * 스토리지에서 파일 정보 조회
+     * @param fileKey 조회 대상 파일키
+     * @return 파일 정보 (파일이 없으면 empty)
+     * @throws ApiBizException 예외 처리
+     */
+    private Optional<S3VO> headObject(String fileKey) throws ApiBizException {
         S3VO s3VO = new S3VO();
 
         try {
-            HeadObjectResponse headResponse = s3Client.headObject(
+            HeadObjectResponse headResponse = s3Hedger.headObject(
                     HeadObjectRequest.builder()
                             .bucket(s3Info.getBucket())
-                            .key(fileKey)
+                            .key(s3Deduplicator.resolve(fileKey))
                             .build()
             );
 
             s3VO.setFileKey(fileKey);
-            s3VO.setSize(headResponse.contentLength());
+            Long originalLength = S3StorageCodec.isEncoded(headResponse.contentEncoding())
+                    ? S3StorageCodec.originalLength(headResponse.metadata()) : null;
+            s3VO.setSize(originalLength != null ? originalLength : headResponse.contentLength());
             s3VO.setContentType(headResponse.contentType());
             s3VO.setETag(headResponse.eTag());
             s3VO.setLastModified(String.valueOf(headResponse.lastModified()));
 
+        } catch (NoSuchKeyException e) {
+            return Optional.empty();
         } catch (S3Exception e) {
+            if (e.statusCode() == HttpStatus.NOT_FOUND.value()) {
+                return Optional.empty();
+            }
             log.error("조회 중 오류 발생", e);
             throw new ApiBizException(HttpStatus.INTERNAL_SERVER_ERROR, "조회 실패");
         }
 
-        return s3VO;
+        return Optional.of(s3VO);
     }
 
     /**
@@ -241,31 +1217,34 @@ public class S3ServiceImpl implements S3Service {
      */
     @Override
     public List<S3VO> listObject(String instCd, String dateString) throws ApiBizException {
+        String prefix = buildPrefix(instCd, dateString);
+
+        // 파일 목록 색인(DB)에서 조회
+        if (s3ObjectIndexer.isEnabled()) {
+            return s3ObjectIndexer.list(prefix);
+        }
+
         List<S3VO> list = new ArrayList<>();
 
         try {
-            String prefix = buildPrefix(instCd, dateString);
+            // 연/월/기관 전체 목록은 일 단위 prefix로 나누어 병렬 조회
+            if (s3PrefixLister.supports(prefix)) {
+                s3PrefixLister.list(prefix).forEach(content -> list.add(toS3VO(content)));
+                return this.addRefs(list, s3Deduplicator.refObjects(prefix, null, null));
+            }
 
-            ListObjectsV2Request.Builder listBuilder = ListObjectsV2Request.builder()
-                    .bucket(s3Info.getBucket())
+            ListObjectsV2Request.Builder listBuilder = this.listRequest(instCd, dateString)
                     .maxKeys(s3Info.getPageSize());
 
-            if (prefix != null && !prefix.isBlank()) {
-                listBuilder.prefix(prefix);
-            }
-
             // 전체 페이지를 순회하며 모든 데이터 가져오기
             ListObjectsV2Iterable listRes = s3Client.listObjectsV2Paginator(listBuilder.build());
-            listRes.stream()
-                    .flatMap(r -> r.contents().stream())
-                    .forEach(content -> {
-                        S3VO s3VO = new S3VO();
-                        s3VO.setFileKey(content.key());
-                        s3VO.setSize(content.size());
-                        s3VO.setETag(content.eTag());
-                        s3VO.setLastModified(String.valueOf(content.lastModified()));
-                        list.add(s3VO);
-                    });
+            int pages = 0;
+            for (ListObjectsV2Response page : listRes) {
+                page.contents().forEach(content -> list.add(toS3VO(content)));
+                pages++;
+            }
+            s3Metrics.recordListPages(instCd, pages);
+            this.addRefs(list, s3Deduplicator.refObjects(prefix, null, null));
 
 
             // 한번에 한 페이지의 데이터만 가져오는 경우
@@ -280,6 +1259,169 @@ public class S3ServiceImpl implements S3Service {
         return list;
     }
 
+    /**
+     * 저장된 S3 목록을 페이지 단위로 가져오기
+     * 커서는 페이지 마지막 파일 키이며, 다음 페이지는 그 다음 키부터(S3 StartAfter) 조회한다.
+     * 중복 제거 참조 파일은 스토리지 목록에 없으므로 같은 구간의 참조 파일을 병합하고, 페이지 크기를 넘는 부분은 다음 페이지로 넘긴다.
+     * @param instCd 조회 대상 기관코드
+     * @param dateString 조회 대상 일자(연 or 연월 or 연월일)
+     * @param cursor 이전 페이지에서 받은 커서 (첫 페이지는 null)
+     * @param pageSize 페이지 크기
+     * @return 조회 결과와 다음 페이지 커서
+     * @throws ApiBizException 예외 처리
+     */
+    @Override
+    public S3PageVO listObjectPage(String instCd, String dateString, String cursor, Integer pageSize) throws ApiBizException {
+        int maxKeys = pageSize != null && pageSize > 0 ? Math.min(pageSize, ConstantInfo.S3_LIST_MAX_KEYS) : s3Info.getPageSize();
+
+        try {
+            String startAfter = cursor != null && !cursor.isBlank() ? cursor : null;
+            ListObjectsV2Request.Builder listBuilder = this.listRequest(instCd, dateString).maxKeys(maxKeys);
+            if (startAfter != null) {
+                listBuilder.startAfter(startAfter);
+            }
+
+            ListObjectsV2Response listResponse = s3Client.listObjectsV2(listBuilder.build());
+            s3Metrics.recordListPages(instCd, 1);
+
+            List<S3VO> list = this.mergeRefs(buildPrefix(instCd, dateString), startAfter, listResponse);
+            boolean hasNext = Boolean.TRUE.equals(listResponse.isTruncated()) || list.size() > maxKeys;
+            if (list.size() > maxKeys) {
+                list = list.subList(0, maxKeys);
+            }
+
+            S3PageVO page = new S3PageVO();
+            page.setList(list);
+            page.setNextCursor(hasNext && !list.isEmpty() ? list.get(list.size() - 1).getFileKey() : null);
+            return page;
+        } catch (S3Exception e) {
+            log.error("목록 조회 실패", e);
+            throw new ApiBizException(HttpStatus.INTERNAL_SERVER_ERROR, "목록 조회 실패");
+        }
+    }
+
+    /**
+     * 저장된 S3 목록을 NDJSON으로 스트리밍
+     * S3 페이지를 받을 때마다 전송하므로 목록 크기와 관계없이 한 페이지 분량의 메모리만 사용한다.
+     * 중복 제거 참조 파일은 페이지마다 같은 구간의 참조 파일을 병합하여 전송한다.
+     * 전송 시작 전 오류는 예외로 처리하고, 전송 중 S3 오류는 응답 코드를 바꿀 수 없으므로 마지막 줄에 오류 레코드({"error": ...})를 전송한다.
+     * @param response http 응답 객체
+     * @param instCd 조회 대상 기관코드
+     * @param dateString 조회 대상 일자(연 or 연월 or 연월일)
+     * @throws ApiBizException 예외 처리
+     */
+    @Override
+    public void listObjectStream(HttpServletResponse response, String instCd, String dateString) throws ApiBizException {
+        ListObjectsV2Request listRequest = this.listRequest(instCd, dateString).maxKeys(s3Info.getPageSize()).build();
+        String prefix = buildPrefix(instCd, dateString);
+
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+        try {
+            ServletOutputStream out = response.getOutputStream();
+            int pages = 0;
+            String startAfter = null;
+            for (ListObjectsV2Response page : s3Client.listObjectsV2Paginator(listRequest)) {
+                for (S3VO s3VO : this.mergeRefs(prefix, startAfter, page)) {
+                    out.write(objectMapper.writeValueAsBytes(s3VO));
+                    out.write('\n');
+                }
+                out.flush();
+                pages++;
+                if (!page.contents().isEmpty()) {
+                    startAfter = page.contents().get(page.contents().size() - 1).key();
+                }
+            }
+            s3Metrics.recordListPages(instCd, pages);
+        } catch (SdkException | IOException e) {
+            log.error("목록 조회 실패", e);
+            if (!response.isCommitted()) {
+                response.resetBuffer();
+                throw new ApiBizException(HttpStatus.INTERNAL_SERVER_ERROR, "목록 조회 실패");
+            }
+            if (e instanceof SdkException) {
+                this.writeListError(response);
+            }
+        }
+    }
+
+    /**
+     * 목록 스트리밍 중단 레코드 전송 (클라이언트가 목록이 끝나지 않았음을 알 수 있도록)
+     * @param response http 응답 객체 (전송 시작됨)
+     */
+    private void writeListError(HttpServletResponse response) {
+        try {
+            ServletOutputStream out = response.getOutputStream();
+            out.write(objectMapper.writeValueAsBytes(Map.of("error", "목록 조회 실패")));
+            out.write('\n');
+            out.flush();
+        } catch (IOException e) {
+            log.debug("목록 조회 오류 레코드 전송 실패 : {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 목록 조회 요청 생성
+     * @param instCd 조회 대상 기관코드
+     * @param dateString 조회 대상 일자
+     * @return 목록 조회 요청
+     */
+    private ListObjectsV2Request.Builder listRequest(String instCd, String dateString) {
+        String prefix = buildPrefix(instCd, dateString);
+
+        ListObjectsV2Request.Builder listBuilder = ListObjectsV2Request.builder()
+                .bucket(s3Info.getBucket());
+
+        if (prefix != null && !prefix.isBlank()) {
+            listBuilder.prefix(prefix);
+        }
+        return listBuilder;
+    }
+
+    /**
+     * S3 목록 페이지에 같은 구간의 중복 제거 참조 파일 병합 (참조 파일은 스토리지 목록에 없음)
+     * 구간은 이전 페이지 마지막 키 다음부터 이 페이지 마지막 키까지이며, 마지막 페이지는 prefix 끝까지이다.
+     * @param prefix 조회 대상 prefix
+     * @param startAfter 이전 페이지 마지막 파일 키 (첫 페이지는 null)
+     * @param page S3 목록 페이지
+     * @return 파일 키 순 목록
+     */
+    private List<S3VO> mergeRefs(String prefix, String startAfter, ListObjectsV2Response page) {
+        List<S3VO> list = new ArrayList<>(page.contents().size());
+        page.contents().forEach(content -> list.add(toS3VO(content)));
+
+        boolean truncated = Boolean.TRUE.equals(page.isTruncated());
+        if (truncated && list.isEmpty()) {
+            return list;
+        }
+        String endAt = truncated ? list.get(list.size() - 1).getFileKey() : null;
+        return this.addRefs(list, s3Deduplicator.refObjects(prefix, startAfter, endAt));
+    }
+
+    /**
+     * 목록에 참조 파일을 더해 파일 키 순으로 정렬
+     * @param list 스토리지 목록
+     * @param refs 참조 파일 목록
+     * @return 파일 키 순 목록
+     */
+    private List<S3VO> addRefs(List<S3VO> list, List<S3VO> refs) {
+        if (!refs.isEmpty()) {
+            list.addAll(refs);
+            list.sort(Comparator.comparing(S3VO::getFileKey));
+        }
+        return list;
+    }
+
+    /**
+     * 목록 조회 결과를 S3VO로 변환 (색인 조회 결과와 같은 항목 : 파일 키, 크기, ETag, 최종 수정일, 기관코드, 등록일자)
+     * @param content 목록 조회 결과
+     * @return 파일 정보
+     */
+    S3VO toS3VO(S3Object content) {
+        return S3ObjectIndexer.toS3VO(content);
+    }
+
     /**
      * 스토리지에 저장할 파일 키 생성
      * 생성규칙 : 기관코드(7) + "/" + 연도(4) + "/" + 월(2) + "/" + 일(2) + "/" + UUID(32) + "/" + 원본파일명(확장자 포함, 900byte 제한)
@@ -287,7 +1429,7 @@ public class S3ServiceImpl implements S3Service {
      * @param originalFilename 원본파일명
      * @return 파일 저장키
      */
-    private String getUploadFileKey(String instCd, String originalFilename) {
+    String getUploadFileKey(String instCd, String originalFilename) {
         if (instCd == null || instCd.isBlank()) {
             throw new ApiBizException(HttpStatus.BAD_REQUEST, "기관코드가 없습니다.");
         }
@@ -304,13 +1446,43 @@ public class S3ServiceImpl implements S3Service {
         );
     }
 
+    /**
+     * 복사/이동 대상 파일 키 생성 (기관코드와 일자만 바꾸고 UUID와 원본파일명은 유지)
+     * @param fileKey 원본 파일 키
+     * @param targetInstCd 대상 기관코드
+     * @param targetDateString 대상 일자(연월일, 없으면 원본 일자)
+     * @return 대상 파일 키
+     */
+    String getCopyFileKey(String fileKey, String targetInstCd, String targetDateString) {
+        if (targetInstCd == null || targetInstCd.isBlank()) {
+            throw new ApiBizException(HttpStatus.BAD_REQUEST, "기관코드가 없습니다.");
+        }
+
+        // 기관코드 / 연 / 월 / 일 / UUID + 원본파일명
+        String[] parts = fileKey != null ? fileKey.split(ConstantInfo.S3_PREFIX_DELIMITER, 5) : new String[0];
+        if (parts.length < 5) {
+            throw new ApiBizException(HttpStatus.BAD_REQUEST, "파일 키 형식이 올바르지 않습니다.");
+        }
+
+        String dateString = targetDateString != null && !targetDateString.isBlank() ? targetDateString : parts[1] + parts[2] + parts[3];
+        if (!dateString.matches("\\d{8}")) {
+            throw new ApiBizException(HttpStatus.BAD_REQUEST, "대상 일자는 연월일(8자리)이어야 합니다.");
+        }
+
+        String targetKey = buildPrefix(targetInstCd, dateString) + parts[4];
+        if (targetKey.equals(fileKey)) {
+            throw new ApiBizException(HttpStatus.BAD_REQUEST, "원본과 대상 경로가 같습니다.");
+        }
+        return targetKey;
+    }
+
     /**
      * 입력 조건을 이용하여 조회 대상의 prefix 생성
      * @param instCd 기관코드
      * @param dateString 날짜(연, 연월, 연월일)
      * @return 기관코드(4)/연(4)/ or 기관코드(4)/연(4)/월(2)/ or 기관코드(4)/연(4)/월(2)/일(2)/
      */
-    private String buildPrefix(String instCd, String dateString) {
+    String buildPrefix(String instCd, String dateString) {
         if (instCd == null || instCd.isBlank()) {
             return "";
         }
@@ -334,6 +1506,188 @@ public class S3ServiceImpl implements S3Service {
         return prefix.toString();
     }
 
+    /**
+     * Range 헤더 파싱 (형식이 잘못된 경우 무시하고 전체 전송)
+     * @param request http 요청
+     * @return Range 목록
+     */
+    private List<HttpRange> parseRanges(HttpServletRequest request) {
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader == null || rangeHeader.isBlank()) {
+            return Collections.emptyList();
+        }
+
+        try {
+            return HttpRange.parseRanges(rangeHeader);
+        } catch (IllegalArgumentException e) {
+            log.debug("잘못된 Range 헤더 무시 : {}", rangeHeader);
+            return Collections.emptyList();
+        }
+    }
+
+    /**
+     * 조건부 요청 헤더를 GetObjectRequest에 전달
+     * If-Match가 있으면 If-Unmodified-Since, If-None-Match가 있으면 If-Modified-Since는 무시한다.
+     * @param request http 요청
+     * @param getBuilder S3 요청
+     */
+    private void applyConditions(HttpServletRequest request, GetObjectRequest.Builder getBuilder) {
+        String ifMatch = request.getHeader(HttpHeaders.IF_MATCH);
+        if (ifMatch != null && !ifMatch.isBlank()) {
+            getBuilder.ifMatch(ifMatch);
+        } else {
+            long ifUnmodifiedSince = getDateHeader(request, HttpHeaders.IF_UNMODIFIED_SINCE);
+            if (ifUnmodifiedSince >= 0) {
+                getBuilder.ifUnmodifiedSince(Instant.ofEpochMilli(ifUnmodifiedSince));
+            }
+        }
+
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null && !ifNoneMatch.isBlank()) {
+            // 압축을 풀어 전송한 응답의 약한 ETag도 같은 객체로 비교
+            getBuilder.ifNoneMatch(ifNoneMatch.replace("W/", ""));
+            return;
+        }
+
+        long ifModifiedSince = getDateHeader(request, HttpHeaders.IF_MODIFIED_SINCE);
+        if (ifModifiedSince >= 0) {
+            getBuilder.ifModifiedSince(Instant.ofEpochMilli(ifModifiedSince));
+        }
+    }
+
+    /**
+     * 조건부 요청 결과(304, 412, 416) 응답 처리
+     * 416 응답에는 객체 크기를 알리는 Content-Range를 함께 보내며, S3 오류 응답에 없으면 HEAD로 확인한다.
+     * @param response http 응답
+     * @param objectKey 요청한 S3 키
+     * @param e S3 응답 예외
+     * @return 처리 여부
+     */
+    private boolean handleConditionalResult(HttpServletResponse response, String objectKey, S3Exception e) {
+        if (e.statusCode() == HttpStatus.NOT_MODIFIED.value()) {
+            response.setStatus(HttpStatus.NOT_MODIFIED.value());
+            if (e.awsErrorDetails() != null && e.awsErrorDetails().sdkHttpResponse() != null) {
+                e.awsErrorDetails().sdkHttpResponse().firstMatchingHeader(HttpHeaders.ETAG)
+                        .ifPresent(eTag -> response.setHeader(HttpHeaders.ETAG, eTag));
+                e.awsErrorDetails().sdkHttpResponse().firstMatchingHeader(HttpHeaders.LAST_MODIFIED)
+                        .ifPresent(lastModified -> response.setHeader(HttpHeaders.LAST_MODIFIED, lastModified));
+            }
+            return true;
+        }
+
+        if (e.statusCode() == HttpStatus.PRECONDITION_FAILED.value()) {
+            response.setStatus(HttpStatus.PRECONDITION_FAILED.value());
+            return true;
+        }
+
+        if (e.statusCode() == HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value()) {
+            response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+            Optional<String> contentRange = e.awsErrorDetails() != null && e.awsErrorDetails().sdkHttpResponse() != null
+                    ? e.awsErrorDetails().sdkHttpResponse().firstMatchingHeader(HttpHeaders.CONTENT_RANGE) : Optional.empty();
+            if (contentRange.isEmpty()) {
+                try {
+                    HeadObjectResponse head = s3Hedger.headObject(HeadObjectRequest.builder()
+                            .bucket(s3Info.getBucket())
+                            .key(objectKey)
+                            .build());
+                    contentRange = Optional.of("bytes */" + head.contentLength());
+                } catch (S3Exception headException) {
+                    log.debug("416 응답 객체 크기 조회 실패 : {}", objectKey, headException);
+                }
+            }
+            contentRange.ifPresent(value -> response.setHeader(HttpHeaders.CONTENT_RANGE, value));
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * If-Match / If-Unmodified-Since 검증 (If-Match가 있으면 If-Unmodified-Since는 무시)
+     * If-Match는 강한 비교이므로 약한 ETag는 일치하지 않는다.
+     * @param request http 요청
+     * @param eTag 객체 ETag
+     * @param lastModified 객체 최종 수정일
+     * @return 조건을 만족하지 않으면 true
+     */
+    private boolean isPreconditionFailed(HttpServletRequest request, String eTag, Instant lastModified) {
+        String ifMatch = request.getHeader(HttpHeaders.IF_MATCH);
+        if (ifMatch != null && !ifMatch.isBlank()) {
+            return Arrays.stream(ifMatch.split(","))
+                    .map(String::trim)
+                    .noneMatch(tag -> "*".equals(tag) || (eTag != null && !eTag.startsWith("W/") && tag.equals(eTag)));
+        }
+
+        long ifUnmodifiedSince = getDateHeader(request, HttpHeaders.IF_UNMODIFIED_SINCE);
+        return ifUnmodifiedSince >= 0 && lastModified != null
+                && lastModified.getEpochSecond() > ifUnmodifiedSince / 1000;
+    }
+
+    /**
+     * If-None-Match / If-Modified-Since 검증
+     * @param request http 요청
+     * @param eTag 객체 ETag
+     * @param lastModified 객체 최종 수정일
+     * @return 변경되지 않았으면 true
+     */
+    private boolean isNotModified(HttpServletRequest request, String eTag, Instant lastModified) {
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null && !ifNoneMatch.isBlank()) {
+            if (eTag == null) {
+                return false;
+            }
+            String current = eTag.startsWith("W/") ? eTag.substring(2) : eTag;
+            return Arrays.stream(ifNoneMatch.split(","))
+                    .map(String::trim)
+                    .map(tag -> tag.startsWith("W/") ? tag.substring(2) : tag)
+                    .anyMatch(tag -> "*".equals(tag) || tag.equals(current));
+        }
+
+        long ifModifiedSince = getDateHeader(request, HttpHeaders.IF_MODIFIED_SINCE);
+        return ifModifiedSince >= 0 && lastModified != null
+                && lastModified.getEpochSecond() <= ifModifiedSince / 1000;
+    }
+
+    private long getDateHeader(HttpServletRequest request, String name) {
+        try {
+            return request.getDateHeader(name);
+        } catch (IllegalArgumentException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * 압축 저장 파일 응답 헤더 세팅
+     * 압축을 풀어 전송하면 저장된 데이터와 바이트가 다르므로 약한 ETag를 사용하고, Range는 지원하지 않는다.
+     * @param response http 응답
+     * @param eTag ETag
+     * @param decode 압축을 풀어서 전송하는지 여부
+     */
+    private void setEncodingHeaders(HttpServletResponse response, String eTag, boolean decode) {
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "none");
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (!decode) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, S3StorageCodec.GZIP);
+        } else if (eTag != null) {
+            response.setHeader(HttpHeaders.ETAG, "W/" + eTag);
+        }
+    }
+
+    /**
+     * 캐시 검증 헤더 세팅
+     * @param response http 응답
+     * @param eTag ETag
+     * @param lastModified 최종 수정일
+     */
+    private void setValidatorHeaders(HttpServletResponse response, String eTag, Instant lastModified) {
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        if (eTag != null) {
+            response.setHeader(HttpHeaders.ETAG, eTag);
+        }
+        if (lastModified != null) {
+            response.setDateHeader(HttpHeaders.LAST_MODIFIED, lastModified.toEpochMilli());
+        }
+    }
+
     /**
      * Response 세팅
      * @param response http 응답
@@ -341,7 +1695,7 @@ public class S3ServiceImpl implements S3Service {
      * @param contentType 파일 유형
      * @param fileSize 파일 크기
      */
-    private void setResponse(HttpServletResponse response, String filename, String contentType, Long fileSize) {
+    void setResponse(HttpServletResponse response, String filename, String contentType, Long fileSize) {
         if(fileSize != null && fileSize != 0) {
             response.setContentLengthLong(fileSize);
         }
@@ -355,4 +1709,53 @@ public class S3ServiceImpl implements S3Service {
     public S3VO testMapper(S3VO vo) {
         return s3Mapper.selectTest(vo);
     }
+
+    /**
+     * 최대 크기를 초과하면 예외를 발생시키는 입력 스트림
+     */
+    private static class LimitedInputStream extends FilterInputStream {
+        private final long maxSize;
+        private long count;
+
+        LimitedInputStream(InputStream in, long maxSize) {
+            super(in);
+            this.maxSize = maxSize;
+        }
+
+        long getCount() {
+            return count;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                checkLimit(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                checkLimit(n);
+            }
+            return n;
+        }
+
+        private void checkLimit(long n) throws SizeLimitExceededException {
+            count += n;
+            if (count > maxSize) {
+                throw new SizeLimitExceededException();
+            }
+        }
+    }
+
+    /**
+     * 업로드 크기 초과
+     */
+    private static class SizeLimitExceededException extends IOException {
+        private static final long serialVersionUID = 1L;
+    }
 }
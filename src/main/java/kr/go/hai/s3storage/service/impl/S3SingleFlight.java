@@ -0,0 +1,409 @@
+package kr.go.hai.s3storage.service.impl;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.go.hai.config.info.S3Info;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 동일 파일 동시 조회 병합 (single-flight)
+ * 같은 파일 키로 동시에 들어온 조회는 먼저 시작한 요청(leader)의 S3 응답을 함께 사용한다.
+ * 다운로드는 leader가 읽은 데이터를 크기가 제한된 공유 버퍼에 보관하고, 다른 요청(follower)은 버퍼에서 읽는다.
+ * 버퍼에서 밀려난 구간이 필요하거나 leader가 지연/중단되면 follower는 남은 구간만 Range 요청으로 직접 받는다.
+ * 가상 스레드 고정(pinning)을 피하기 위해 synchronized 대신 ReentrantLock으로 대기한다.
+ *
+ * @author AX사업팀
+ * @version 1.0
+ * @since 2026.10.17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *   수정일        수정자            수정내용
+ * ----------    --------    ---------------------------
+ * 2026.10.17    양정숙        최초 생성
+ * </pre>
+ */
+@Component
+public class S3SingleFlight {
+
+    private final S3Info s3Info;
+    private final S3Client s3Client;
+    private final S3Hedger s3Hedger;
+    private final ConcurrentMap<String, CompletableFuture<Object>> loads = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Flight> downloads = new ConcurrentHashMap<>();
+
+    private final Counter headLeader;
+    private final Counter headFollower;
+    private final Counter downloadLeader;
+    private final Counter downloadFollower;
+    private final Counter downloadFallback;
+
+    public S3SingleFlight(S3Info s3Info, S3Client s3Client, S3Hedger s3Hedger, MeterRegistry meterRegistry) {
+        this.s3Info = s3Info;
+        this.s3Client = s3Client;
+        this.s3Hedger = s3Hedger;
+        this.headLeader = counter(meterRegistry, "head", "leader");
+        this.headFollower = counter(meterRegistry, "head", "follower");
+        this.downloadLeader = counter(meterRegistry, "download", "leader");
+        this.downloadFollower = counter(meterRegistry, "download", "follower");
+        this.downloadFallback = counter(meterRegistry, "download", "fallback");
+    }
+
+    /**
+     * 동시 조회 병합 (진행 중인 조회가 있으면 그 결과를 함께 사용)
+     * @param key 조회 키
+     * @param loader 조회 처리
+     * @return 조회 결과
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T load(String key, Supplier<T> loader) {
+        if (!s3Info.getSingleFlight().isEnabled()) {
+            return loader.get();
+        }
+
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> running = loads.putIfAbsent(key, flight);
+        if (running != null) {
+            headFollower.increment();
+            try {
+                return (T) running.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+
+        headLeader.increment();
+        try {
+            T result = loader.get();
+            flight.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            loads.remove(key, flight);
+        }
+    }
+
+    /**
+     * 파일 다운로드 (진행 중인 같은 파일 다운로드가 있으면 공유)
+     * Range, 조건부 요청은 병합하지 않는다.
+     * @param request S3 요청
+     * @return S3 응답
+     */
+    public ResponseInputStream<GetObjectResponse> getObject(GetObjectRequest request) {
+        if (!s3Info.getSingleFlight().isEnabled() || request.range() != null
+                || request.ifNoneMatch() != null || request.ifModifiedSince() != null
+                || request.ifMatch() != null || request.ifUnmodifiedSince() != null) {
+            return s3Hedger.getObject(request);
+        }
+
+        Flight flight = new Flight(s3Info.getSingleFlight().getBufferSize().toBytes());
+        Flight running = downloads.putIfAbsent(request.key(), flight);
+        if (running != null) {
+            GetObjectResponse response = running.awaitResponse();
+            if (response != null && running.isJoinable()) {
+                downloadFollower.increment();
+                return new ResponseInputStream<>(response,
+                        AbortableInputStream.create(new FollowerInputStream(request, running, response)));
+            }
+            return s3Hedger.getObject(request);
+        }
+
+        downloadLeader.increment();
+        ResponseInputStream<GetObjectResponse> s3InputStream;
+        try {
+            s3InputStream = s3Hedger.getObject(request);
+        } catch (RuntimeException e) {
+            flight.fail();
+            downloads.remove(request.key(), flight);
+            throw e;
+        }
+
+        flight.start(s3InputStream.response());
+        return new ResponseInputStream<>(s3InputStream.response(),
+                AbortableInputStream.create(new LeaderInputStream(s3InputStream, request.key(), flight)));
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String type, String role) {
+        return Counter.builder("s3.singleflight")
+                .description("동일 파일 동시 조회 병합 요청 수")
+                .tag("type", type)
+                .tag("role", role)
+                .register(meterRegistry);
+    }
+
+    /**
+     * leader 입력 스트림 (S3 응답을 읽으면서 공유 버퍼에 추가)
+     */
+    private class LeaderInputStream extends FilterInputStream {
+        private final String fileKey;
+        private final Flight flight;
+
+        LeaderInputStream(InputStream in, String fileKey, Flight flight) {
+            super(in);
+            this.fileKey = fileKey;
+            this.flight = flight;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] b = new byte[1];
+            int n = read(b, 0, 1);
+            return n == -1 ? -1 : b[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n;
+            try {
+                n = super.read(b, off, len);
+            } catch (IOException e) {
+                this.finish();
+                throw e;
+            }
+
+            if (n > 0) {
+                flight.append(b, off, n);
+            } else if (n == -1) {
+                flight.complete();
+                downloads.remove(fileKey, flight);
+            }
+            return n;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                this.finish();
+            }
+        }
+
+        private void finish() {
+            flight.fail();
+            downloads.remove(fileKey, flight);
+        }
+    }
+
+    /**
+     * follower 입력 스트림 (공유 버퍼에서 읽고, 읽을 수 없으면 남은 구간을 직접 다운로드)
+     */
+    private class FollowerInputStream extends InputStream {
+        private final GetObjectRequest request;
+        private final Flight flight;
+        private final GetObjectResponse response;
+        private long offset;
+        private InputStream fallback;
+
+        FollowerInputStream(GetObjectRequest request, Flight flight, GetObjectResponse response) {
+            this.request = request;
+            this.flight = flight;
+            this.response = response;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] b = new byte[1];
+            int n = read(b, 0, 1);
+            return n == -1 ? -1 : b[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+
+            int n;
+            if (fallback != null) {
+                n = fallback.read(b, off, len);
+            } else {
+                n = flight.read(offset, b, off, len, s3Info.getSingleFlight().getWaitTimeout().toNanos());
+                if (n == Flight.FALLBACK) {
+                    if (offset >= response.contentLength()) {
+                        return -1;
+                    }
+                    downloadFallback.increment();
+                    fallback = s3Client.getObject(request.toBuilder()
+                            .range("bytes=" + offset + "-")
+                            .ifMatch(response.eTag())
+                            .build());
+                    n = fallback.read(b, off, len);
+                }
+            }
+
+            if (n > 0) {
+                offset += n;
+            }
+            return n;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (fallback != null) {
+                fallback.close();
+            }
+        }
+    }
+
+    /**
+     * 공유 다운로드 (leader 응답, 크기가 제한된 데이터 버퍼)
+     */
+    private static class Flight {
+        static final int EOF = -1;
+        static final int FALLBACK = -2;
+
+        private final long bufferSize;
+        private final CompletableFuture<GetObjectResponse> response = new CompletableFuture<>();
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition appended = lock.newCondition();
+        private final ArrayDeque<byte[]> chunks = new ArrayDeque<>();
+
+        /** 버퍼 첫 바이트 위치 */
+        private long start;
+        /** 버퍼 마지막 바이트 다음 위치 */
+        private long end;
+        private long buffered;
+        private boolean completed;
+        private boolean failed;
+
+        Flight(long bufferSize) {
+            this.bufferSize = bufferSize;
+        }
+
+        void start(GetObjectResponse getObjectResponse) {
+            response.complete(getObjectResponse);
+        }
+
+        /**
+         * leader 응답 대기
+         * @return leader 응답 (실패 시 null)
+         */
+        GetObjectResponse awaitResponse() {
+            try {
+                return response.join();
+            } catch (CompletionException e) {
+                return null;
+            }
+        }
+
+        /**
+         * 처음부터 읽을 수 있는지 여부 (버퍼에서 밀려난 구간이 없고 중단되지 않음)
+         */
+        boolean isJoinable() {
+            lock.lock();
+            try {
+                return start == 0 && !failed;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void append(byte[] b, int off, int len) {
+            lock.lock();
+            try {
+                chunks.addLast(Arrays.copyOfRange(b, off, off + len));
+                end += len;
+                buffered += len;
+                while (buffered > bufferSize && chunks.size() > 1) {
+                    byte[] dropped = chunks.removeFirst();
+                    start += dropped.length;
+                    buffered -= dropped.length;
+                }
+                appended.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void complete() {
+            lock.lock();
+            try {
+                completed = true;
+                appended.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void fail() {
+            response.completeExceptionally(new IllegalStateException("공유 다운로드 중단"));
+            lock.lock();
+            try {
+                if (!completed) {
+                    failed = true;
+                }
+                appended.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * 공유 버퍼에서 읽기 (데이터가 추가될 때까지 대기)
+         * @return 읽은 바이트 수, EOF, 또는 FALLBACK (버퍼에서 밀려남, leader 중단/지연)
+         */
+        int read(long offset, byte[] b, int off, int len, long timeoutNanos) throws InterruptedIOException {
+            lock.lock();
+            try {
+                long remaining = timeoutNanos;
+                while (offset >= end && !completed && !failed) {
+                    if (remaining <= 0) {
+                        return FALLBACK;
+                    }
+                    remaining = appended.awaitNanos(remaining);
+                }
+
+                if (offset < start || (offset >= end && failed)) {
+                    return FALLBACK;
+                }
+                if (offset >= end) {
+                    return EOF;
+                }
+
+                long chunkStart = start;
+                for (byte[] chunk : chunks) {
+                    if (offset < chunkStart + chunk.length) {
+                        int position = (int) (offset - chunkStart);
+                        int n = Math.min(len, chunk.length - position);
+                        System.arraycopy(chunk, position, b, off, n);
+                        return n;
+                    }
+                    chunkStart += chunk.length;
+                }
+                return FALLBACK;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
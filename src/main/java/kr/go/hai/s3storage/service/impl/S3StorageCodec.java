@@ -0,0 +1,248 @@
+package kr.go.hai.s3storage.service.impl;
+
+import jakarta.servlet.http.HttpServletRequest;
+import kr.go.hai.config.info.S3Info;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Enumeration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterInputStream;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * 저장 압축 (gzip)
+ * 압축 효과가 있는 파일은 업로드 스트림을 gzip으로 압축하여 저장하고, 객체의 Content-Encoding과 메타데이터에 압축 방식을 기록한다.
+ * 다운로드 시 클라이언트가 gzip을 지원하면 저장된 데이터를 그대로 전송하고, 지원하지 않으면 압축을 풀어 전송한다.
+ *
+ * @author AX사업팀
+ * @version 1.0
+ * @since 2026.10.17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *   수정일        수정자            수정내용
+ * ----------    --------    ---------------------------
+ * 2026.10.17    양정숙        최초 생성
+ * </pre>
+ */
+@Component
+@RequiredArgsConstructor
+public class S3StorageCodec {
+
+    /** 압축 방식 (Content-Encoding) */
+    public static final String GZIP = "gzip";
+
+    /** 압축 방식 메타데이터 (x-amz-meta-codec) */
+    public static final String CODEC_METADATA = "codec";
+
+    /** 원본 크기 메타데이터 (x-amz-meta-original-length, 업로드 전에 크기를 아는 경우만 기록) */
+    public static final String ORIGINAL_LENGTH_METADATA = "original-length";
+
+    private final S3Info s3Info;
+
+    public boolean isEnabled() {
+        return s3Info.getCompression().isEnabled();
+    }
+
+    /**
+     * 압축 저장 대상 여부
+     * @param filename 파일명
+     * @param contentType 파일 유형
+     * @param contentLength 파일 크기 (모르면 -1)
+     * @return 압축 대상이면 true
+     */
+    public boolean isCompressible(String filename, String contentType, long contentLength) {
+        S3Info.Compression compression = s3Info.getCompression();
+        if (!compression.isEnabled() || (contentLength >= 0 && contentLength < compression.getMinSize().toBytes())) {
+            return false;
+        }
+
+        if (contentType != null) {
+            String type = contentType.toLowerCase(Locale.ROOT);
+            if (compression.getContentTypes().stream().anyMatch(type::startsWith)) {
+                return true;
+            }
+        }
+
+        int dot = filename != null ? filename.lastIndexOf('.') : -1;
+        if (dot < 0 || dot == filename.length() - 1) {
+            return false;
+        }
+
+        String extension = filename.substring(dot + 1).toLowerCase(Locale.ROOT);
+        return compression.getExtensions().contains(extension);
+    }
+
+    /**
+     * 압축 저장 객체 메타데이터
+     * @param contentLength 원본 크기 (모르면 -1)
+     * @return 메타데이터
+     */
+    public Map<String, String> metadata(long contentLength) {
+        return contentLength >= 0
+                ? Map.of(CODEC_METADATA, GZIP, ORIGINAL_LENGTH_METADATA, String.valueOf(contentLength))
+                : Map.of(CODEC_METADATA, GZIP);
+    }
+
+    /**
+     * 업로드 스트림 압축 (읽는 만큼 압축하므로 원본 전체를 메모리에 올리지 않는다)
+     * @param in 원본 스트림
+     * @return gzip 스트림
+     */
+    public InputStream encode(InputStream in) {
+        return new GzipEncodingInputStream(in, s3Info.getCompression().getLevel());
+    }
+
+    /**
+     * 압축 저장 객체 여부
+     * @param contentEncoding 객체 Content-Encoding
+     * @return 압축 저장 객체이면 true
+     */
+    public static boolean isEncoded(String contentEncoding) {
+        return contentEncoding != null && GZIP.equalsIgnoreCase(contentEncoding.trim());
+    }
+
+    /**
+     * 압축 저장 객체 압축 해제
+     * @param in 저장된 데이터
+     * @return 원본 스트림
+     * @throws IOException gzip 형식 오류
+     */
+    public static InputStream decode(InputStream in) throws IOException {
+        return new GZIPInputStream(in, 64 * 1024);
+    }
+
+    /**
+     * 압축 저장 객체 원본 크기
+     * @param metadata 객체 메타데이터
+     * @return 원본 크기 (기록되지 않았으면 null)
+     */
+    public static Long originalLength(Map<String, String> metadata) {
+        String value = metadata != null ? metadata.get(ORIGINAL_LENGTH_METADATA) : null;
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 클라이언트가 gzip 응답을 받을 수 있는지 확인 (Accept-Encoding, q=0은 거부)
+     * @param request http 요청
+     * @return gzip을 받을 수 있으면 true
+     */
+    public static boolean isAccepted(HttpServletRequest request) {
+        Enumeration<String> headers = request.getHeaders(HttpHeaders.ACCEPT_ENCODING);
+        while (headers != null && headers.hasMoreElements()) {
+            for (String token : headers.nextElement().split(",")) {
+                String[] params = token.split(";");
+                String coding = params[0].trim().toLowerCase(Locale.ROOT);
+                if (!GZIP.equals(coding) && !"x-gzip".equals(coding) && !"*".equals(coding)) {
+                    continue;
+                }
+
+                boolean rejected = false;
+                for (int i = 1; i < params.length; i++) {
+                    String param = params[i].trim();
+                    if (param.startsWith("q=")) {
+                        try {
+                            rejected = Double.parseDouble(param.substring(2)) <= 0;
+                        } catch (NumberFormatException e) {
+                            rejected = true;
+                        }
+                    }
+                }
+                return !rejected;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 원본 스트림을 읽으면서 gzip 형식(RFC 1952)으로 압축하는 입력 스트림
+     * 헤더 - deflate 본문 - trailer(CRC32, 원본 크기) 순으로 전달한다.
+     */
+    private static final class GzipEncodingInputStream extends InputStream {
+        private static final byte[] HEADER = {0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, 0};
+
+        private final Deflater deflater;
+        private final CheckedInputStream source;
+        private final InputStream body;
+        private InputStream current;
+        private boolean trailer;
+
+        GzipEncodingInputStream(InputStream in, int level) {
+            this.deflater = new Deflater(level, true);
+            this.source = new CheckedInputStream(in, new CRC32());
+            this.body = new DeflaterInputStream(source, deflater, 64 * 1024);
+            this.current = new ByteArrayInputStream(HEADER);
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] b = new byte[1];
+            int n = read(b, 0, 1);
+            return n == -1 ? -1 : b[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+
+            while (true) {
+                int n = current.read(b, off, len);
+                if (n > 0) {
+                    return n;
+                }
+                if (n == 0) {
+                    continue;
+                }
+                if (trailer) {
+                    return -1;
+                }
+
+                if (current == body) {
+                    current = new ByteArrayInputStream(trailer());
+                    trailer = true;
+                } else {
+                    current = body;
+                }
+            }
+        }
+
+        private byte[] trailer() {
+            long crc = source.getChecksum().getValue();
+            long size = deflater.getBytesRead();
+            byte[] bytes = new byte[8];
+            for (int i = 0; i < 4; i++) {
+                bytes[i] = (byte) (crc >>> (8 * i));
+                bytes[i + 4] = (byte) (size >>> (8 * i));
+            }
+            return bytes;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                body.close();
+            } finally {
+                deflater.end();
+            }
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package kr.go.hai.s3storage.service.impl;
+
+import kr.go.hai.config.info.S3Info;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+
+/**
+ * ZIP 항목별 압축 정책
+ * 이미 압축된 형식(이미지, 동영상, PDF, ZIP 등)은 다시 압축하지 않는다.
+ *
+ * @author AX사업팀
+ * @version 1.0
+ * @since 2026.10.17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *   수정일        수정자            수정내용
+ * ----------    --------    ---------------------------
+ * 2026.10.17    양정숙        최초 생성
+ * </pre>
+ */
+@Component
+@RequiredArgsConstructor
+public class S3ZipCompressionPolicy {
+
+    private final S3Info s3Info;
+
+    /**
+     * 압축하지 않고 저장할 항목인지 판단
+     * @param filename 파일명
+     * @param contentType 스토리지에 저장된 content type
+     * @return STORED 대상이면 true
+     */
+    public boolean isStored(String filename, String contentType) {
+        S3Info.Zip zip = s3Info.getZip();
+
+        if (contentType != null) {
+            String type = contentType.toLowerCase(Locale.ROOT);
+            if (zip.getStoredContentTypes().stream().anyMatch(type::startsWith)) {
+                return true;
+            }
+        }
+
+        int dot = filename != null ? filename.lastIndexOf('.') : -1;
+        if (dot < 0 || dot == filename.length() - 1) {
+            return false;
+        }
+
+        String extension = filename.substring(dot + 1).toLowerCase(Locale.ROOT);
+        return zip.getStoredExtensions().contains(extension);
+    }
+
+    /**
+     * 압축 대상 항목의 압축 레벨
+     * @return Deflater 압축 레벨
+     */
+    public int getCompressionLevel() {
+        return s3Info.getZip().getCompressionLevel();
+    }
+}
@@ -0,0 +1,321 @@
+package kr.go.hai.s3storage.service.impl;
+
+import jakarta.annotation.PreDestroy;
+import kr.go.hai.config.info.S3Info;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.UnaryOperator;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * ZIP 다운로드 파일 쓰기
+ * 다음 N개 파일을 병렬로 미리 가져오면서 ZIP에는 요청 순서대로 기록한다.
+ *
+ * @author AX사업팀
+ * @version 1.0
+ * @since 2026.10.17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *   수정일        수정자            수정내용
+ * ----------    --------    ---------------------------
+ * 2026.10.17    양정숙        최초 생성
+ * </pre>
+ */
+@Slf4j
+@Component
+public class S3ZipWriter {
+
+    private final S3Info s3Info;
+    private final S3Client s3Client;
+    private final S3ZipCompressionPolicy compressionPolicy;
+    private final ObjectProvider<S3AsyncClient> s3AsyncClientProvider;
+    private final ExecutorService executor;
+
+    public S3ZipWriter(S3Info s3Info, S3Client s3Client, S3ZipCompressionPolicy compressionPolicy,
+                       ObjectProvider<S3AsyncClient> s3AsyncClientProvider, S3ExecutorFactory executorFactory) {
+        this.s3Info = s3Info;
+        this.s3Client = s3Client;
+        this.compressionPolicy = compressionPolicy;
+        this.s3AsyncClientProvider = s3AsyncClientProvider;
+
+        this.executor = executorFactory.newFixedThreadPool("s3-zip", s3Info.getZip().getPoolSize());
+    }
+
+    /**
+     * 파일 목록을 ZIP으로 기록
+     * 미리 가져온 파일은 메모리 한도(prefetch-budget) 안에서만 버퍼링하고,
+     * 한도를 넘는 파일은 연결만 열어두었다가 순서가 되면 스트리밍한다.
+     * 4GB 이상 항목/ZIP은 ZipOutputStream이 ZIP64 형식으로 기록한다.
+     * @param zos ZIP 출력 스트림
+     * @param fileKeyList 파일 식별자 목록
+     * @param keyResolver 파일 식별자별 스토리지 키 (중복 제거 참조 파일은 원본 키)
+     * @return 기록한 파일 크기 합계 (압축 전)
+     * @throws IOException 파일 조회 또는 ZIP 기록 실패
+     * @throws S3Exception 스토리지 오류
+     */
+    public long write(ZipOutputStream zos, String[] fileKeyList, UnaryOperator<String> keyResolver) throws IOException {
+        S3Info.Zip zip = s3Info.getZip();
+        int depth = Math.max(1, zip.getPrefetchDepth());
+        PrefetchBudget budget = new PrefetchBudget(zip.getPrefetchBudget().toBytes());
+        Deque<Future<ZipSource>> window = new ArrayDeque<>(depth);
+        AtomicBoolean aborted = new AtomicBoolean();
+
+        int next = 0;
+        long written = 0;
+        try {
+            while (next < fileKeyList.length && window.size() < depth) {
+                window.add(prefetch(fileKeyList[next++], keyResolver, budget, aborted));
+            }
+
+            while (!window.isEmpty()) {
+                try (ZipSource source = await(window.poll())) {
+                    // ZIPentry(압축될 파일명)
+                    zos.putNextEntry(createEntry(zos, source));
+                    written += source.writeTo(zos);
+                    zos.closeEntry();
+                }
+
+                if (next < fileKeyList.length) {
+                    window.add(prefetch(fileKeyList[next++], keyResolver, budget, aborted));
+                }
+            }
+            return written;
+        } finally {
+            aborted.set(true);
+            window.forEach(this::discard);
+        }
+    }
+
+    /**
+     * 압축 정책에 따라 ZIP 항목 생성
+     * STORED는 크기와 CRC를 먼저 기록해야 하므로 메모리에 있는 항목만 STORED로 쓰고,
+     * 스트리밍 항목은 압축 레벨 0의 DEFLATED로 기록하여 CRC를 전송과 함께 계산한다.
+     * 압축 저장 파일은 압축을 풀면서 기록하므로 원본 크기와 CRC를 미리 알 수 없어 DEFLATED로 기록한다.
+     * @param zos ZIP 출력 스트림
+     * @param source ZIP에 기록할 파일
+     * @return ZIP 항목
+     */
+    private ZipEntry createEntry(ZipOutputStream zos, ZipSource source) {
+        ZipEntry entry = new ZipEntry(source.filename());
+        if (source.response().lastModified() != null) {
+            entry.setTime(source.response().lastModified().toEpochMilli());
+        }
+
+        boolean stored = compressionPolicy.isStored(entry.getName(), source.response().contentType());
+        if (stored && source.data() != null && !source.isEncoded()) {
+            CRC32 crc = new CRC32();
+            crc.update(source.data());
+
+            entry.setMethod(ZipEntry.STORED);
+            entry.setSize(source.data().length);
+            entry.setCompressedSize(source.data().length);
+            entry.setCrc(crc.getValue());
+        } else {
+            entry.setMethod(ZipEntry.DEFLATED);
+            zos.setLevel(stored ? Deflater.NO_COMPRESSION : compressionPolicy.getCompressionLevel());
+        }
+        return entry;
+    }
+
+    /**
+     * 파일 조회 작업 등록
+     * 비동기 전송을 사용하면 응답 헤더 수신까지 스레드를 점유하지 않고, 본문 버퍼링만 Thread Pool에서 수행한다.
+     * @param fileKey 파일 식별자
+     * @param keyResolver 파일 식별자별 스토리지 키
+     * @param budget 요청 단위 메모리 한도
+     * @param aborted 요청 중단 여부
+     * @return 조회 결과 (요청이 중단된 경우 null)
+     */
+    private Future<ZipSource> prefetch(String fileKey, UnaryOperator<String> keyResolver, PrefetchBudget budget, AtomicBoolean aborted) {
+        GetObjectRequest getObjectRequest = GetObjectRequest.builder().bucket(s3Info.getBucket()).key(keyResolver.apply(fileKey)).build();
+
+        S3AsyncClient s3AsyncClient = s3AsyncClientProvider.getIfAvailable();
+        if (s3AsyncClient != null) {
+            return s3AsyncClient.getObject(getObjectRequest, AsyncResponseTransformer.toBlockingInputStream())
+                    .thenApplyAsync(s3InputStream -> {
+                        try {
+                            return buffer(fileKey, s3InputStream, budget, aborted);
+                        } catch (IOException e) {
+                            throw new CompletionException(e);
+                        }
+                    }, executor);
+        }
+
+        return executor.submit(() -> {
+            if (aborted.get()) {
+                return null;
+            }
+            return buffer(fileKey, s3Client.getObject(getObjectRequest), budget, aborted);
+        });
+    }
+
+    /**
+     * 메모리 한도 안이면 본문을 버퍼링하고, 넘으면 연결을 열어둔 채 반환
+     * @param fileKey 파일 식별자
+     * @param s3InputStream S3 응답 스트림
+     * @param budget 요청 단위 메모리 한도
+     * @param aborted 요청 중단 여부
+     * @return 조회 결과 (요청이 중단된 경우 null)
+     * @throws IOException 본문 수신 실패
+     */
+    private ZipSource buffer(String fileKey, ResponseInputStream<GetObjectResponse> s3InputStream,
+                             PrefetchBudget budget, AtomicBoolean aborted) throws IOException {
+        if (aborted.get()) {
+            s3InputStream.abort();
+            return null;
+        }
+
+        Long contentLength = s3InputStream.response().contentLength();
+        if (contentLength == null || !budget.tryReserve(contentLength)) {
+            // 메모리 한도 초과 : 순서가 되면 스트리밍
+            return new ZipSource(fileKey, s3InputStream.response(), s3InputStream, null, 0, null);
+        }
+
+        try (s3InputStream) {
+            byte[] data = s3InputStream.readAllBytes();
+            return new ZipSource(fileKey, s3InputStream.response(), null, data, contentLength, budget);
+        } catch (IOException | RuntimeException e) {
+            budget.release(contentLength);
+            throw e;
+        }
+    }
+
+    private ZipSource await(Future<ZipSource> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("ZIP 파일 조회 중단");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException ioe) {
+                throw ioe;
+            }
+            if (cause instanceof S3Exception s3Exception) {
+                throw s3Exception;
+            }
+            throw new IOException("ZIP 파일 조회 실패", cause);
+        }
+    }
+
+    /**
+     * 사용하지 않은 조회 결과 정리 (오류 발생 시)
+     * 실행 중인 작업은 결과를 받아 연결을 닫아야 하므로 취소하지 않고 완료를 기다린다.
+     * @param future 조회 작업
+     */
+    private void discard(Future<ZipSource> future) {
+        try (ZipSource source = future.get()) {
+            if (source != null) {
+                log.debug("미사용 ZIP 파일 정리 [{}]", source.fileKey());
+                source.abort();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.debug("미사용 ZIP 파일 정리 중 오류", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * ZIP에 기록할 파일 (메모리 버퍼 또는 열린 S3 스트림)
+     */
+    private record ZipSource(String fileKey, GetObjectResponse response, ResponseInputStream<GetObjectResponse> stream,
+                             byte[] data, long reserved, PrefetchBudget budget) implements AutoCloseable {
+
+        String filename() {
+            return Paths.get(fileKey).getFileName().toString();
+        }
+
+        boolean isEncoded() {
+            return S3StorageCodec.isEncoded(response.contentEncoding());
+        }
+
+        long writeTo(ZipOutputStream zos) throws IOException {
+            if (this.isEncoded()) {
+                // 압축 저장 파일은 압축을 풀어 원본으로 기록
+                try (InputStream in = S3StorageCodec.decode(data != null ? new ByteArrayInputStream(data) : stream)) {
+                    return in.transferTo(zos);
+                }
+            }
+            if (data != null) {
+                zos.write(data);
+                return data.length;
+            }
+            return stream.transferTo(zos);
+        }
+
+        /**
+         * 읽지 않은 스트림은 남은 데이터를 받지 않도록 연결을 끊는다.
+         */
+        void abort() {
+            if (stream != null) {
+                stream.abort();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (budget != null) {
+                budget.release(reserved);
+            }
+            if (stream != null) {
+                stream.close();
+            }
+        }
+    }
+
+    /**
+     * 요청 단위 미리 가져오기 메모리 한도
+     */
+    private static final class PrefetchBudget {
+        private final AtomicLong available;
+
+        PrefetchBudget(long limit) {
+            this.available = new AtomicLong(limit);
+        }
+
+        boolean tryReserve(long bytes) {
+            long current;
+            do {
+                current = available.get();
+                if (current < bytes) {
+                    return false;
+                }
+            } while (!available.compareAndSet(current, current - bytes));
+            return true;
+        }
+
+        void release(long bytes) {
+            available.addAndGet(bytes);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package kr.go.hai.s3storage.service.impl;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * S3 응답 스트림(Publisher)을 Servlet 비동기 출력으로 전달
+ * 출력 버퍼가 비워졌을 때만 다음 데이터를 요청하므로, 느린 클라이언트가 있어도 스레드를 점유하지 않는다.
+ *
+ * @author AX사업팀
+ * @version 1.0
+ * @since 2026.10.17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *   수정일        수정자            수정내용
+ * ----------    --------    ---------------------------
+ * 2026.10.17    양정숙        최초 생성
+ * </pre>
+ */
+public class ServletOutputSubscriber implements Subscriber<ByteBuffer>, WriteListener {
+
+    private final ServletOutputStream out;
+    private final CompletableFuture<Void> result = new CompletableFuture<>();
+
+    private Subscription subscription;
+    private ByteBuffer pending;
+    private boolean requested;
+    private boolean upstreamCompleted;
+    private boolean draining;
+
+    /**
+     * @param out 비동기 모드의 Servlet 출력 스트림
+     */
+    public ServletOutputSubscriber(ServletOutputStream out) {
+        this.out = out;
+    }
+
+    /**
+     * 전송 완료 결과
+     * @return 모든 데이터를 출력하면 완료되는 Future
+     */
+    public CompletableFuture<Void> result() {
+        return result;
+    }
+
+    /**
+     * 전송 취소 (시간 초과, 응답 종료 시 S3 수신 중단)
+     * @param t 취소 사유
+     */
+    public void cancel(Throwable t) {
+        onError(t);
+    }
+
+    @Override
+    public synchronized void onSubscribe(Subscription subscription) {
+        this.subscription = subscription;
+        // 구독 전에 취소된 경우
+        if (result.isDone()) {
+            subscription.cancel();
+            return;
+        }
+        out.setWriteListener(this);
+    }
+
+    @Override
+    public synchronized void onNext(ByteBuffer byteBuffer) {
+        pending = byteBuffer;
+        requested = false;
+        drain();
+    }
+
+    @Override
+    public synchronized void onComplete() {
+        upstreamCompleted = true;
+        drain();
+    }
+
+    @Override
+    public synchronized void onWritePossible() {
+        drain();
+    }
+
+    /**
+     * S3 응답 수신 오류 또는 Servlet 출력 오류(클라이언트 연결 종료 등)
+     * @param t 오류
+     */
+    @Override
+    public synchronized void onError(Throwable t) {
+        if (subscription != null) {
+            subscription.cancel();
+        }
+        result.completeExceptionally(t);
+    }
+
+    /**
+     * 출력 가능한 동안 대기 중인 데이터를 쓰고, 다 쓰면 다음 데이터 요청
+     * isReady()가 false이면 컨테이너가 onWritePossible()을 다시 호출한다.
+     */
+    private void drain() {
+        // request(1)이 같은 스레드에서 onNext를 호출하는 경우 재귀 대신 아래 반복문에서 처리
+        if (draining || result.isDone()) {
+            return;
+        }
+
+        draining = true;
+        try {
+            while (!result.isDone() && out.isReady()) {
+                if (pending != null) {
+                    write(pending);
+                    pending = null;
+                } else if (upstreamCompleted) {
+                    result.complete(null);
+                } else if (!requested) {
+                    requested = true;
+                    subscription.request(1);
+                } else {
+                    break;
+                }
+            }
+        } catch (IOException e) {
+            onError(e);
+        } finally {
+            draining = false;
+        }
+    }
+
+    private void write(ByteBuffer byteBuffer) throws IOException {
+        if (byteBuffer.hasArray()) {
+            out.write(byteBuffer.array(), byteBuffer.arrayOffset() + byteBuffer.position(), byteBuffer.remaining());
+        } else {
+            byte[] bytes = new byte[byteBuffer.remaining()];
+            byteBuffer.get(bytes);
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package kr.go.hai.s3storage.service.impl.vo;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Instant;
+
+/**
+ * S3 Storage 중복 제거 VO (내용 해시별 원본 파일, 참조 파일)
+ *
+ * @author AX사업팀
+ * @version 1.0
+ * @since 2026.10.17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *   수정일        수정자            수정내용
+ * ----------    --------    ---------------------------
+ * 2026.10.17    양정숙        최초 생성
+ * </pre>
+ */
+@Schema(description = "S3 Storage 중복 제거")
+@Getter
+@Setter
+public class S3DedupVO {
+
+    @Schema(description = "내용 해시 (SHA-256)")
+    private String contentHash;
+
+    @Schema(description = "원본 파일 키 (스토리지에 저장된 파일)")
+    private String originFileKey;
+
+    @Schema(description = "참조 파일 키 (스토리지에 저장하지 않고 원본을 가리키는 파일)")
+    private String fileKey;
+
+    @Schema(description = "파일 크기")
+    private long size;
+
+    @Schema(description = "원본 eTag")
+    private String eTag;
+
+    @Schema(description = "참조 등록 일시")
+    private Instant registeredAt;
+
+    @Schema(description = "참조 수 (원본 포함)")
+    private long refCount;
+
+    @Schema(description = "조회 대상 prefix")
+    private String prefix;
+
+    @Schema(description = "조회 구간 시작 파일 키 (제외)")
+    private String startAfter;
+
+    @Schema(description = "조회 구간 끝 파일 키 (포함)")
+    private String endAt;
+}
@@ -0,0 +1,52 @@
+package kr.go.hai.s3storage.service.impl.vo;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * S3 Storage 일괄 삭제 결과 VO
+ *
+ * @author AX사업팀
+ * @version 1.0
+ * @since 2026.10.17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *   수정일        수정자            수정내용
+ * ----------    --------    ---------------------------
+ * 2026.10.17    양정숙        최초 생성
+ * </pre>
+ */
+@Schema(description = "S3 Storage 일괄 삭제 결과")
+@Getter
+@Setter
+public class S3DeleteResultVO {
+
+    @Schema(description = "삭제 건수")
+    private long deletedCount;
+
+    @Schema(description = "삭제 실패 목록")
+    private List<Error> errorList = new ArrayList<>();
+
+    /**
+     * 삭제 실패 파일
+     */
+    @Schema(description = "삭제 실패 파일")
+    @Getter
+    @Setter
+    public static class Error {
+        @Schema(description = "파일 키")
+        private String fileKey;
+
+        @Schema(description = "오류 코드")
+        private String code;
+
+        @Schema(description = "오류 메시지")
+        private String message;
+    }
+}
@@ -0,0 +1,34 @@
+package kr.go.hai.s3storage.service.impl.vo;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * S3 Storage 목록 페이지 VO
+ *
+ * @author AX사업팀
+ * @version 1.0
+ * @since 2026.10.17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *   수정일        수정자            수정내용
+ * ----------    --------    ---------------------------
+ * 2026.10.17    양정숙        최초 생성
+ * </pre>
+ */
+@Schema(description = "S3 Storage 목록 페이지")
+@Getter
+@Setter
+public class S3PageVO {
+
+    @Schema(description = "파일 목록")
+    private List<S3VO> list;
+
+    @Schema(description = "다음 페이지 조회 커서 (마지막 페이지면 null)")
+    private String nextCursor;
+}
@@ -0,0 +1,55 @@
+package kr.go.hai.s3storage.service.impl.vo;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * S3 Storage 일괄 업로드 결과 VO
+ *
+ * @author AX사업팀
+ * @version 1.0
+ * @since 2026.10.17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *   수정일        수정자            수정내용
+ * ----------    --------    ---------------------------
+ * 2026.10.17    양정숙        최초 생성
+ * </pre>
+ */
+@Schema(description = "S3 Storage 일괄 업로드 결과")
+@Getter
+@Setter
+public class S3UploadResultVO {
+
+    @Schema(description = "업로드 건수")
+    private long uploadedCount;
+
+    @Schema(description = "파일별 업로드 결과 (요청 순서)")
+    private List<File> fileList = new ArrayList<>();
+
+    /**
+     * 파일별 업로드 결과
+     */
+    @Schema(description = "파일별 업로드 결과")
+    @Getter
+    @Setter
+    public static class File {
+        @Schema(description = "원본파일명")
+        private String filename;
+
+        @Schema(description = "파일 키 (실패 시 null)")
+        private String fileKey;
+
+        @Schema(description = "오류 코드 (성공 시 null)")
+        private String code;
+
+        @Schema(description = "오류 메시지 (성공 시 null)")
+        private String message;
+    }
+}
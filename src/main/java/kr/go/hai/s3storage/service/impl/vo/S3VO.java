@@ -1,5 +1,6 @@
 package kr.go.hai.s3storage.service.impl.vo;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.swagger.v3.oas.annotations.media.Schema;
 import kr.selim.msa.cmmn.vo.CmmnVO;
 import lombok.Getter;
@@ -39,4 +40,22 @@ public class S3VO extends CmmnVO {
 
     @Schema(description = "최종 수정일")
     private String lastModified;
+
+    @Schema(description = "기관코드")
+    private String instCd;
+
+    @Schema(description = "등록일자 (yyyyMMdd)")
+    private String regYmd;
+
+    @Schema(description = "조회 대상 prefix", hidden = true)
+    @JsonIgnore
+    private String prefix;
+
+    @Schema(description = "조회 구간 시작 파일 키 (제외)", hidden = true)
+    @JsonIgnore
+    private String startAfter;
+
+    @Schema(description = "조회 구간 끝 파일 키 (포함)", hidden = true)
+    @JsonIgnore
+    private String endAt;
 }
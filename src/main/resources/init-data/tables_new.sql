@@ -80,3 +80,77 @@ ALTER TABLE TBB_PST_L
     ADD CONSTRAINT 엔터티3_PK2 PRIMARY KEY ( PST_SN )
     USING INDEX TBB_PST_L_PK;
 
+--TCM_S3_OBJ_M 스토리지파일기본 (파일 목록 색인)
+CREATE TABLE TCM_S3_OBJ_M
+(
+    FILE_KEY           VARCHAR2(1024),
+    INST_CD            VARCHAR2(20),
+    REG_YMD            VARCHAR2(8),
+    FILE_SZ            NUMBER(19),
+    ETAG               VARCHAR2(100),
+    LAST_MDFCN_DT      VARCHAR2(40),
+    FRST_REG_DT        TIMESTAMP
+);
+
+COMMENT ON COLUMN TCM_S3_OBJ_M.FILE_KEY IS 'FILE_KEY';
+COMMENT ON COLUMN TCM_S3_OBJ_M.INST_CD IS 'INST_CD';
+COMMENT ON COLUMN TCM_S3_OBJ_M.REG_YMD IS 'REG_YMD';
+COMMENT ON COLUMN TCM_S3_OBJ_M.FILE_SZ IS 'FILE_SZ';
+COMMENT ON COLUMN TCM_S3_OBJ_M.ETAG IS 'ETAG';
+COMMENT ON COLUMN TCM_S3_OBJ_M.LAST_MDFCN_DT IS 'LAST_MDFCN_DT';
+COMMENT ON COLUMN TCM_S3_OBJ_M.FRST_REG_DT IS 'FRST_REG_DT';
+COMMENT ON TABLE TCM_S3_OBJ_M IS '스토리지파일기본';
+
+CREATE UNIQUE INDEX TCM_S3_OBJ_M_PK ON TCM_S3_OBJ_M ( FILE_KEY );
+
+ALTER TABLE TCM_S3_OBJ_M
+    ADD CONSTRAINT TCM_S3_OBJ_M_PK PRIMARY KEY ( FILE_KEY )
+    USING INDEX TCM_S3_OBJ_M_PK;
+
+--TCM_S3_DEDUP_M 스토리지중복제거기본 (내용 해시별 원본 파일)
+CREATE TABLE TCM_S3_DEDUP_M
+(
+    CONTENT_HASH       VARCHAR2(64),
+    ORGNL_FILE_KEY     VARCHAR2(1024),
+    FILE_SZ            NUMBER(19),
+    ETAG               VARCHAR2(100),
+    REF_CNT            NUMBER(10),
+    FRST_REG_DT        TIMESTAMP
+);
+
+COMMENT ON COLUMN TCM_S3_DEDUP_M.CONTENT_HASH IS 'CONTENT_HASH';
+COMMENT ON COLUMN TCM_S3_DEDUP_M.ORGNL_FILE_KEY IS 'ORGNL_FILE_KEY';
+COMMENT ON COLUMN TCM_S3_DEDUP_M.FILE_SZ IS 'FILE_SZ';
+COMMENT ON COLUMN TCM_S3_DEDUP_M.ETAG IS 'ETAG';
+COMMENT ON COLUMN TCM_S3_DEDUP_M.REF_CNT IS 'REF_CNT';
+COMMENT ON COLUMN TCM_S3_DEDUP_M.FRST_REG_DT IS 'FRST_REG_DT';
+COMMENT ON TABLE TCM_S3_DEDUP_M IS '스토리지중복제거기본';
+
+CREATE UNIQUE INDEX TCM_S3_DEDUP_M_PK ON TCM_S3_DEDUP_M ( CONTENT_HASH );
+
+CREATE UNIQUE INDEX TCM_S3_DEDUP_M_IX1 ON TCM_S3_DEDUP_M ( ORGNL_FILE_KEY );
+
+ALTER TABLE TCM_S3_DEDUP_M
+    ADD CONSTRAINT TCM_S3_DEDUP_M_PK PRIMARY KEY ( CONTENT_HASH )
+    USING INDEX TCM_S3_DEDUP_M_PK;
+
+--TCM_S3_DEDUP_L 스토리지중복제거참조상세 (원본을 가리키는 파일)
+CREATE TABLE TCM_S3_DEDUP_L
+(
+    FILE_KEY           VARCHAR2(1024),
+    CONTENT_HASH       VARCHAR2(64),
+    FRST_REG_DT        TIMESTAMP
+);
+
+COMMENT ON COLUMN TCM_S3_DEDUP_L.FILE_KEY IS 'FILE_KEY';
+COMMENT ON COLUMN TCM_S3_DEDUP_L.CONTENT_HASH IS 'CONTENT_HASH';
+COMMENT ON COLUMN TCM_S3_DEDUP_L.FRST_REG_DT IS 'FRST_REG_DT';
+COMMENT ON TABLE TCM_S3_DEDUP_L IS '스토리지중복제거참조상세';
+
+CREATE UNIQUE INDEX TCM_S3_DEDUP_L_PK ON TCM_S3_DEDUP_L ( FILE_KEY );
+
+CREATE INDEX TCM_S3_DEDUP_L_IX1 ON TCM_S3_DEDUP_L ( CONTENT_HASH );
+
+ALTER TABLE TCM_S3_DEDUP_L
+    ADD CONSTRAINT TCM_S3_DEDUP_L_PK PRIMARY KEY ( FILE_KEY )
+    USING INDEX TCM_S3_DEDUP_L_PK;
@@ -0,0 +1,140 @@
+package kr.go.hai.s3storage.service.impl;
+
+import kr.go.hai.config.info.S3Info;
+import kr.go.hai.s3storage.service.impl.vo.S3DeleteResultVO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.S3Error;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class S3BatchDeleterTests {
+
+	private static final String PREFIX = "1234567/2026/10/17/";
+
+	/** DeleteObjects 요청 건수 */
+	private final List<Integer> batches = new CopyOnWriteArrayList<>();
+
+	/** 삭제 실패로 응답할 키 */
+	private final Set<String> failedKeys = ConcurrentHashMap.newKeySet();
+
+	/** 요청 자체를 실패시킬 키 (해당 키가 포함된 묶음 전체 실패) */
+	private String failedRequestKey;
+
+	private final InMemoryS3Client s3Client = new InMemoryS3Client() {
+		@Override
+		public DeleteObjectsResponse deleteObjects(DeleteObjectsRequest request) {
+			List<String> keys = request.delete().objects().stream().map(ObjectIdentifier::key).toList();
+			batches.add(keys.size());
+			if (keys.contains(failedRequestKey)) {
+				throw SdkClientException.create("delete");
+			}
+
+			List<S3Error> errors = new ArrayList<>();
+			for (String key : keys) {
+				if (failedKeys.contains(key)) {
+					errors.add(S3Error.builder().key(key).code("AccessDenied").message("denied").build());
+				} else {
+					deleteObject(req -> req.key(key));
+				}
+			}
+			return DeleteObjectsResponse.builder().errors(errors).build();
+		}
+	};
+
+	/** 삭제 후처리로 전달된 키 */
+	private final List<String> deleted = new CopyOnWriteArrayList<>();
+
+	private S3BatchDeleter deleter;
+
+	@BeforeEach
+	void setUp() {
+		S3Info s3Info = new S3Info();
+		s3Info.setBucket("test");
+		deleter = new S3BatchDeleter(s3Info, s3Client, new S3ExecutorFactory());
+	}
+
+	@AfterEach
+	void tearDown() {
+		deleter.shutdown();
+	}
+
+	private List<String> put(String prefix, int count) {
+		List<String> keys = IntStream.range(0, count).mapToObj(i -> prefix + String.format("%05d.txt", i)).toList();
+		keys.forEach(key -> s3Client.put(key, "text/plain", new byte[] {1}));
+		return keys;
+	}
+
+	private boolean exists(String key) {
+		return s3Client.listObjectsV2(req -> req.prefix(key)).keyCount() > 0;
+	}
+
+	@Test
+	void deleteIsSplitIntoBatches() {
+		List<String> keys = put(PREFIX, 2500);
+
+		S3DeleteResultVO result = deleter.delete(keys, deleted::addAll);
+
+		assertEquals(2500, result.getDeletedCount());
+		assertTrue(result.getErrorList().isEmpty());
+		assertEquals(List.of(500, 1000, 1000), batches.stream().sorted().toList());
+		assertEquals(Set.copyOf(keys), Set.copyOf(deleted));
+		assertFalse(exists(PREFIX));
+	}
+
+	@Test
+	void failedKeysAreReported() {
+		List<String> keys = put(PREFIX, 10);
+		failedKeys.add(keys.get(3));
+
+		S3DeleteResultVO result = deleter.delete(keys, deleted::addAll);
+
+		assertEquals(9, result.getDeletedCount());
+		assertEquals(1, result.getErrorList().size());
+		assertEquals(keys.get(3), result.getErrorList().get(0).getFileKey());
+		assertEquals("AccessDenied", result.getErrorList().get(0).getCode());
+		assertEquals(9, deleted.size());
+		assertFalse(deleted.contains(keys.get(3)));
+		assertTrue(exists(keys.get(3)));
+	}
+
+	@Test
+	void failedRequestReportsWholeBatch() {
+		List<String> keys = put(PREFIX, 1500);
+		failedRequestKey = keys.get(0);
+
+		S3DeleteResultVO result = deleter.delete(keys, deleted::addAll);
+
+		assertEquals(500, result.getDeletedCount());
+		assertEquals(1000, result.getErrorList().size());
+		assertTrue(result.getErrorList().stream().allMatch(error -> "RequestFailed".equals(error.getCode())));
+		assertEquals(Set.copyOf(keys.subList(1000, 1500)), Set.copyOf(deleted));
+	}
+
+	@Test
+	void deletePrefixOnlyDeletesPrefix() {
+		List<String> keys = put(PREFIX + "a/", 1200);
+		List<String> others = put(PREFIX + "b/", 3);
+
+		S3DeleteResultVO result = deleter.deletePrefix(PREFIX + "a/", deleted::addAll);
+
+		assertEquals(1200, result.getDeletedCount());
+		assertEquals(Set.copyOf(keys), Set.copyOf(deleted));
+		assertFalse(exists(PREFIX + "a/"));
+		others.forEach(key -> assertTrue(exists(key)));
+	}
+}
@@ -0,0 +1,99 @@
+package kr.go.hai.s3storage.service.impl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.go.hai.config.info.S3Info;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class S3ConcurrencyLimiterTests {
+
+	private static S3ConcurrencyLimiter limiter(int initialLimit) {
+		S3Info s3Info = new S3Info();
+		s3Info.getLimit().setEnabled(true);
+		s3Info.getLimit().setInitialLimit(initialLimit);
+		s3Info.getLimit().setMinLimit(5);
+		s3Info.getLimit().setMaxLimit(initialLimit);
+		return new S3ConcurrencyLimiter(s3Info, new SimpleMeterRegistry());
+	}
+
+	private static void acquire(S3ConcurrencyLimiter limiter, int count) {
+		for (int i = 0; i < count; i++) {
+			assertTrue(limiter.tryAcquire(true));
+		}
+	}
+
+	@Test
+	void priorityUsesReservedShare() {
+		S3ConcurrencyLimiter limiter = limiter(10);
+
+		for (int i = 0; i < 8; i++) {
+			assertTrue(limiter.tryAcquire(false));
+		}
+		assertFalse(limiter.tryAcquire(false));
+		assertTrue(limiter.tryAcquire(true));
+		assertTrue(limiter.tryAcquire(true));
+		assertFalse(limiter.tryAcquire(true));
+
+		limiter.release();
+		assertTrue(limiter.tryAcquire(true));
+	}
+
+	@Test
+	void releaseIgnoresConfigChange() {
+		S3Info s3Info = new S3Info();
+		s3Info.getLimit().setEnabled(true);
+		S3ConcurrencyLimiter limiter = new S3ConcurrencyLimiter(s3Info, new SimpleMeterRegistry());
+
+		assertTrue(limiter.tryAcquire(false));
+		s3Info.getLimit().setEnabled(false);
+		limiter.release();
+		assertEquals(0, limiter.getInflight());
+
+		assertTrue(limiter.tryAcquire(false));
+		s3Info.getLimit().setEnabled(true);
+		limiter.release();
+		assertEquals(0, limiter.getInflight());
+	}
+
+	@Test
+	void slowResponsesDecreaseLimit() {
+		S3ConcurrencyLimiter limiter = limiter(100);
+		acquire(limiter, 100);
+
+		for (int i = 0; i < 100; i++) {
+			limiter.onSample(10_000_000);
+		}
+		assertEquals(100, limiter.getLimit());
+
+		for (int i = 0; i < 100; i++) {
+			limiter.onSample(100_000_000);
+		}
+		assertTrue(limiter.getLimit() < 100);
+	}
+
+	@Test
+	void idleLimitIsUnchanged() {
+		S3ConcurrencyLimiter limiter = limiter(100);
+		acquire(limiter, 10);
+
+		for (int i = 0; i < 100; i++) {
+			limiter.onSample(i < 50 ? 10_000_000 : 100_000_000);
+		}
+		assertEquals(100, limiter.getLimit());
+	}
+
+	@Test
+	void throttlingBacksOff() {
+		S3ConcurrencyLimiter limiter = limiter(10);
+
+		limiter.onThrottled();
+		assertEquals(9, limiter.getLimit());
+		for (int i = 0; i < 100; i++) {
+			limiter.onThrottled();
+		}
+		assertEquals(5, limiter.getLimit());
+	}
+}
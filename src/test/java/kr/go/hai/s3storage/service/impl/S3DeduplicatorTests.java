@@ -0,0 +1,180 @@
+package kr.go.hai.s3storage.service.impl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.go.hai.config.info.S3Info;
+import kr.go.hai.s3storage.mapper.S3Mapper;
+import kr.go.hai.s3storage.service.impl.vo.S3VO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
+import software.amazon.awssdk.services.s3.model.CopyObjectResponse;
+import software.amazon.awssdk.services.s3.model.CopyObjectResult;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@MybatisTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {"logging.config=classpath:config/log/logback-junit.xml"})
+class S3DeduplicatorTests {
+
+	@Autowired
+	private S3Mapper s3Mapper;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private final S3Info s3Info = new S3Info();
+	private final S3ObjectMetadataCache metadataCache = new S3ObjectMetadataCache(s3Info, new SimpleMeterRegistry(), new S3ExecutorFactory());
+
+	/** 원본 교체(CopyObject) 중 대기 */
+	private CountDownLatch copyStarted = new CountDownLatch(1);
+	private CountDownLatch copyReleased = new CountDownLatch(0);
+	private final AtomicInteger copies = new AtomicInteger();
+
+	private final S3Client s3Client = new S3Client() {
+		@Override
+		public CopyObjectResponse copyObject(CopyObjectRequest request) {
+			copies.incrementAndGet();
+			copyStarted.countDown();
+			try {
+				copyReleased.await(5, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return CopyObjectResponse.builder()
+					.copyObjectResult(CopyObjectResult.builder().eTag("\"copied\"").build())
+					.build();
+		}
+
+		@Override
+		public String serviceName() {
+			return SERVICE_NAME;
+		}
+
+		@Override
+		public void close() {
+		}
+	};
+
+	private S3Deduplicator deduplicator;
+	private String hash;
+
+	@BeforeEach
+	void setUp() {
+		s3Info.getDedup().setEnabled(true);
+		deduplicator = new S3Deduplicator(s3Info, s3Client, s3Mapper, transactionManager, metadataCache,
+				new S3PresignedUrlCache(s3Info, new SimpleMeterRegistry()), new SimpleMeterRegistry());
+		hash = UUID.randomUUID().toString().replace("-", "");
+	}
+
+	@Test
+	void linkAndRelease() {
+		deduplicator.register("A1/origin", hash, 10, "\"origin\"");
+
+		assertEquals("\"origin\"", deduplicator.link("A1/ref", hash, 10));
+		assertNull(deduplicator.link("A1/other", hash, 11));
+		assertEquals("A1/origin", deduplicator.resolve("A1/ref"));
+		assertEquals(2, s3Mapper.selectDedupObject(hash).getRefCount());
+
+		assertEquals(List.of("A1/ref"), deduplicator.release(List.of("A1/ref")));
+		assertEquals("A1/ref", deduplicator.resolve("A1/ref"));
+		assertEquals(1, s3Mapper.selectDedupObject(hash).getRefCount());
+	}
+
+	@Test
+	void releaseOriginPromotesRef() {
+		deduplicator.register("A2/origin", hash, 10, "\"origin\"");
+		deduplicator.link("A2/ref1", hash, 10);
+		deduplicator.link("A2/ref2", hash, 10);
+		assertEquals("A2/origin", deduplicator.resolve("A2/ref2"));
+
+		S3VO cached = new S3VO();
+		metadataCache.get("A2/ref2", key -> Optional.of(cached));
+
+		assertTrue(deduplicator.release(List.of("A2/origin")).isEmpty());
+		assertEquals(1, copies.get());
+		assertEquals("A2/ref1", s3Mapper.selectDedupObject(hash).getOriginFileKey());
+		assertEquals(2, s3Mapper.selectDedupObject(hash).getRefCount());
+		assertEquals("A2/ref1", deduplicator.resolve("A2/ref1"));
+		assertEquals("A2/ref1", deduplicator.resolve("A2/ref2"));
+		assertTrue(metadataCache.get("A2/ref2", key -> Optional.empty()).isEmpty());
+	}
+
+	@Test
+	void promotedOriginIsResolvedOnOtherServer() {
+		deduplicator.register("A5/origin", hash, 10, "\"origin\"");
+		deduplicator.link("A5/ref1", hash, 10);
+		deduplicator.link("A5/ref2", hash, 10);
+
+		S3Deduplicator otherServer = new S3Deduplicator(s3Info, s3Client, s3Mapper, transactionManager, metadataCache,
+				new S3PresignedUrlCache(s3Info, new SimpleMeterRegistry()), new SimpleMeterRegistry());
+		assertEquals("A5/origin", otherServer.resolve("A5/ref2"));
+
+		deduplicator.release(List.of("A5/origin"));
+		assertEquals("A5/ref1", otherServer.resolve("A5/ref2"));
+	}
+
+	@Test
+	void refObjectsAreListedInRange() {
+		deduplicator.register("A6/origin", hash, 10, "\"origin\"");
+		deduplicator.link("A6/a", hash, 10);
+		deduplicator.link("A6/b", hash, 10);
+		deduplicator.link("A6/c", hash, 10);
+
+		List<S3VO> refs = deduplicator.refObjects("A6/", "A6/a", "A6/b");
+		assertEquals(1, refs.size());
+		assertEquals("A6/b", refs.get(0).getFileKey());
+		assertEquals(10, refs.get(0).getSize());
+		assertEquals("\"origin\"", refs.get(0).getETag());
+		assertEquals(List.of("A6/b", "A6/c"), deduplicator.refObjects("A6/", "A6/a", null).stream().map(S3VO::getFileKey).toList());
+	}
+
+	@Test
+	void releaseLastOriginDeletesRow() {
+		deduplicator.register("A3/origin", hash, 10, "\"origin\"");
+
+		assertTrue(deduplicator.release(List.of("A3/origin")).isEmpty());
+		assertNull(s3Mapper.selectDedupObject(hash));
+		assertEquals(0, copies.get());
+	}
+
+	@Test
+	void linkWaitsForPromote() throws Exception {
+		deduplicator.register("A4/origin", hash, 10, "\"origin\"");
+		deduplicator.link("A4/ref", hash, 10);
+
+		copyStarted = new CountDownLatch(1);
+		copyReleased = new CountDownLatch(1);
+		CompletableFuture<List<String>> release = CompletableFuture.supplyAsync(() -> deduplicator.release(List.of("A4/origin")));
+		assertTrue(copyStarted.await(5, TimeUnit.SECONDS));
+
+		// 원본 교체 중 등록하는 참조는 교체가 끝날 때까지 대기
+		CompletableFuture<String> link = CompletableFuture.supplyAsync(() -> deduplicator.link("A4/new", hash, 10));
+		Thread.sleep(200);
+		assertFalse(link.isDone());
+
+		copyReleased.countDown();
+		release.get(5, TimeUnit.SECONDS);
+		assertEquals("\"copied\"", link.get(5, TimeUnit.SECONDS));
+		assertEquals("A4/ref", deduplicator.resolve("A4/new"));
+		assertEquals(2, s3Mapper.selectDedupObject(hash).getRefCount());
+	}
+}
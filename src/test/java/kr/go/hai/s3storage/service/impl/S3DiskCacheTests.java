@@ -0,0 +1,101 @@
+package kr.go.hai.s3storage.service.impl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.go.hai.config.info.S3Info;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class S3DiskCacheTests {
+
+	private static final byte[] DATA = "0123456789".getBytes();
+
+	@TempDir
+	Path directory;
+
+	private S3DiskCache cache(Duration maxAge) {
+		S3Info s3Info = new S3Info();
+		s3Info.getDiskCache().setEnabled(true);
+		s3Info.getDiskCache().setDirectory(directory.toString());
+		s3Info.getDiskCache().setMaxAge(maxAge);
+		s3Info.getDiskCache().setDeleteDelay(Duration.ZERO);
+		return new S3DiskCache(s3Info, new SimpleMeterRegistry());
+	}
+
+	private static void write(S3DiskCache cache, String fileKey, long contentLength) throws Exception {
+		GetObjectResponse object = GetObjectResponse.builder().contentLength(contentLength).eTag("\"a\"").build();
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		assertEquals(DATA.length, cache.write(fileKey, object, new ByteArrayInputStream(DATA), out));
+		assertArrayEquals(DATA, out.toByteArray());
+	}
+
+	@Test
+	void writtenFileIsCached() throws Exception {
+		S3DiskCache cache = cache(Duration.ofHours(1));
+		write(cache, "a.txt", DATA.length);
+
+		S3DiskCache.Entry entry = cache.get("a.txt").orElseThrow();
+		assertEquals(DATA.length, entry.size());
+		assertEquals("\"a\"", entry.eTag());
+		assertArrayEquals(DATA, Files.readAllBytes(entry.path()));
+
+		cache.invalidate("a.txt");
+		assertFalse(cache.get("a.txt").isPresent());
+	}
+
+	@Test
+	void incompleteFileIsNotCached() throws Exception {
+		S3DiskCache cache = cache(Duration.ofHours(1));
+		write(cache, "a.txt", DATA.length + 1);
+
+		assertFalse(cache.get("a.txt").isPresent());
+	}
+
+	@Test
+	void changedETagIsNotServed() throws Exception {
+		S3DiskCache cache = cache(Duration.ofHours(1));
+		write(cache, "a.txt", DATA.length);
+
+		assertTrue(cache.get("a.txt", key -> Optional.of("\"a\"")).isPresent());
+		assertFalse(cache.get("a.txt", key -> Optional.of("\"b\"")).isPresent());
+		assertFalse(cache.get("a.txt").isPresent());
+	}
+
+	@Test
+	void deletedFileIsNotServed() throws Exception {
+		S3DiskCache cache = cache(Duration.ofHours(1));
+		write(cache, "a.txt", DATA.length);
+
+		assertFalse(cache.get("a.txt", key -> Optional.empty()).isPresent());
+		assertFalse(cache.get("a.txt").isPresent());
+	}
+
+	@Test
+	void expiredFileIsNotServed() throws Exception {
+		S3DiskCache cache = cache(Duration.ZERO);
+		write(cache, "a.txt", DATA.length);
+
+		assertFalse(cache.get("a.txt").isPresent());
+	}
+
+	@Test
+	void cacheableSize() {
+		S3DiskCache cache = cache(Duration.ofHours(1));
+
+		assertTrue(cache.isCacheable(0L));
+		assertFalse(cache.isCacheable(null));
+		assertFalse(cache.isCacheable(Long.MAX_VALUE));
+	}
+}
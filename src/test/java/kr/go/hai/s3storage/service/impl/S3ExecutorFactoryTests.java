@@ -0,0 +1,55 @@
+package kr.go.hai.s3storage.service.impl;
+
+import kr.go.hai.config.info.S3Info;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.system.JavaVersion;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.concurrent.ExecutorService;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class S3ExecutorFactoryTests {
+
+	/** 가상 스레드를 실행할 수 있는 런타임 여부 */
+	private static final boolean VIRTUAL_SUPPORTED = JavaVersion.getJavaVersion().isEqualOrNewerThan(JavaVersion.TWENTY_ONE);
+
+	@Test
+	void platformThreadsByDefault() throws Exception {
+		S3ExecutorFactory factory = new S3ExecutorFactory(new S3Info(), new MockEnvironment());
+		assertFalse(factory.isVirtual());
+
+		ExecutorService executor = factory.newFixedThreadPool("s3-test", 1);
+		try {
+			String name = executor.submit(() -> Thread.currentThread().getName()).get();
+			assertTrue(name.startsWith("s3-test-"));
+			assertTrue(executor.submit(() -> Thread.currentThread().isDaemon()).get());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void executorVirtualAppliesOnSupportedRuntime() throws Exception {
+		S3Info s3Info = new S3Info();
+		s3Info.getExecutor().setVirtual(true);
+		S3ExecutorFactory factory = new S3ExecutorFactory(s3Info, new MockEnvironment());
+		assertEquals(VIRTUAL_SUPPORTED, factory.isVirtual());
+
+		// Java 17 런타임에서는 플랫폼 스레드로 실행
+		ExecutorService executor = factory.newFixedThreadPool("s3-test", 1);
+		try {
+			assertTrue(executor.submit(() -> Thread.currentThread().getName()).get().startsWith("s3-test-"));
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void springVirtualThreadsApplyOnSupportedRuntime() {
+		MockEnvironment environment = new MockEnvironment().withProperty("spring.threads.virtual.enabled", "true");
+		assertEquals(VIRTUAL_SUPPORTED, new S3ExecutorFactory(new S3Info(), environment).isVirtual());
+	}
+}
@@ -0,0 +1,107 @@
+package kr.go.hai.s3storage.service.impl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.go.hai.config.info.S3Info;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class S3HedgerTests {
+
+	private final AtomicInteger calls = new AtomicInteger();
+
+	/** 첫 요청만 늦게 응답 */
+	private final S3Client s3Client = new S3Client() {
+		@Override
+		public HeadObjectResponse headObject(HeadObjectRequest request) {
+			if ("missing".equals(request.key())) {
+				throw NoSuchKeyException.builder().statusCode(404).build();
+			}
+			if (calls.incrementAndGet() == 1) {
+				try {
+					Thread.sleep(300);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				return HeadObjectResponse.builder().eTag("slow").build();
+			}
+			return HeadObjectResponse.builder().eTag("fast").build();
+		}
+
+		@Override
+		public String serviceName() {
+			return SERVICE_NAME;
+		}
+
+		@Override
+		public void close() {
+		}
+	};
+
+	private final S3Info s3Info = new S3Info();
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private S3Hedger hedger(double budgetPercent) {
+		s3Info.getHedge().setEnabled(true);
+		s3Info.getHedge().setMaxDelay(Duration.ofMillis(20));
+		s3Info.getHedge().setBudgetPercent(budgetPercent);
+		return new S3Hedger(s3Info, s3Client, meterRegistry, new S3ExecutorFactory());
+	}
+
+	@Test
+	void slowRequestIsHedged() {
+		S3Hedger hedger = hedger(100);
+
+		assertEquals("fast", hedger.headObject(HeadObjectRequest.builder().key("a").build()).eTag());
+		assertEquals(2, calls.get());
+		hedger.shutdown();
+	}
+
+	@Test
+	void exhaustedBudgetWaits() {
+		S3Hedger hedger = hedger(0);
+
+		assertEquals("slow", hedger.headObject(HeadObjectRequest.builder().key("a").build()).eTag());
+		assertEquals(1, calls.get());
+		hedger.shutdown();
+	}
+
+	@Test
+	void errorIsThrown() {
+		S3Hedger hedger = hedger(100);
+
+		assertThrows(NoSuchKeyException.class, () -> hedger.headObject(HeadObjectRequest.builder().key("missing").build()));
+		hedger.shutdown();
+	}
+
+	@Test
+	void poolQueueingIsNotHedged() throws Exception {
+		s3Info.getHedge().setPoolSize(1);
+		S3Hedger hedger = hedger(0);
+
+		// 첫 요청(300ms)이 Pool을 점유하는 동안 다음 요청은 Pool에서 대기
+		CompletableFuture<HeadObjectResponse> slow = CompletableFuture.supplyAsync(
+				() -> hedger.headObject(HeadObjectRequest.builder().key("a").build()));
+		while (calls.get() == 0) {
+			Thread.sleep(1);
+		}
+		// 첫 요청의 지연 기준(20ms)이 예산 없이 지난 뒤 예산 부여
+		Thread.sleep(100);
+		s3Info.getHedge().setBudgetPercent(100);
+
+		assertEquals("fast", hedger.headObject(HeadObjectRequest.builder().key("b").build()).eTag());
+		assertEquals("slow", slow.get().eTag());
+		assertEquals(2, calls.get());
+		assertEquals(0, meterRegistry.get("s3.hedge").tag("operation", "headObject").tag("result", "sent").counter().count());
+		hedger.shutdown();
+	}
+}
@@ -0,0 +1,210 @@
+package kr.go.hai.s3storage.service.impl;
+
+import kr.go.hai.config.info.S3Info;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.MultipartUpload;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class S3MultipartUploaderTests {
+
+	private static final String FILE_KEY = "1234567/2026/10/17/0f8fad5b-d9cb-469f-a165-70867728950e/data.bin";
+
+	/** S3 최소 Part 크기 */
+	private static final int PART_SIZE = 5 * 1024 * 1024;
+
+	/** 업로드된 Part 번호 (재시도 포함) */
+	private final List<Integer> parts = new CopyOnWriteArrayList<>();
+
+	/** 실패시킬 Part 번호와 남은 실패 횟수 */
+	private final Map<Integer, AtomicInteger> failures = new ConcurrentHashMap<>();
+
+	private final AtomicInteger aborts = new AtomicInteger();
+
+	private final InMemoryS3Client s3Client = new InMemoryS3Client() {
+		@Override
+		public UploadPartResponse uploadPart(UploadPartRequest request, RequestBody requestBody) {
+			parts.add(request.partNumber());
+			AtomicInteger remaining = failures.get(request.partNumber());
+			if (remaining != null && remaining.getAndDecrement() > 0) {
+				throw SdkClientException.create("part " + request.partNumber());
+			}
+			return super.uploadPart(request, requestBody);
+		}
+
+		@Override
+		public AbortMultipartUploadResponse abortMultipartUpload(AbortMultipartUploadRequest request) {
+			aborts.incrementAndGet();
+			return super.abortMultipartUpload(request);
+		}
+	};
+
+	private final S3Info s3Info = new S3Info();
+	private S3MultipartUploader uploader;
+
+	private S3MultipartUploader uploader(int maxRetries) {
+		s3Info.setBucket("test");
+		s3Info.getMultipart().setPartSize(DataSize.ofBytes(PART_SIZE));
+		s3Info.getMultipart().setMaxRetries(maxRetries);
+		uploader = new S3MultipartUploader(s3Info, s3Client, new S3ExecutorFactory());
+		return uploader;
+	}
+
+	private static byte[] data(int size) {
+		byte[] data = new byte[size];
+		for (int i = 0; i < size; i++) {
+			data[i] = (byte) (i * 31);
+		}
+		return data;
+	}
+
+	private byte[] stored() {
+		return s3Client.getObjectAsBytes(req -> req.key(FILE_KEY)).asByteArray();
+	}
+
+	@AfterEach
+	void tearDown() {
+		if (uploader != null) {
+			uploader.shutdown();
+		}
+	}
+
+	@Test
+	void supportsFromThreshold() {
+		S3MultipartUploader uploader = uploader(0);
+		s3Info.getMultipart().setThreshold(DataSize.ofMegabytes(16));
+
+		assertFalse(uploader.supports(DataSize.ofMegabytes(16).toBytes() - 1));
+		assertTrue(uploader.supports(DataSize.ofMegabytes(16).toBytes()));
+
+		s3Info.getMultipart().setEnabled(false);
+		assertFalse(uploader.supports(DataSize.ofMegabytes(16).toBytes()));
+	}
+
+	@Test
+	void uploadIsSplitIntoParts() throws IOException {
+		byte[] data = data(PART_SIZE * 2 + 100);
+
+		uploader(0).upload(FILE_KEY, "application/octet-stream", new ByteArrayInputStream(data), data.length);
+
+		assertArrayEquals(data, stored());
+		assertEquals(Set.of(1, 2, 3), Set.copyOf(parts));
+		assertEquals(3, parts.size());
+		assertEquals(0, aborts.get());
+	}
+
+	@Test
+	void emptyStreamIsSinglePart() throws IOException {
+		uploader(0).upload(FILE_KEY, "application/octet-stream", new ByteArrayInputStream(new byte[0]), 0);
+
+		assertEquals(0, stored().length);
+		assertEquals(List.of(1), parts);
+	}
+
+	@Test
+	void failedPartIsRetried() throws IOException {
+		byte[] data = data(PART_SIZE * 2 + 100);
+		failures.put(2, new AtomicInteger(1));
+
+		uploader(1).upload(FILE_KEY, "application/octet-stream", new ByteArrayInputStream(data), -1);
+
+		assertArrayEquals(data, stored());
+		// 실패한 Part 2만 다시 전송
+		assertEquals(2, Collections.frequency(parts, 2));
+		assertEquals(1, Collections.frequency(parts, 1));
+		assertEquals(1, Collections.frequency(parts, 3));
+	}
+
+	@Test
+	void failedUploadIsAborted() {
+		failures.put(2, new AtomicInteger(Integer.MAX_VALUE));
+		S3MultipartUploader uploader = uploader(0);
+
+		assertThrows(IOException.class,
+				() -> uploader.upload(FILE_KEY, "application/octet-stream", new ByteArrayInputStream(data(PART_SIZE * 2 + 100)), -1));
+
+		assertEquals(1, aborts.get());
+		assertThrows(NoSuchKeyException.class, this::stored);
+	}
+
+	@Test
+	void readFailureIsAborted() {
+		S3MultipartUploader uploader = uploader(0);
+		// 첫 Part 이후 읽기 실패
+		ByteArrayInputStream in = new ByteArrayInputStream(data(PART_SIZE + 100)) {
+			@Override
+			public synchronized int read(byte[] b, int off, int len) {
+				if (pos >= PART_SIZE) {
+					throw new IllegalStateException("read");
+				}
+				return super.read(b, off, len);
+			}
+		};
+
+		assertThrows(IOException.class, () -> uploader.upload(FILE_KEY, "application/octet-stream", in, -1));
+		assertEquals(1, aborts.get());
+	}
+
+	@Test
+	void partSizeOutOfRangeIsRejected() {
+		S3Info.Multipart multipart = new S3Info.Multipart();
+
+		assertThrows(IllegalArgumentException.class, () -> multipart.setPartSize(DataSize.ofMegabytes(4)));
+		assertThrows(IllegalArgumentException.class, () -> multipart.setPartSize(DataSize.ofGigabytes(2)));
+		multipart.setPartSize(DataSize.ofGigabytes(1));
+		assertEquals(DataSize.ofGigabytes(1), multipart.getPartSize());
+	}
+
+	@Test
+	void sizeBeyondMaxPartsFailsBeforeUpload() {
+		S3MultipartUploader uploader = uploader(0);
+		long size = (long) PART_SIZE * S3Info.Multipart.MAX_PARTS + 1;
+
+		assertThrows(IOException.class,
+				() -> uploader.upload(FILE_KEY, "application/octet-stream", new ByteArrayInputStream(new byte[0]), size));
+		assertTrue(parts.isEmpty());
+		assertTrue(s3Client.listMultipartUploads(req -> req.bucket("test")).uploads().isEmpty());
+	}
+
+	@Test
+	void staleCleanupOnlyAbortsUnderPrefixes() {
+		S3MultipartUploader uploader = uploader(0);
+		s3Info.getMultipart().setStaleAfter(Duration.ofSeconds(-1));
+		s3Client.createMultipartUpload(req -> req.key(FILE_KEY));
+		s3Client.createMultipartUpload(req -> req.key("other-app/data.bin"));
+
+		// 정리 대상 prefix가 없으면 정리하지 않음
+		uploader.abortStaleUploads();
+		assertEquals(0, aborts.get());
+
+		s3Info.getMultipart().setStaleCleanupPrefixes(List.of("1234567/"));
+		uploader.abortStaleUploads();
+		assertEquals(1, aborts.get());
+		assertEquals(List.of("other-app/data.bin"),
+				s3Client.listMultipartUploads(req -> req.bucket("test")).uploads().stream().map(MultipartUpload::key).toList());
+	}
+}
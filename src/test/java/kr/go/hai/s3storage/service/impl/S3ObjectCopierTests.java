@@ -0,0 +1,163 @@
+package kr.go.hai.s3storage.service.impl;
+
+import kr.go.hai.config.info.S3Info;
+import kr.go.hai.s3storage.service.impl.vo.S3CopyResultVO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
+import software.amazon.awssdk.services.s3.model.CopyObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.UploadPartCopyRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartCopyResponse;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class S3ObjectCopierTests {
+
+	private static final String SOURCE_KEY = "1234567/2026/10/17/0f8fad5b-d9cb-469f-a165-70867728950e/data.bin";
+	private static final String TARGET_KEY = "7654321/2026/10/17/0f8fad5b-d9cb-469f-a165-70867728950e/data.bin";
+
+	private final AtomicInteger copies = new AtomicInteger();
+
+	/** UploadPartCopy 구간 */
+	private final List<String> ranges = new CopyOnWriteArrayList<>();
+
+	private final AtomicInteger aborts = new AtomicInteger();
+
+	/** Part 복사 직전 실행할 작업 (Part 번호별, 복사 중 원본 변경 재현) */
+	private final Map<Integer, Runnable> beforePart = new ConcurrentHashMap<>();
+
+	private final InMemoryS3Client s3Client = new InMemoryS3Client() {
+		@Override
+		public CopyObjectResponse copyObject(CopyObjectRequest request) {
+			copies.incrementAndGet();
+			return super.copyObject(request);
+		}
+
+		@Override
+		public UploadPartCopyResponse uploadPartCopy(UploadPartCopyRequest request) {
+			ranges.add(request.copySourceRange());
+			beforePart.getOrDefault(request.partNumber(), () -> {}).run();
+			return super.uploadPartCopy(request);
+		}
+
+		@Override
+		public AbortMultipartUploadResponse abortMultipartUpload(AbortMultipartUploadRequest request) {
+			aborts.incrementAndGet();
+			return super.abortMultipartUpload(request);
+		}
+	};
+
+	private final S3Info s3Info = new S3Info();
+	private S3ObjectCopier copier;
+
+	@BeforeEach
+	void setUp() {
+		s3Info.setBucket("test");
+		s3Info.getCopy().setMultipartThreshold(DataSize.ofBytes(1000));
+		s3Info.getCopy().setPartSize(DataSize.ofBytes(400));
+		copier = new S3ObjectCopier(s3Info, s3Client, new S3ExecutorFactory());
+	}
+
+	@AfterEach
+	void tearDown() {
+		copier.shutdown();
+	}
+
+	private static byte[] data(int size) {
+		byte[] data = new byte[size];
+		for (int i = 0; i < size; i++) {
+			data[i] = (byte) i;
+		}
+		return data;
+	}
+
+	private HeadObjectResponse put(String key, byte[] data) {
+		s3Client.put(key, "application/octet-stream", data);
+		return s3Client.headObject(req -> req.key(key));
+	}
+
+	private byte[] stored(String key) {
+		return s3Client.getObjectAsBytes(req -> req.key(key)).asByteArray();
+	}
+
+	@Test
+	void smallFileUsesCopyObject() {
+		byte[] data = data(1000);
+		HeadObjectResponse head = put(SOURCE_KEY, data);
+
+		copier.copy(SOURCE_KEY, TARGET_KEY, head);
+
+		assertArrayEquals(data, stored(TARGET_KEY));
+		assertEquals(1, copies.get());
+		assertEquals(List.of(), ranges);
+	}
+
+	@Test
+	void largeFileIsCopiedByParts() {
+		byte[] data = data(1001);
+		HeadObjectResponse head = put(SOURCE_KEY, data);
+
+		copier.copy(SOURCE_KEY, TARGET_KEY, head);
+
+		assertArrayEquals(data, stored(TARGET_KEY));
+		assertEquals("application/octet-stream", s3Client.headObject(req -> req.key(TARGET_KEY)).contentType());
+		assertEquals(0, copies.get());
+		assertEquals(Set.of("bytes=0-399", "bytes=400-799", "bytes=800-1000"), Set.copyOf(ranges));
+	}
+
+	@Test
+	void changedSourceAbortsPartCopy() {
+		HeadObjectResponse head = put(SOURCE_KEY, data(1001));
+		beforePart.put(2, () -> s3Client.put(SOURCE_KEY, "application/octet-stream", data(10)));
+
+		S3Exception e = assertThrows(S3Exception.class, () -> copier.copy(SOURCE_KEY, TARGET_KEY, head));
+
+		assertEquals(412, e.statusCode());
+		assertEquals(1, aborts.get());
+		assertThrows(NoSuchKeyException.class, () -> stored(TARGET_KEY));
+	}
+
+	@Test
+	void changedSourceFailsCopyObject() {
+		HeadObjectResponse head = put(SOURCE_KEY, data(10));
+		s3Client.put(SOURCE_KEY, "application/octet-stream", data(20));
+
+		S3Exception e = assertThrows(S3Exception.class, () -> copier.copy(SOURCE_KEY, TARGET_KEY, head));
+		assertEquals(412, e.statusCode());
+	}
+
+	@Test
+	void copyPrefixRecordsFailures() {
+		String prefix = "1234567/2026/10/17/";
+		List.of("a", "b", "c").forEach(name -> s3Client.put(prefix + name, "text/plain", new byte[] {1}));
+		List<String> copied = new CopyOnWriteArrayList<>();
+
+		S3CopyResultVO result = copier.copyPrefix(prefix, List.of(prefix + "ref"), fileKey -> {
+			if (fileKey.endsWith("b")) {
+				throw NoSuchKeyException.builder().message("gone").build();
+			}
+			copied.add(fileKey);
+		});
+
+		assertEquals(3, result.getCopiedCount());
+		assertEquals(1, result.getErrorList().size());
+		assertEquals(prefix + "b", result.getErrorList().get(0).getFileKey());
+		assertEquals(Set.of(prefix + "a", prefix + "c", prefix + "ref"), Set.copyOf(copied));
+	}
+}
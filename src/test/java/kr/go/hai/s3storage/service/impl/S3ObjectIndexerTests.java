@@ -0,0 +1,138 @@
+package kr.go.hai.s3storage.service.impl;
+
+import kr.go.hai.config.info.S3Info;
+import kr.go.hai.s3storage.mapper.S3Mapper;
+import kr.go.hai.s3storage.service.impl.vo.S3VO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@MybatisTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {"logging.config=classpath:config/log/logback-junit.xml"})
+class S3ObjectIndexerTests {
+
+	@Autowired
+	private S3Mapper s3Mapper;
+
+	/** 목록 조회 도중 실행할 작업 (보정 중 업로드 재현) */
+	private Runnable onList = () -> {};
+
+	/** 목록 조회 페이지 크기 (0이면 기본값) */
+	private int listMaxKeys;
+
+	private final InMemoryS3Client s3Client = new InMemoryS3Client() {
+		@Override
+		public ListObjectsV2Response listObjectsV2(ListObjectsV2Request request) {
+			ListObjectsV2Response response = super.listObjectsV2(listMaxKeys > 0 ? request.toBuilder().maxKeys(listMaxKeys).build() : request);
+			onList.run();
+			onList = () -> {};
+			return response;
+		}
+	};
+
+	private S3ObjectIndexer indexer;
+	private String prefix;
+
+	@BeforeEach
+	void setUp() {
+		S3Info s3Info = new S3Info();
+		s3Info.setBucket("test");
+		s3Info.getIndex().setEnabled(true);
+		indexer = new S3ObjectIndexer(s3Info, s3Client, s3Mapper);
+		prefix = "1234567/" + UUID.randomUUID() + "/";
+	}
+
+	private static S3VO object(String fileKey, String eTag) {
+		S3VO s3VO = new S3VO();
+		s3VO.setFileKey(fileKey);
+		s3VO.setSize(1L);
+		s3VO.setETag(eTag);
+		s3VO.setLastModified("2026-10-17T00:00:00Z");
+		return s3VO;
+	}
+
+	private List<String> eTags() {
+		return indexer.list(prefix).stream().map(s3VO -> s3VO.getFileKey().substring(prefix.length()) + "=" + s3VO.getETag()).toList();
+	}
+
+	@Test
+	void reconcileAppliesStorage() {
+		s3Client.put(prefix + "a", "text/plain", new byte[] {1});
+		s3Client.put(prefix + "b", "text/plain", new byte[] {2});
+		String eTagA = s3Client.headObject(req -> req.key(prefix + "a")).eTag();
+		String eTagB = s3Client.headObject(req -> req.key(prefix + "b")).eTag();
+		indexer.register(object(prefix + "b", "\"old\""));
+		indexer.register(object(prefix + "c", "\"deleted\""));
+
+		indexer.reconcile(prefix);
+		assertEquals(List.of("a=" + eTagA, "b=" + eTagB), eTags());
+	}
+
+	@Test
+	void uploadDuringReconcileIsUpdated() {
+		s3Client.put(prefix + "a", "text/plain", new byte[] {1});
+		String eTag = s3Client.headObject(req -> req.key(prefix + "a")).eTag();
+		onList = () -> indexer.register(object(prefix + "a", "\"uploaded\""));
+
+		indexer.reconcile(prefix);
+		assertEquals(List.of("a=" + eTag), eTags());
+	}
+
+	@Test
+	void reconcileComparesPageByPage() {
+		for (String name : List.of("a", "c", "d", "f", "g")) {
+			s3Client.put(prefix + name, "text/plain", name.getBytes());
+		}
+		for (String name : List.of("b", "d", "e", "h", "i")) {
+			indexer.register(object(prefix + name, "\"old\""));
+		}
+		listMaxKeys = 2;
+
+		indexer.reconcile(prefix);
+		assertEquals(List.of("a", "c", "d", "f", "g"),
+				indexer.list(prefix).stream().map(s3VO -> s3VO.getFileKey().substring(prefix.length())).toList());
+		assertEquals(s3Client.headObject(req -> req.key(prefix + "d")).eTag(), indexer.list(prefix).get(2).getETag());
+	}
+
+	@Test
+	void registeredObjectMatchesStorageListing() {
+		String fileKey = "1234567/2026/10/17/" + UUID.randomUUID() + "/a.txt";
+		s3Client.put(fileKey, "text/plain", new byte[] {1, 2, 3});
+		indexer.register(fileKey, fileKey, 3);
+
+		S3Object content = s3Client.listObjectsV2(req -> req.prefix(fileKey)).contents().get(0);
+		S3VO listed = S3ObjectIndexer.toS3VO(content);
+		S3VO indexed = indexer.list(fileKey).get(0);
+		assertEquals(listed.getETag(), indexed.getETag());
+		assertEquals(listed.getLastModified(), indexed.getLastModified());
+		assertEquals(listed.getSize(), indexed.getSize());
+		assertEquals("1234567", indexed.getInstCd());
+		assertEquals("20261017", indexed.getRegYmd());
+		assertEquals(listed.getInstCd(), indexed.getInstCd());
+		assertEquals(listed.getRegYmd(), indexed.getRegYmd());
+		assertNull(indexed.getContentType());
+		s3Mapper.deleteObject(fileKey);
+	}
+
+	@Test
+	void registerExistingUpdates() {
+		indexer.register(object(prefix + "a", "\"first\""));
+		indexer.register(object(prefix + "a", "\"second\""));
+
+		assertEquals(List.of("a=\"second\""), eTags());
+	}
+}
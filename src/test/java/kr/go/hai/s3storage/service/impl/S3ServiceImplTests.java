@@ -0,0 +1,619 @@
+package kr.go.hai.s3storage.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import kr.go.hai.config.info.S3Info;
+import kr.go.hai.s3storage.service.impl.vo.S3CopyResultVO;
+import kr.go.hai.s3storage.service.impl.vo.S3PageVO;
+import kr.go.hai.s3storage.service.impl.vo.S3VO;
+import kr.selim.msa.cmmn.exception.ApiBizException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.context.request.async.StandardServletAsyncWebRequest;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.sync.ResponseTransformer;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class S3ServiceImplTests {
+
+	private static final String FILE_KEY = "1234567/2026/10/17/0f8fad5b-d9cb-469f-a165-70867728950e/data.txt";
+
+	/** 스토리지 파일(a.txt)과 중복 제거 참조 파일(b.txt)을 병합한 목록 */
+	private static final List<String> MERGED_KEYS = List.of("1234567/2026/10/17/0/a.txt", "1234567/2026/10/17/1/a.txt",
+			"1234567/2026/10/17/1/b.txt", "1234567/2026/10/17/2/a.txt", "1234567/2026/10/17/3/a.txt",
+			"1234567/2026/10/17/4/a.txt", "1234567/2026/10/17/4/b.txt");
+
+	/** 목록 조회 실패 시작 페이지 (0이면 실패 없음) */
+	private int failListFromPage;
+	private int listPages;
+
+	/** S3 GET 요청 수 */
+	private final AtomicInteger gets = new AtomicInteger();
+
+	private final InMemoryS3Client s3Client = new InMemoryS3Client() {
+		@Override
+		public <ReturnT> ReturnT getObject(GetObjectRequest request, ResponseTransformer<GetObjectResponse, ReturnT> responseTransformer) {
+			gets.incrementAndGet();
+			return super.getObject(request, responseTransformer);
+		}
+
+		@Override
+		public ListObjectsV2Response listObjectsV2(ListObjectsV2Request request) {
+			if (++listPages == failListFromPage) {
+				throw (S3Exception) S3Exception.builder().statusCode(500).build();
+			}
+			return super.listObjectsV2(request);
+		}
+	};
+
+	/** 비동기 S3 응답 (테스트에서 완료 시점 제어) */
+	private final CompletableFuture<Object> s3AsyncResponse = new CompletableFuture<>();
+
+	private final S3AsyncClient s3AsyncClient = new S3AsyncClient() {
+		@Override
+		@SuppressWarnings("unchecked")
+		public <ReturnT> CompletableFuture<ReturnT> getObject(GetObjectRequest request,
+				AsyncResponseTransformer<GetObjectResponse, ReturnT> transformer) {
+			return (CompletableFuture<ReturnT>) s3AsyncResponse;
+		}
+
+		@Override
+		public String serviceName() {
+			return SERVICE_NAME;
+		}
+
+		@Override
+		public void close() {
+		}
+	};
+
+	@TempDir
+	Path cacheDirectory;
+
+	private S3ServiceImpl service(boolean diskCache) {
+		S3Info s3Info = S3ServiceFixture.s3Info();
+		s3Info.getDiskCache().setEnabled(diskCache);
+		s3Info.getDiskCache().setDirectory(cacheDirectory.toString());
+		return S3ServiceFixture.create(s3Info, s3Client);
+	}
+
+	private static MockHttpServletResponse download(S3ServiceImpl service, String range) {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		if (range != null) {
+			request.addHeader(HttpHeaders.RANGE, range);
+		}
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		service.downloadObject(request, response, FILE_KEY);
+		return response;
+	}
+
+	/** 전체 다운로드로 디스크 캐시에 저장 (이후 요청은 S3 GET 없이 디스크 캐시에서 응답, GET 수 초기화) */
+	private S3ServiceImpl cached(byte[] data) {
+		s3Client.put(FILE_KEY, "text/plain", data);
+		S3ServiceImpl service = service(true);
+		assertEquals(HttpStatus.OK.value(), download(service, null).getStatus());
+		gets.set(0);
+		return service;
+	}
+
+	@Test
+	void rangeIsForwardedToStorage() throws Exception {
+		s3Client.put(FILE_KEY, "text/plain", "0123456789".getBytes(StandardCharsets.UTF_8));
+
+		MockHttpServletResponse response = download(service(false), "bytes=2-4");
+		assertEquals(HttpStatus.PARTIAL_CONTENT.value(), response.getStatus());
+		assertEquals("bytes 2-4/10", response.getHeader(HttpHeaders.CONTENT_RANGE));
+		assertEquals("234", response.getContentAsString());
+	}
+
+	@Test
+	void cachedRangeIsPartial() throws Exception {
+		S3ServiceImpl service = cached("0123456789".getBytes(StandardCharsets.UTF_8));
+
+		MockHttpServletResponse response = download(service, "bytes=-3");
+		assertEquals(HttpStatus.PARTIAL_CONTENT.value(), response.getStatus());
+		assertEquals("bytes 7-9/10", response.getHeader(HttpHeaders.CONTENT_RANGE));
+		assertEquals("789", response.getContentAsString());
+		assertEquals(0, gets.get());
+	}
+
+	@Test
+	void cachedFileOverwrittenInStorageIsDownloadedAgain() throws Exception {
+		S3ServiceImpl service = cached("0123456789".getBytes(StandardCharsets.UTF_8));
+
+		// 다른 서버에서 덮어쓰기
+		s3Client.put(FILE_KEY, "text/plain", "abcdefghij".getBytes(StandardCharsets.UTF_8));
+
+		assertEquals("abcdefghij", download(service, null).getContentAsString());
+		assertEquals(1, gets.get());
+		assertEquals("abcdefghij", download(service, null).getContentAsString());
+		assertEquals(1, gets.get());
+	}
+
+	@Test
+	void cachedFileDeletedFromStorageIsNotFound() {
+		S3ServiceImpl service = cached("0123456789".getBytes(StandardCharsets.UTF_8));
+
+		// 다른 서버에서 삭제
+		s3Client.deleteObject(DeleteObjectRequest.builder().key(FILE_KEY).build());
+
+		ApiBizException e = assertThrows(ApiBizException.class, () -> download(service, null));
+		assertEquals(HttpStatus.NOT_FOUND, e.getStatus());
+	}
+
+	@Test
+	void cachedRangeBeyondSizeIsNotSatisfiable() {
+		S3ServiceImpl service = cached("0123456789".getBytes(StandardCharsets.UTF_8));
+
+		MockHttpServletResponse response = download(service, "bytes=10-");
+		assertEquals(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value(), response.getStatus());
+		assertEquals("bytes */10", response.getHeader(HttpHeaders.CONTENT_RANGE));
+		assertEquals(0, response.getContentAsByteArray().length);
+	}
+
+	@Test
+	void cachedSuffixRangeOfEmptyFileIsNotSatisfiable() {
+		S3ServiceImpl service = cached(new byte[0]);
+
+		MockHttpServletResponse response = download(service, "bytes=-5");
+		assertEquals(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value(), response.getStatus());
+		assertEquals("bytes */0", response.getHeader(HttpHeaders.CONTENT_RANGE));
+	}
+
+	@Test
+	void rangeBeyondSizeFromStorageIsNotSatisfiable() {
+		s3Client.put(FILE_KEY, "text/plain", "0123456789".getBytes(StandardCharsets.UTF_8));
+
+		MockHttpServletResponse response = download(service(false), "bytes=10-");
+		assertEquals(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value(), response.getStatus());
+		assertEquals("bytes */10", response.getHeader(HttpHeaders.CONTENT_RANGE));
+	}
+
+	@Test
+	void matchingETagIsNotModified() {
+		s3Client.put(FILE_KEY, "text/plain", "0123456789".getBytes(StandardCharsets.UTF_8));
+		String eTag = s3Client.headObject(req -> req.key(FILE_KEY)).eTag();
+
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.addHeader(HttpHeaders.IF_NONE_MATCH, eTag);
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		service(false).downloadObject(request, response, FILE_KEY);
+
+		assertEquals(HttpStatus.NOT_MODIFIED.value(), response.getStatus());
+		assertEquals(eTag, response.getHeader(HttpHeaders.ETAG));
+		assertEquals(0, response.getContentAsByteArray().length);
+	}
+
+	@Test
+	void changedETagIsDownloaded() throws Exception {
+		s3Client.put(FILE_KEY, "text/plain", "0123456789".getBytes(StandardCharsets.UTF_8));
+
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"old\"");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		service(false).downloadObject(request, response, FILE_KEY);
+
+		assertEquals(HttpStatus.OK.value(), response.getStatus());
+		assertEquals("0123456789", response.getContentAsString());
+	}
+
+	@Test
+	void cachedMatchingETagIsNotModified() {
+		s3Client.put(FILE_KEY, "text/plain", "0123456789".getBytes(StandardCharsets.UTF_8));
+		String eTag = s3Client.headObject(req -> req.key(FILE_KEY)).eTag();
+		S3ServiceImpl service = cached("0123456789".getBytes(StandardCharsets.UTF_8));
+
+		// 캐시 경로는 약한 비교로 판단
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.addHeader(HttpHeaders.IF_NONE_MATCH, "W/" + eTag);
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		service.downloadObject(request, response, FILE_KEY);
+
+		assertEquals(HttpStatus.NOT_MODIFIED.value(), response.getStatus());
+	}
+
+	@Test
+	void multiRangeBeyondSizeIsNotSatisfiable() {
+		s3Client.put(FILE_KEY, "text/plain", "0123456789".getBytes(StandardCharsets.UTF_8));
+
+		MockHttpServletResponse response = download(service(false), "bytes=20-30,40-50");
+		assertEquals(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value(), response.getStatus());
+		assertEquals("bytes */10", response.getHeader(HttpHeaders.CONTENT_RANGE));
+	}
+
+	@Test
+	void multiRangeIsFetchedInOneRequest() throws Exception {
+		s3Client.put(FILE_KEY, "text/plain", "0123456789".getBytes(StandardCharsets.UTF_8));
+
+		MockHttpServletResponse response = download(service(false), "bytes=8-9,0-1,3-4,20-30");
+		assertEquals(HttpStatus.PARTIAL_CONTENT.value(), response.getStatus());
+		assertTrue(response.getContentType().startsWith("multipart/byteranges"));
+		String body = response.getContentAsString();
+		// 시작 위치 순으로 전송하고 만족할 수 없는 Range는 제외
+		assertTrue(body.indexOf("bytes 0-1/10\r\n\r\n01") < body.indexOf("bytes 3-4/10\r\n\r\n34"));
+		assertTrue(body.indexOf("bytes 3-4/10\r\n\r\n34") < body.indexOf("bytes 8-9/10\r\n\r\n89"));
+		assertFalse(body.contains("20-30"));
+		assertEquals(1, gets.get());
+	}
+
+	@Test
+	void overlappingMultiRangeIsMerged() throws Exception {
+		s3Client.put(FILE_KEY, "text/plain", "0123456789".getBytes(StandardCharsets.UTF_8));
+
+		MockHttpServletResponse response = download(service(false), "bytes=0-3,2-5,6-6");
+		assertEquals(HttpStatus.PARTIAL_CONTENT.value(), response.getStatus());
+		assertEquals("bytes 0-6/10", response.getHeader(HttpHeaders.CONTENT_RANGE));
+		assertEquals("0123456", response.getContentAsString());
+	}
+
+	@Test
+	void distantMultiRangeRequestsAreBounded() throws Exception {
+		byte[] data = new byte[1024 * 1024];
+		s3Client.put(FILE_KEY, "application/octet-stream", data);
+
+		StringBuilder range = new StringBuilder("bytes=");
+		for (int i = 0; i < 10; i++) {
+			range.append(i == 0 ? "" : ",").append(i * 100_000).append('-').append(i * 100_000 + 9);
+		}
+		MockHttpServletResponse response = download(service(false), range.toString());
+		assertEquals(HttpStatus.PARTIAL_CONTENT.value(), response.getStatus());
+		assertTrue(response.getContentAsString().contains("bytes 900000-900009/" + data.length));
+		assertEquals(1, gets.get());
+	}
+
+	@Test
+	void multiRangeMissingFileIsNotFound() {
+		ApiBizException e = assertThrows(ApiBizException.class, () -> download(service(false), "bytes=0-1,3-4"));
+		assertEquals(HttpStatus.NOT_FOUND, e.getStatus());
+	}
+
+	private MockHttpServletResponse downloadIfMatch(S3ServiceImpl service, String ifMatch, String range) {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.addHeader(HttpHeaders.IF_MATCH, ifMatch);
+		if (range != null) {
+			request.addHeader(HttpHeaders.RANGE, range);
+		}
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		service.downloadObject(request, response, FILE_KEY);
+		return response;
+	}
+
+	@Test
+	void ifMatchMismatchIsPreconditionFailed() throws Exception {
+		s3Client.put(FILE_KEY, "text/plain", "0123456789".getBytes(StandardCharsets.UTF_8));
+		String eTag = s3Client.headObject(req -> req.key(FILE_KEY)).eTag();
+		S3ServiceImpl service = service(false);
+
+		assertEquals(HttpStatus.PRECONDITION_FAILED.value(), downloadIfMatch(service, "\"old\"", null).getStatus());
+		assertEquals(HttpStatus.PRECONDITION_FAILED.value(), downloadIfMatch(service, "\"old\"", "bytes=0-1,3-4").getStatus());
+		assertEquals("0123456789", downloadIfMatch(service, eTag, null).getContentAsString());
+		assertEquals(HttpStatus.PARTIAL_CONTENT.value(), downloadIfMatch(service, eTag, "bytes=0-1,5-6").getStatus());
+	}
+
+	@Test
+	void cachedIfMatchMismatchIsPreconditionFailed() {
+		S3ServiceImpl service = cached("0123456789".getBytes(StandardCharsets.UTF_8));
+
+		assertEquals(HttpStatus.PRECONDITION_FAILED.value(), downloadIfMatch(service, "\"old\"", null).getStatus());
+	}
+
+	@Test
+	void unmodifiedSinceBeforeChangeIsPreconditionFailed() {
+		s3Client.put(FILE_KEY, "text/plain", "0123456789".getBytes(StandardCharsets.UTF_8));
+
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.addHeader(HttpHeaders.IF_UNMODIFIED_SINCE, "Thu, 01 Jan 2015 00:00:00 GMT");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		service(false).downloadObject(request, response, FILE_KEY);
+
+		assertEquals(HttpStatus.PRECONDITION_FAILED.value(), response.getStatus());
+	}
+
+	private CompletableFuture<Void> downloadAsync(MockHttpServletRequest request, MockHttpServletResponse response) {
+		CompletableFuture<Void> result = downloadAsyncWithoutStart(request, response);
+		startAsync(request, result);
+		return result;
+	}
+
+	/** 서비스 호출 (컨트롤러 반환 전) */
+	private CompletableFuture<Void> downloadAsyncWithoutStart(MockHttpServletRequest request, MockHttpServletResponse response) {
+		request.setAsyncSupported(true);
+		WebAsyncUtils.getAsyncManager(request).setAsyncWebRequest(new StandardServletAsyncWebRequest(request, response));
+		return S3ServiceFixture.create(S3ServiceFixture.s3Info(), s3Client, s3AsyncClient)
+				.downloadObjectAsync(request, response, FILE_KEY);
+	}
+
+	/** 컨트롤러가 반환한 CompletableFuture 처리 (Spring MVC와 같이 DeferredResult로 비동기 처리 시작) */
+	private static void startAsync(MockHttpServletRequest request, CompletableFuture<Void> result) {
+		DeferredResult<Object> deferredResult = new DeferredResult<>();
+		result.whenComplete((value, e) -> {
+			if (e != null) {
+				deferredResult.setErrorResult(e);
+			} else {
+				deferredResult.setResult(value);
+			}
+		});
+		try {
+			WebAsyncUtils.getAsyncManager(request).startDeferredResultProcessing(deferredResult);
+		} catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	@Test
+	void asyncMissingFileIsNotFound() {
+		s3AsyncResponse.completeExceptionally(NoSuchKeyException.builder().statusCode(404).build());
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		CompletableFuture<Void> result = downloadAsync(request, response);
+		ExecutionException e = assertThrows(ExecutionException.class, result::get);
+		ApiBizException cause = assertInstanceOf(ApiBizException.class, e.getCause());
+		assertEquals(HttpStatus.NOT_FOUND, cause.getStatus());
+		// 오류 응답은 Spring MVC 예외 처리로 작성
+		assertEquals(cause, WebAsyncUtils.getAsyncManager(request).getConcurrentResult());
+	}
+
+	@Test
+	void asyncResponseWaitsForAsyncStart() {
+		s3AsyncResponse.completeExceptionally(NoSuchKeyException.builder().statusCode(404).build());
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		CompletableFuture<Void> result = downloadAsyncWithoutStart(request, response);
+		assertFalse(result.isDone());
+
+		startAsync(request, result);
+		assertTrue(result.isCompletedExceptionally());
+	}
+
+	@Test
+	void asyncTimeoutCancelsRequest() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		CompletableFuture<Void> result = downloadAsync(request, response);
+		assertFalse(result.isDone());
+		MockAsyncContext asyncContext = (MockAsyncContext) request.getAsyncContext();
+		assertEquals(S3ServiceFixture.s3Info().getAsync().getTimeout().toMillis(), asyncContext.getTimeout());
+
+		List<AsyncListener> listeners = List.copyOf(asyncContext.getListeners());
+		for (AsyncListener listener : listeners) {
+			listener.onTimeout(new AsyncEvent(asyncContext));
+		}
+		// 시간 초과 후 발생한 연결 오류는 무시
+		for (AsyncListener listener : listeners) {
+			listener.onError(new AsyncEvent(asyncContext, new IllegalStateException("closed")));
+		}
+
+		assertTrue(s3AsyncResponse.isCancelled());
+		ExecutionException e = assertThrows(ExecutionException.class, result::get);
+		assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, assertInstanceOf(ApiBizException.class, e.getCause()).getStatus());
+	}
+
+	@Test
+	void asyncCachedFileIsSentFromDisk() throws Exception {
+		s3Client.put(FILE_KEY, "text/plain", "0123456789".getBytes(StandardCharsets.UTF_8));
+		S3Info s3Info = S3ServiceFixture.s3Info();
+		s3Info.getDiskCache().setEnabled(true);
+		s3Info.getDiskCache().setDirectory(cacheDirectory.toString());
+		S3ServiceImpl service = S3ServiceFixture.create(s3Info, s3Client, s3AsyncClient);
+		assertEquals(HttpStatus.OK.value(), download(service, null).getStatus());
+
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		CompletableFuture<Void> result = service.downloadObjectAsync(request, response, FILE_KEY);
+
+		assertTrue(result.isDone());
+		assertFalse(s3AsyncResponse.isDone());
+		assertEquals("0123456789", response.getContentAsString());
+	}
+
+	@Test
+	void missingFileIsNotFound() {
+		ApiBizException e = assertThrows(ApiBizException.class, () -> download(service(false), null));
+		assertEquals(HttpStatus.NOT_FOUND, e.getStatus());
+	}
+
+	private MockHttpServletResponse listStream(int failFromPage) {
+		for (int i = 0; i < 5; i++) {
+			s3Client.put("1234567/2026/10/17/" + i + "/a.txt", "text/plain", new byte[] {1});
+		}
+		failListFromPage = failFromPage;
+
+		S3Info s3Info = S3ServiceFixture.s3Info();
+		s3Info.setPageSize(2);
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		S3ServiceFixture.create(s3Info, s3Client).listObjectStream(response, "1234567", "20261017");
+		return response;
+	}
+
+	@Test
+	void copyObjectKeepsFileName() {
+		s3Client.put(FILE_KEY, "text/plain", "0123456789".getBytes(StandardCharsets.UTF_8));
+
+		String targetKey = service(false).copyObject(FILE_KEY, "7654321", "20261018");
+
+		assertEquals("7654321/2026/10/18/0f8fad5b-d9cb-469f-a165-70867728950e/data.txt", targetKey);
+		assertEquals("0123456789", s3Client.getObjectAsBytes(req -> req.key(targetKey)).asUtf8String());
+		assertEquals("0123456789", s3Client.getObjectAsBytes(req -> req.key(FILE_KEY)).asUtf8String());
+	}
+
+	@Test
+	void moveObjectDeletesSource() {
+		s3Client.put(FILE_KEY, "text/plain", "0123456789".getBytes(StandardCharsets.UTF_8));
+
+		String targetKey = service(false).moveObject(FILE_KEY, "7654321", null);
+
+		assertEquals("7654321/2026/10/17/0f8fad5b-d9cb-469f-a165-70867728950e/data.txt", targetKey);
+		assertEquals("0123456789", s3Client.getObjectAsBytes(req -> req.key(targetKey)).asUtf8String());
+		assertThrows(NoSuchKeyException.class, () -> s3Client.getObjectAsBytes(req -> req.key(FILE_KEY)));
+	}
+
+	@Test
+	void copyMissingFileIsNotFound() {
+		ApiBizException e = assertThrows(ApiBizException.class, () -> service(false).copyObject(FILE_KEY, "7654321", null));
+		assertEquals(HttpStatus.NOT_FOUND, e.getStatus());
+	}
+
+	@Test
+	void copyPrefixKeepsSubPath() {
+		s3Client.put(FILE_KEY, "text/plain", "0123456789".getBytes(StandardCharsets.UTF_8));
+		s3Client.put("1234567/2026/09/30/a/data.txt", "text/plain", new byte[] {1});
+
+		S3CopyResultVO result = service(false).copyPrefix("1234567", "202610", "7654321", null);
+
+		assertEquals(1, result.getCopiedCount());
+		assertTrue(result.getErrorList().isEmpty());
+		assertEquals(List.of("7654321/2026/10/17/0f8fad5b-d9cb-469f-a165-70867728950e/data.txt"),
+				s3Client.listObjectsV2(req -> req.prefix("7654321/")).contents().stream().map(S3Object::key).toList());
+	}
+
+	@Test
+	void copyPrefixWithDifferentDateUnitIsRejected() {
+		ApiBizException e = assertThrows(ApiBizException.class, () -> service(false).copyPrefix("1234567", "202610", "7654321", "20261017"));
+		assertEquals(HttpStatus.BAD_REQUEST, e.getStatus());
+	}
+
+	@Test
+	void listStreamWritesAllPages() throws Exception {
+		String[] lines = listStream(0).getContentAsString().split("\n");
+		assertEquals(5, lines.length);
+		assertTrue(lines[4].contains("1234567/2026/10/17/4/a.txt"));
+	}
+
+	@Test
+	void listPageFollowsCursor() {
+		for (int i = 0; i < 5; i++) {
+			s3Client.put("1234567/2026/10/17/" + i + "/a.txt", "text/plain", new byte[] {1});
+		}
+		S3Info s3Info = S3ServiceFixture.s3Info();
+		S3ServiceImpl service = S3ServiceFixture.create(s3Info, s3Client);
+
+		List<String> keys = new ArrayList<>();
+		String cursor = null;
+		do {
+			S3PageVO page = service.listObjectPage("1234567", "20261017", cursor, 2);
+			assertTrue(page.getList().size() <= 2);
+			page.getList().forEach(s3VO -> keys.add(s3VO.getFileKey()));
+			cursor = page.getNextCursor();
+		} while (cursor != null);
+
+		assertEquals(List.of("1234567/2026/10/17/0/a.txt", "1234567/2026/10/17/1/a.txt", "1234567/2026/10/17/2/a.txt",
+				"1234567/2026/10/17/3/a.txt", "1234567/2026/10/17/4/a.txt"), keys);
+	}
+
+	/** 참조 파일 1/b.txt, 4/b.txt가 등록된 중복 제거 (스토리지 목록에는 없음) */
+	private S3ServiceImpl serviceWithRefs(S3Info s3Info) {
+		for (int i = 0; i < 5; i++) {
+			s3Client.put("1234567/2026/10/17/" + i + "/a.txt", "text/plain", new byte[] {1});
+		}
+		List<String> refKeys = List.of("1234567/2026/10/17/1/b.txt", "1234567/2026/10/17/4/b.txt");
+
+		s3Info.getDedup().setEnabled(true);
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		S3Deduplicator s3Deduplicator = new S3Deduplicator(s3Info, s3Client, null, null,
+				new S3ObjectMetadataCache(s3Info, meterRegistry, new S3ExecutorFactory()),
+				new S3PresignedUrlCache(s3Info, meterRegistry), meterRegistry) {
+			@Override
+			public List<S3VO> refObjects(String prefix, String startAfter, String endAt) {
+				return refKeys.stream()
+						.filter(key -> key.startsWith(prefix))
+						.filter(key -> startAfter == null || key.compareTo(startAfter) > 0)
+						.filter(key -> endAt == null || key.compareTo(endAt) <= 0)
+						.map(key -> S3ObjectIndexer.toS3VO(key, 1, "\"ref\"", Instant.EPOCH))
+						.toList();
+			}
+		};
+		return S3ServiceFixture.create(s3Info, s3Client, null, s3Deduplicator);
+	}
+
+	@Test
+	void listPageMergesDedupRefs() {
+		S3ServiceImpl service = serviceWithRefs(S3ServiceFixture.s3Info());
+
+		List<String> keys = new ArrayList<>();
+		String cursor = null;
+		do {
+			S3PageVO page = service.listObjectPage("1234567", "20261017", cursor, 2);
+			assertTrue(page.getList().size() <= 2);
+			page.getList().forEach(s3VO -> keys.add(s3VO.getFileKey()));
+			cursor = page.getNextCursor();
+		} while (cursor != null);
+
+		assertEquals(MERGED_KEYS, keys);
+	}
+
+	@Test
+	void listStreamMergesDedupRefs() throws Exception {
+		S3Info s3Info = S3ServiceFixture.s3Info();
+		s3Info.setPageSize(2);
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		serviceWithRefs(s3Info).listObjectStream(response, "1234567", "20261017");
+
+		ObjectMapper objectMapper = new ObjectMapper();
+		List<String> keys = new ArrayList<>();
+		for (String line : response.getContentAsString().split("\n")) {
+			keys.add(objectMapper.readTree(line).path("fileKey").asText());
+		}
+		assertEquals(MERGED_KEYS, keys);
+	}
+
+	@Test
+	void listObjectMergesDedupRefs() {
+		List<String> keys = serviceWithRefs(S3ServiceFixture.s3Info()).listObject("1234567", "20261017").stream()
+				.map(S3VO::getFileKey)
+				.toList();
+
+		assertEquals(MERGED_KEYS, keys);
+	}
+
+	@Test
+	void listStreamErrorBeforeFirstPageIsThrown() {
+		ApiBizException e = assertThrows(ApiBizException.class, () -> listStream(1));
+		assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, e.getStatus());
+	}
+
+	@Test
+	void listStreamErrorAfterCommitEndsWithErrorRecord() throws Exception {
+		MockHttpServletResponse response = listStream(2);
+
+		assertTrue(response.isCommitted());
+		assertEquals(HttpStatus.OK.value(), response.getStatus());
+		String[] lines = response.getContentAsString().split("\n");
+		assertEquals(3, lines.length);
+		assertEquals("{\"error\":\"목록 조회 실패\"}", lines[2]);
+	}
+}
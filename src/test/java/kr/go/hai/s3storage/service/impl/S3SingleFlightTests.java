@@ -0,0 +1,172 @@
+package kr.go.hai.s3storage.service.impl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.go.hai.config.info.S3Info;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.sync.ResponseTransformer;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class S3SingleFlightTests {
+
+	private static final String FILE_KEY = "1234567/2026/10/17/0f8fad5b-d9cb-469f-a165-70867728950e/data.bin";
+
+	/** S3 다운로드 요청 (Range 포함) */
+	private final List<String> requests = new ArrayList<>();
+
+	private final InMemoryS3Client s3Client = new InMemoryS3Client() {
+		@Override
+		public <ReturnT> ReturnT getObject(GetObjectRequest request, ResponseTransformer<GetObjectResponse, ReturnT> transformer) {
+			synchronized (requests) {
+				requests.add(request.range() == null ? "full" : request.range());
+			}
+			return super.getObject(request, transformer);
+		}
+	};
+
+	private final S3Info s3Info = new S3Info();
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final S3Hedger s3Hedger = new S3Hedger(s3Info, s3Client, meterRegistry, new S3ExecutorFactory());
+
+	private S3SingleFlight singleFlight(DataSize bufferSize) {
+		s3Info.getSingleFlight().setEnabled(true);
+		s3Info.getSingleFlight().setBufferSize(bufferSize);
+		return new S3SingleFlight(s3Info, s3Client, s3Hedger, meterRegistry);
+	}
+
+	private static byte[] data(int size) {
+		byte[] data = new byte[size];
+		for (int i = 0; i < size; i++) {
+			data[i] = (byte) i;
+		}
+		return data;
+	}
+
+	private static byte[] readAll(InputStream in, int chunkSize) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		byte[] buffer = new byte[chunkSize];
+		int n;
+		while ((n = in.read(buffer)) != -1) {
+			out.write(buffer, 0, n);
+		}
+		in.close();
+		return out.toByteArray();
+	}
+
+	private double count(String role) {
+		return meterRegistry.get("s3.singleflight").tag("type", "download").tag("role", role).counter().count();
+	}
+
+	@AfterEach
+	void tearDown() {
+		s3Hedger.shutdown();
+	}
+
+	@Test
+	void concurrentLoadsShareResult() throws Exception {
+		S3SingleFlight singleFlight = singleFlight(DataSize.ofMegabytes(1));
+		CountDownLatch loading = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicInteger loads = new AtomicInteger();
+		Object value = new Object();
+
+		CompletableFuture<Object> leader = CompletableFuture.supplyAsync(() -> singleFlight.load("a", () -> {
+			loads.incrementAndGet();
+			loading.countDown();
+			try {
+				release.await(5, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return value;
+		}));
+		assertTrue(loading.await(5, TimeUnit.SECONDS));
+		CompletableFuture<Object> follower = CompletableFuture.supplyAsync(() -> singleFlight.load("a", () -> {
+			loads.incrementAndGet();
+			return new Object();
+		}));
+		while (meterRegistry.get("s3.singleflight").tag("type", "head").tag("role", "follower").counter().count() == 0) {
+			Thread.sleep(1);
+		}
+		release.countDown();
+
+		assertSame(value, leader.get());
+		assertSame(value, follower.get());
+		assertEquals(1, loads.get());
+	}
+
+	@Test
+	void failedLoadIsNotReused() {
+		S3SingleFlight singleFlight = singleFlight(DataSize.ofMegabytes(1));
+
+		assertThrows(IllegalStateException.class, () -> singleFlight.load("a", () -> {
+			throw new IllegalStateException("fail");
+		}));
+		assertEquals("ok", singleFlight.load("a", () -> "ok"));
+	}
+
+	@Test
+	void followerReadsSharedBuffer() throws Exception {
+		byte[] data = data(1000);
+		s3Client.put(FILE_KEY, "application/octet-stream", data);
+		S3SingleFlight singleFlight = singleFlight(DataSize.ofMegabytes(1));
+		GetObjectRequest request = GetObjectRequest.builder().key(FILE_KEY).build();
+
+		ResponseInputStream<GetObjectResponse> leader = singleFlight.getObject(request);
+		ResponseInputStream<GetObjectResponse> follower = singleFlight.getObject(request);
+
+		assertArrayEquals(data, readAll(leader, 100));
+		assertArrayEquals(data, readAll(follower, 64));
+		assertEquals(List.of("full"), requests);
+		assertEquals(1, count("follower"));
+	}
+
+	@Test
+	void evictedFollowerFallsBackToRange() throws Exception {
+		byte[] data = data(1000);
+		s3Client.put(FILE_KEY, "application/octet-stream", data);
+		S3SingleFlight singleFlight = singleFlight(DataSize.ofBytes(100));
+		GetObjectRequest request = GetObjectRequest.builder().key(FILE_KEY).build();
+
+		ResponseInputStream<GetObjectResponse> leader = singleFlight.getObject(request);
+		ResponseInputStream<GetObjectResponse> follower = singleFlight.getObject(request);
+
+		// follower가 읽기 전에 leader가 버퍼 크기 이상 진행
+		assertArrayEquals(data, readAll(leader, 50));
+		assertArrayEquals(data, readAll(follower, 64));
+		assertEquals(List.of("full", "bytes=0-"), requests);
+		assertEquals(1, count("fallback"));
+	}
+
+	@Test
+	void rangeRequestIsNotShared() throws Exception {
+		s3Client.put(FILE_KEY, "application/octet-stream", data(1000));
+		S3SingleFlight singleFlight = singleFlight(DataSize.ofMegabytes(1));
+
+		ResponseInputStream<GetObjectResponse> leader = singleFlight.getObject(GetObjectRequest.builder().key(FILE_KEY).build());
+		ResponseInputStream<GetObjectResponse> ranged = singleFlight.getObject(GetObjectRequest.builder().key(FILE_KEY).range("bytes=0-9").build());
+
+		assertEquals(10, readAll(ranged, 64).length);
+		assertEquals(1000, readAll(leader, 64).length);
+		assertEquals(List.of("full", "bytes=0-9"), requests);
+	}
+}
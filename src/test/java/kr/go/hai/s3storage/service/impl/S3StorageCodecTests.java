@@ -0,0 +1,70 @@
+package kr.go.hai.s3storage.service.impl;
+
+import kr.go.hai.config.info.S3Info;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class S3StorageCodecTests {
+
+	private final S3StorageCodec codec = new S3StorageCodec(enabled());
+
+	private static S3Info enabled() {
+		S3Info s3Info = new S3Info();
+		s3Info.getCompression().setEnabled(true);
+		return s3Info;
+	}
+
+	@Test
+	void encodedStreamIsGzip() throws IOException {
+		byte[] data = "id,name,value\n".repeat(10_000).getBytes(StandardCharsets.UTF_8);
+
+		byte[] encoded;
+		try (InputStream in = codec.encode(new ByteArrayInputStream(data))) {
+			encoded = in.readAllBytes();
+		}
+
+		assertTrue(encoded.length < data.length);
+		assertArrayEquals(data, new GZIPInputStream(new ByteArrayInputStream(encoded)).readAllBytes());
+		assertArrayEquals(data, S3StorageCodec.decode(new ByteArrayInputStream(encoded)).readAllBytes());
+	}
+
+	@Test
+	void emptyStreamIsGzip() throws IOException {
+		byte[] encoded = codec.encode(new ByteArrayInputStream(new byte[0])).readAllBytes();
+		assertArrayEquals(new byte[0], S3StorageCodec.decode(new ByteArrayInputStream(encoded)).readAllBytes());
+	}
+
+	@Test
+	void textIsCompressible() {
+		assertTrue(codec.isCompressible("data.csv", "application/octet-stream", 10_000));
+		assertTrue(codec.isCompressible("report", "application/json", -1));
+		assertFalse(codec.isCompressible("data.csv", "text/csv", 100));
+		assertFalse(codec.isCompressible("photo.jpg", "image/jpeg", 10_000));
+		assertFalse(new S3StorageCodec(new S3Info()).isCompressible("data.csv", "text/csv", 10_000));
+	}
+
+	@Test
+	void acceptEncoding() {
+		assertTrue(S3StorageCodec.isAccepted(request("gzip, deflate, br")));
+		assertTrue(S3StorageCodec.isAccepted(request("br;q=1.0, *;q=0.5")));
+		assertFalse(S3StorageCodec.isAccepted(request("gzip;q=0")));
+		assertFalse(S3StorageCodec.isAccepted(request("identity")));
+		assertFalse(S3StorageCodec.isAccepted(new MockHttpServletRequest()));
+	}
+
+	private static MockHttpServletRequest request(String acceptEncoding) {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.addHeader("Accept-Encoding", acceptEncoding);
+		return request;
+	}
+}
@@ -0,0 +1,32 @@
+package kr.go.hai.s3storage.service.impl;
+
+import kr.go.hai.config.info.S3Info;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class S3ZipCompressionPolicyTests {
+
+	private final S3ZipCompressionPolicy policy = new S3ZipCompressionPolicy(new S3Info());
+
+	@Test
+	void compressedContentTypeIsStored() {
+		assertTrue(policy.isStored("photo", "image/jpeg"));
+		assertTrue(policy.isStored("report", "application/pdf"));
+		assertTrue(policy.isStored("table", "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"));
+	}
+
+	@Test
+	void compressedExtensionIsStored() {
+		assertTrue(policy.isStored("movie.MP4", null));
+		assertTrue(policy.isStored("archive.zip", "application/octet-stream"));
+	}
+
+	@Test
+	void textIsDeflated() {
+		assertFalse(policy.isStored("data.csv", "text/csv"));
+		assertFalse(policy.isStored("README", null));
+		assertFalse(policy.isStored("dot.", null));
+	}
+}
@@ -0,0 +1,110 @@
+package kr.go.hai.s3storage.service.impl;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.CancellationException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ServletOutputSubscriberTests {
+
+	/** isReady로 출력 가능 여부를 제어하는 출력 스트림 */
+	private static final class TestOutputStream extends ServletOutputStream {
+		private final ByteArrayOutputStream written = new ByteArrayOutputStream();
+		private boolean ready = true;
+		private WriteListener listener;
+
+		@Override
+		public boolean isReady() {
+			return ready;
+		}
+
+		@Override
+		public void setWriteListener(WriteListener writeListener) {
+			this.listener = writeListener;
+		}
+
+		@Override
+		public void write(int b) {
+			written.write(b);
+		}
+
+		void writable() throws IOException {
+			ready = true;
+			listener.onWritePossible();
+		}
+	}
+
+	/** 요청/취소 횟수를 기록하는 구독 */
+	private static final class TestSubscription implements Subscription {
+		private int requested;
+		private boolean cancelled;
+
+		@Override
+		public void request(long n) {
+			requested += (int) n;
+		}
+
+		@Override
+		public void cancel() {
+			cancelled = true;
+		}
+	}
+
+	@Test
+	void requestsOnlyWhenWritable() throws IOException {
+		TestOutputStream out = new TestOutputStream();
+		TestSubscription subscription = new TestSubscription();
+		ServletOutputSubscriber subscriber = new ServletOutputSubscriber(out);
+
+		subscriber.onSubscribe(subscription);
+		out.writable();
+		assertEquals(1, subscription.requested);
+
+		out.ready = false;
+		subscriber.onNext(ByteBuffer.wrap("ab".getBytes()));
+		assertEquals(1, subscription.requested);
+
+		out.writable();
+		assertEquals(2, subscription.requested);
+		subscriber.onNext(ByteBuffer.wrap("cd".getBytes()));
+		subscriber.onComplete();
+
+		assertTrue(subscriber.result().isDone());
+		assertEquals("abcd", out.written.toString());
+	}
+
+	@Test
+	void cancelStopsUpstream() throws IOException {
+		TestOutputStream out = new TestOutputStream();
+		TestSubscription subscription = new TestSubscription();
+		ServletOutputSubscriber subscriber = new ServletOutputSubscriber(out);
+
+		subscriber.onSubscribe(subscription);
+		out.writable();
+		subscriber.cancel(new CancellationException());
+
+		assertTrue(subscription.cancelled);
+		assertTrue(subscriber.result().isCompletedExceptionally());
+	}
+
+	@Test
+	void cancelBeforeSubscribe() {
+		TestSubscription subscription = new TestSubscription();
+		ServletOutputSubscriber subscriber = new ServletOutputSubscriber(null);
+
+		subscriber.cancel(new CancellationException());
+		subscriber.onSubscribe(subscription);
+
+		assertTrue(subscription.cancelled);
+		assertFalse(subscription.requested > 0);
+	}
+}
@@ -0,0 +1,317 @@
+package kr.go.hai.s3storage.service.impl;
+
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.core.sync.ResponseTransformer;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 메모리 S3Client (단위 테스트, 성능 측정, 부하 테스트 공용)
+ * 서비스가 사용하는 기능(단일/Multipart 업로드와 미완료 업로드 목록, 조회, Range/조건부 다운로드, 목록, 복사, 삭제)만 구현한다.
+ *
+ * @author AX사업팀
+ * @version 1.0
+ * @since 2026.10.17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *   수정일        수정자            수정내용
+ * ----------    --------    ---------------------------
+ * 2026.10.17    양정숙        최초 생성
+ * </pre>
+ */
+public class InMemoryS3Client implements S3Client {
+
+    private final ConcurrentNavigableMap<String, StoredObject> objects = new ConcurrentSkipListMap<>();
+    private final Map<String, SortedMap<Integer, byte[]>> uploads = new ConcurrentHashMap<>();
+    private final Map<String, CreateMultipartUploadRequest> uploadRequests = new ConcurrentHashMap<>();
+    private final Map<String, Instant> uploadInitiated = new ConcurrentHashMap<>();
+
+    /**
+     * 파일 저장 (측정 데이터 준비)
+     * @param key 파일 키
+     * @param contentType 파일 유형
+     * @param data 파일 데이터
+     */
+    public void put(String key, String contentType, byte[] data) {
+        put(key, contentType, null, Collections.emptyMap(), data);
+    }
+
+    private void put(String key, String contentType, String contentEncoding, Map<String, String> metadata, byte[] data) {
+        objects.put(key, new StoredObject(data, contentType, contentEncoding, metadata,
+                "\"" + Integer.toHexString(Arrays.hashCode(data)) + "\"", Instant.now()));
+    }
+
+    @Override
+    public PutObjectResponse putObject(PutObjectRequest request, RequestBody requestBody) {
+        byte[] data = readAll(requestBody);
+        put(request.key(), request.contentType(), request.contentEncoding(), request.metadata(), data);
+        return PutObjectResponse.builder().eTag(objects.get(request.key()).eTag()).build();
+    }
+
+    @Override
+    public <ReturnT> ReturnT getObject(GetObjectRequest request, ResponseTransformer<GetObjectResponse, ReturnT> responseTransformer) {
+        StoredObject object = objects.get(request.key());
+        if (object == null) {
+            throw NoSuchKeyException.builder()
+                    .statusCode(404)
+                    .awsErrorDetails(AwsErrorDetails.builder().errorCode("NoSuchKey").build())
+                    .build();
+        }
+
+        if ((request.ifMatch() != null && !request.ifMatch().equals(object.eTag()))
+                || (request.ifMatch() == null && request.ifUnmodifiedSince() != null
+                && object.lastModified().isAfter(request.ifUnmodifiedSince()))) {
+            throw error(412, "PreconditionFailed", null);
+        }
+        if ((request.ifNoneMatch() != null && request.ifNoneMatch().equals(object.eTag()))
+                || (request.ifNoneMatch() == null && request.ifModifiedSince() != null
+                && !object.lastModified().isAfter(request.ifModifiedSince()))) {
+            throw error(304, "NotModified", object.eTag());
+        }
+
+        int start = 0;
+        int end = object.data().length - 1;
+        String contentRange = null;
+        if (request.range() != null && request.range().startsWith("bytes=")) {
+            String[] range = request.range().substring("bytes=".length()).split("-", 2);
+            start = range[0].isEmpty() ? Math.max(0, end + 1 - Integer.parseInt(range[1])) : Integer.parseInt(range[0]);
+            end = range[0].isEmpty() || range[1].isEmpty() ? end : Math.min(end, Integer.parseInt(range[1]));
+            if (start > end) {
+                throw error(416, "InvalidRange", null);
+            }
+            contentRange = "bytes " + start + "-" + end + "/" + object.data().length;
+        }
+
+        GetObjectResponse response = GetObjectResponse.builder()
+                .contentLength((long) (end - start + 1))
+                .contentType(object.contentType())
+                .contentEncoding(object.contentEncoding())
+                .metadata(object.metadata())
+                .contentRange(contentRange)
+                .eTag(object.eTag())
+                .lastModified(object.lastModified())
+                .build();
+
+        try {
+            return responseTransformer.transform(response,
+                    AbortableInputStream.create(new ByteArrayInputStream(object.data(), start, end - start + 1)));
+        } catch (Exception e) {
+            throw SdkClientException.create("응답 변환 실패", e);
+        }
+    }
+
+    @Override
+    public HeadObjectResponse headObject(HeadObjectRequest request) {
+        StoredObject object = objects.get(request.key());
+        if (object == null) {
+            throw (S3Exception) S3Exception.builder().statusCode(404).build();
+        }
+        return HeadObjectResponse.builder()
+                .contentLength((long) object.data().length)
+                .contentType(object.contentType())
+                .contentEncoding(object.contentEncoding())
+                .metadata(object.metadata())
+                .eTag(object.eTag())
+                .lastModified(object.lastModified())
+                .build();
+    }
+
+    @Override
+    public ListObjectsV2Response listObjectsV2(ListObjectsV2Request request) {
+        String prefix = request.prefix() == null ? "" : request.prefix();
+        int maxKeys = request.maxKeys() == null ? 1000 : request.maxKeys();
+
+        NavigableMap<String, StoredObject> range;
+        if (request.continuationToken() != null) {
+            range = objects.tailMap(request.continuationToken(), false);
+        } else if (request.startAfter() != null && request.startAfter().compareTo(prefix) >= 0) {
+            range = objects.tailMap(request.startAfter(), false);
+        } else {
+            range = objects.tailMap(prefix, true);
+        }
+
+        List<S3Object> contents = new ArrayList<>();
+        Set<String> commonPrefixes = new LinkedHashSet<>();
+        String lastKey = null;
+        boolean truncated = false;
+
+        for (Map.Entry<String, StoredObject> entry : range.entrySet()) {
+            String key = entry.getKey();
+            if (!key.startsWith(prefix)) {
+                break;
+            }
+            if (contents.size() + commonPrefixes.size() >= maxKeys) {
+                truncated = true;
+                break;
+            }
+
+            int index = request.delimiter() == null ? -1 : key.indexOf(request.delimiter(), prefix.length());
+            if (index >= 0) {
+                commonPrefixes.add(key.substring(0, index + request.delimiter().length()));
+            } else {
+                StoredObject object = entry.getValue();
+                contents.add(S3Object.builder()
+                        .key(key)
+                        .size((long) object.data().length)
+                        .eTag(object.eTag())
+                        .lastModified(object.lastModified())
+                        .build());
+            }
+            lastKey = key;
+        }
+
+        return ListObjectsV2Response.builder()
+                .contents(contents)
+                .commonPrefixes(commonPrefixes.stream().map(p -> CommonPrefix.builder().prefix(p).build()).toList())
+                .isTruncated(truncated)
+                .nextContinuationToken(truncated ? lastKey : null)
+                .keyCount(contents.size())
+                .build();
+    }
+
+    @Override
+    public DeleteObjectResponse deleteObject(DeleteObjectRequest request) {
+        objects.remove(request.key());
+        return DeleteObjectResponse.builder().build();
+    }
+
+    @Override
+    public CopyObjectResponse copyObject(CopyObjectRequest request) {
+        StoredObject source = objects.get(request.sourceKey());
+        if (source == null) {
+            throw (S3Exception) S3Exception.builder().statusCode(404).build();
+        }
+        if (request.copySourceIfMatch() != null && !request.copySourceIfMatch().equals(source.eTag())) {
+            throw error(412, "PreconditionFailed", null);
+        }
+        put(request.destinationKey(), source.contentType(), source.contentEncoding(), source.metadata(), source.data());
+        return CopyObjectResponse.builder()
+                .copyObjectResult(CopyObjectResult.builder().eTag(source.eTag()).build())
+                .build();
+    }
+
+    @Override
+    public DeleteObjectsResponse deleteObjects(DeleteObjectsRequest request) {
+        request.delete().objects().forEach(identifier -> objects.remove(identifier.key()));
+        return DeleteObjectsResponse.builder().build();
+    }
+
+    @Override
+    public CreateMultipartUploadResponse createMultipartUpload(CreateMultipartUploadRequest request) {
+        String uploadId = UUID.randomUUID().toString();
+        uploads.put(uploadId, Collections.synchronizedSortedMap(new TreeMap<>()));
+        uploadRequests.put(uploadId, request);
+        uploadInitiated.put(uploadId, Instant.now());
+        return CreateMultipartUploadResponse.builder().uploadId(uploadId).build();
+    }
+
+    @Override
+    public UploadPartResponse uploadPart(UploadPartRequest request, RequestBody requestBody) {
+        uploads.get(request.uploadId()).put(request.partNumber(), readAll(requestBody));
+        return UploadPartResponse.builder().eTag("\"" + request.partNumber() + "\"").build();
+    }
+
+    @Override
+    public UploadPartCopyResponse uploadPartCopy(UploadPartCopyRequest request) {
+        StoredObject source = objects.get(request.sourceKey());
+        if (source == null) {
+            throw (S3Exception) S3Exception.builder().statusCode(404).build();
+        }
+        if (request.copySourceIfMatch() != null && !request.copySourceIfMatch().equals(source.eTag())) {
+            throw error(412, "PreconditionFailed", null);
+        }
+        // bytes=start-end
+        String[] range = request.copySourceRange().substring("bytes=".length()).split("-");
+        byte[] part = Arrays.copyOfRange(source.data(), Integer.parseInt(range[0]), Integer.parseInt(range[1]) + 1);
+        uploads.get(request.uploadId()).put(request.partNumber(), part);
+        return UploadPartCopyResponse.builder()
+                .copyPartResult(CopyPartResult.builder().eTag("\"" + request.partNumber() + "\"").build())
+                .build();
+    }
+
+    @Override
+    public CompleteMultipartUploadResponse completeMultipartUpload(CompleteMultipartUploadRequest request) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        uploads.remove(request.uploadId()).values().forEach(out::writeBytes);
+        CreateMultipartUploadRequest upload = uploadRequests.remove(request.uploadId());
+        uploadInitiated.remove(request.uploadId());
+        put(request.key(), upload.contentType(), upload.contentEncoding(), upload.metadata(), out.toByteArray());
+        return CompleteMultipartUploadResponse.builder().eTag(objects.get(request.key()).eTag()).build();
+    }
+
+    @Override
+    public AbortMultipartUploadResponse abortMultipartUpload(AbortMultipartUploadRequest request) {
+        uploads.remove(request.uploadId());
+        uploadRequests.remove(request.uploadId());
+        uploadInitiated.remove(request.uploadId());
+        return AbortMultipartUploadResponse.builder().build();
+    }
+
+    @Override
+    public ListMultipartUploadsResponse listMultipartUploads(ListMultipartUploadsRequest request) {
+        String prefix = request.prefix() != null ? request.prefix() : "";
+        List<MultipartUpload> result = new ArrayList<>();
+        uploadRequests.forEach((uploadId, upload) -> {
+            if (upload.key().startsWith(prefix)) {
+                result.add(MultipartUpload.builder()
+                        .key(upload.key())
+                        .uploadId(uploadId)
+                        .initiated(uploadInitiated.get(uploadId))
+                        .build());
+            }
+        });
+        return ListMultipartUploadsResponse.builder().uploads(result).isTruncated(false).build();
+    }
+
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public void close() {
+        objects.clear();
+        uploads.clear();
+        uploadRequests.clear();
+        uploadInitiated.clear();
+    }
+
+    private S3Exception error(int statusCode, String errorCode, String eTag) {
+        SdkHttpResponse.Builder httpResponse = SdkHttpResponse.builder().statusCode(statusCode);
+        if (eTag != null) {
+            httpResponse.putHeader("ETag", eTag);
+        }
+        return (S3Exception) S3Exception.builder()
+                .statusCode(statusCode)
+                .awsErrorDetails(AwsErrorDetails.builder().errorCode(errorCode).sdkHttpResponse(httpResponse.build()).build())
+                .build();
+    }
+
+    private byte[] readAll(RequestBody requestBody) {
+        try (InputStream in = requestBody.contentStreamProvider().newStream()) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw SdkClientException.create("요청 본문 읽기 실패", e);
+        }
+    }
+
+    private record StoredObject(byte[] data, String contentType, String contentEncoding, Map<String, String> metadata,
+                                String eTag, Instant lastModified) {
+    }
+}
@@ -0,0 +1,127 @@
+package kr.go.hai.s3storage.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.go.hai.config.info.S3Info;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.net.URI;
+
+/**
+ * S3ServiceImpl 구성 (Spring Context 없이 메모리 S3Client 사용, 단위 테스트와 성능 측정 공용)
+ *
+ * @author AX사업팀
+ * @version 1.0
+ * @since 2026.10.17
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *   수정일        수정자            수정내용
+ * ----------    --------    ---------------------------
+ * 2026.10.17    양정숙        최초 생성
+ * </pre>
+ */
+final class S3ServiceFixture {
+
+    private S3ServiceFixture() {
+    }
+
+    /**
+     * 기본 설정의 S3Info (색인, 병렬 목록 조회 미사용)
+     * @return S3Info
+     */
+    static S3Info s3Info() {
+        S3Info s3Info = new S3Info();
+        s3Info.setAccessKey("benchmark");
+        s3Info.setSecretKey("benchmark");
+        s3Info.setEndpoint("http://localhost:9000");
+        s3Info.setRegion("us-west-2");
+        s3Info.setBucket("benchmark");
+        s3Info.setPresignedTime(10);
+        s3Info.setPageSize(1000);
+        s3Info.getList().setFanOutEnabled(false);
+        return s3Info;
+    }
+
+    /**
+     * 메모리 S3Client를 사용하는 S3ServiceImpl 생성
+     * @param s3Info 설정
+     * @param s3Client 메모리 S3Client
+     * @return S3ServiceImpl
+     */
+    static S3ServiceImpl create(S3Info s3Info, InMemoryS3Client s3Client) {
+        return create(s3Info, s3Client, null);
+    }
+
+    /**
+     * 메모리 S3Client와 비동기 S3Client를 사용하는 S3ServiceImpl 생성
+     * @param s3Info 설정
+     * @param s3Client 메모리 S3Client
+     * @param s3AsyncClient 비동기 S3Client (없으면 null, 비동기 다운로드는 동기 방식으로 처리)
+     * @return S3ServiceImpl
+     */
+    static S3ServiceImpl create(S3Info s3Info, InMemoryS3Client s3Client, S3AsyncClient s3AsyncClient) {
+        return create(s3Info, s3Client, s3AsyncClient, null);
+    }
+
+    /**
+     * 메모리 S3Client와 중복 제거 구현을 지정한 S3ServiceImpl 생성
+     * @param s3Info 설정
+     * @param s3Client 메모리 S3Client
+     * @param s3AsyncClient 비동기 S3Client (없으면 null, 비동기 다운로드는 동기 방식으로 처리)
+     * @param s3Deduplicator 중복 제거 (없으면 null, DB 없이 생성한 기본 구현)
+     * @return S3ServiceImpl
+     */
+    static S3ServiceImpl create(S3Info s3Info, InMemoryS3Client s3Client, S3AsyncClient s3AsyncClient,
+                                S3Deduplicator s3Deduplicator) {
+        DefaultListableBeanFactory asyncClients = new DefaultListableBeanFactory();
+        if (s3AsyncClient != null) {
+            asyncClients.registerSingleton("s3AsyncClient", s3AsyncClient);
+        }
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        S3ExecutorFactory executorFactory = new S3ExecutorFactory();
+        S3Hedger s3Hedger = new S3Hedger(s3Info, s3Client, meterRegistry, executorFactory);
+        S3ObjectMetadataCache metadataCache = new S3ObjectMetadataCache(s3Info, meterRegistry, executorFactory);
+        S3PresignedUrlCache presignedUrlCache = new S3PresignedUrlCache(s3Info, meterRegistry);
+
+        S3Presigner s3Presigner = S3Presigner.builder()
+                .region(Region.of(s3Info.getRegion()))
+                .endpointOverride(URI.create(s3Info.getEndpoint()))
+                .credentialsProvider(StaticCredentialsProvider.create(
+                        AwsBasicCredentials.create(s3Info.getAccessKey(), s3Info.getSecretKey())))
+                .build();
+
+        return new S3ServiceImpl(
+                s3Info,
+                s3Client,
+                s3Presigner,
+                null,
+                new S3MultipartUploader(s3Info, s3Client, executorFactory),
+                new S3ZipWriter(s3Info, s3Client, new S3ZipCompressionPolicy(s3Info),
+                        new DefaultListableBeanFactory().getBeanProvider(S3AsyncClient.class), executorFactory),
+                metadataCache,
+                presignedUrlCache,
+                new S3ObjectIndexer(s3Info, s3Client, null),
+                new S3PrefixLister(s3Info, s3Client, executorFactory),
+                new S3BatchDeleter(s3Info, s3Client, executorFactory),
+                new ObjectMapper(),
+                asyncClients.getBeanProvider(S3AsyncClient.class),
+                new S3Metrics(meterRegistry),
+                new S3DiskCache(s3Info, meterRegistry),
+                new S3SingleFlight(s3Info, s3Client, s3Hedger, meterRegistry),
+                s3Deduplicator != null ? s3Deduplicator
+                        : new S3Deduplicator(s3Info, s3Client, null, null, metadataCache, presignedUrlCache, meterRegistry),
+                new S3StorageCodec(s3Info),
+                new S3BatchUploader(s3Info, executorFactory),
+                new S3ObjectCopier(s3Info, s3Client, executorFactory),
+                s3Hedger
+        );
+    }
+}